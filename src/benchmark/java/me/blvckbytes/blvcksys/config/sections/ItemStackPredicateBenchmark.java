@@ -0,0 +1,98 @@
+package me.blvckbytes.blvcksys.config.sections;
+
+import me.blvckbytes.blvcksys.config.ConfigValue;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Compares matching items against a section by re-parsing it's config values on
+  every call, as describesItem did before, against the compiled item stack predicate.
+
+  Requesting an item's meta requires the item factory of a running server, so only
+  sections without meta properties can be matched here. These type and amount checks
+  are what most events of quest actions fail on.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemStackPredicateBenchmark {
+
+  private ItemStackSection section;
+  private ItemStack[] items;
+
+  @Setup
+  public void setup() throws Exception {
+    section = new ItemStackSection();
+    setField(section, "type", ConfigValue.immediate("DIAMOND"));
+    setField(section, "amount", 16);
+
+    items = new ItemStack[] {
+      new ItemStack(Material.DIAMOND, 16),
+      new ItemStack(Material.DIAMOND, 3),
+      new ItemStack(Material.STONE, 16),
+      new ItemStack(Material.OAK_LOG, 64),
+    };
+
+    // Compile ahead of time, so that the first iteration isn't skewed
+    section.describesItem(items[0]);
+  }
+
+  //=========================================================================//
+  //                               Benchmarks                                //
+  //=========================================================================//
+
+  @Benchmark
+  public void parsedPerCall(Blackhole bh) {
+    for (ItemStack item : items)
+      bh.consume(legacyDescribesItem(section, item));
+  }
+
+  @Benchmark
+  public void compiledPredicate(Blackhole bh) {
+    for (ItemStack item : items)
+      bh.consume(section.describesItem(item));
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * The type and amount checks of describesItem before sections were compiled
+   * @param section Section to match against
+   * @param item Target item
+   */
+  private static boolean legacyDescribesItem(ItemStackSection section, ItemStack item) {
+    if (item == null)
+      return false;
+
+    Material m = section.getType() == null ? null : section.getType().asScalar(Material.class);
+    if (m != null && item.getType() != m)
+      return false;
+
+    return section.getAmount() == null || item.getAmount() == section.getAmount();
+  }
+
+  /**
+   * Set a field of a section, as the config reader does when parsing
+   * @param section Target section
+   * @param name Name of the field
+   * @param value Value to set
+   */
+  private static void setField(ItemStackSection section, String name, Object value) throws Exception {
+    Field f = ItemStackSection.class.getDeclaredField(name);
+    f.setAccessible(true);
+    f.set(section, value);
+  }
+}
@@ -0,0 +1,100 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import me.blvckbytes.blvcksys.persistence.models.CrateItemModel;
+import me.blvckbytes.blvcksys.persistence.models.CrateModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Measures drawing items from a crate's alias table, one by one as well as in bulk.
+
+  Before measuring, the distribution of a large number of bulk draws is checked
+  against the configured item probabilities. A frequency which deviates by more
+  than five standard deviations fails the trial, so that a broken alias table
+  never produces a benchmark result.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachedCrateBenchmark {
+
+  // Item probabilities in percent, which don't need to add up to 100
+  private static final double[] PROBABILITIES = { 40, 25, 15, 10, 6.5, 2.5, 0.75, 0.25 };
+
+  // Number of draws the distribution is checked with
+  private static final int CHECKED_DRAWS = 2_000_000;
+
+  // Maximum deviation of a frequency from it's probability, in standard deviations
+  private static final double MAX_SIGMAS = 5;
+
+  @Param({ "1", "64" })
+  private int n;
+
+  private CachedCrate crate;
+
+  @Setup
+  public void setup() {
+    List<CrateItemModel> items = new ArrayList<>();
+
+    for (double probability : PROBABILITIES)
+      items.add(new CrateItemModel(null, null, null, probability));
+
+    crate = new CachedCrate(new CrateModel(null, "benchmark", null, null, null), items);
+    checkDistribution(items);
+  }
+
+  //=========================================================================//
+  //                               Benchmarks                                //
+  //=========================================================================//
+
+  @Benchmark
+  public List<CrateItemModel> drawSingle() {
+    List<CrateItemModel> res = new ArrayList<>(n);
+
+    for (int i = 0; i < n; i++)
+      crate.drawItem().ifPresent(res::add);
+
+    return res;
+  }
+
+  @Benchmark
+  public List<CrateItemModel> drawBulk() {
+    return crate.drawItems(n);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Check that the frequencies of drawn items match their probabilities
+   * @param items Items of the crate, in the order of their probabilities
+   */
+  private void checkDistribution(List<CrateItemModel> items) {
+    double total = Arrays.stream(PROBABILITIES).sum();
+
+    Map<CrateItemModel, Integer> counts = new IdentityHashMap<>();
+    for (CrateItemModel item : crate.drawItems(CHECKED_DRAWS))
+      counts.merge(item, 1, Integer::sum);
+
+    for (int i = 0; i < items.size(); i++) {
+      double expected = PROBABILITIES[i] / total;
+      double actual = counts.getOrDefault(items.get(i), 0) / (double) CHECKED_DRAWS;
+      double sigma = Math.sqrt(expected * (1 - expected) / CHECKED_DRAWS);
+
+      if (Math.abs(actual - expected) > MAX_SIGMAS * sigma) {
+        throw new IllegalStateException(
+          "Item " + i + " has been drawn with a frequency of " + actual + ", expected " + expected
+        );
+      }
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package me.blvckbytes.blvcksys.util;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketDataSerializer;
+import net.minecraft.network.protocol.game.PacketPlayOutCloseWindow;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Compares building a packet through reflection, as MCReflect's createPacket and
+  setFieldByType did before, against the method handles of the packet factory.
+
+  The reflective path is measured twice: once with the per-call member lookups it
+  used to perform and once with cached members, so that the gain of the handles
+  themselves can be told apart from the gain of resolving members only once.
+
+  MCReflect requires a running server to determine the version, so fields are
+  resolved directly here and handed to the factory's field record.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketFactoryBenchmark {
+
+  private static final Class<?> PACKET = PacketPlayOutCloseWindow.class;
+
+  private Constructor<?> constructor;
+  private Field windowId;
+
+  private PacketFactory factory;
+  private PacketFactory.PacketField windowIdField;
+
+  private int nextId;
+
+  @Setup
+  public void setup() throws Exception {
+    constructor = findConstructor();
+    windowId = findIntField();
+
+    factory = new PacketFactory(null, PACKET);
+    windowIdField = new PacketFactory.PacketField(
+      MethodHandles.lookup().unreflectSetter(windowId)
+        .asType(MethodType.methodType(void.class, Object.class, Object.class))
+    );
+  }
+
+  //=========================================================================//
+  //                               Benchmarks                                //
+  //=========================================================================//
+
+  @Benchmark
+  public Object reflectiveLookup() throws Exception {
+    Object packet = findConstructor().newInstance(new PacketDataSerializer(Unpooled.wrappedBuffer(new byte[1024])));
+    findIntField().set(packet, nextId++);
+    return packet;
+  }
+
+  @Benchmark
+  public Object reflectiveCached() throws Exception {
+    Object packet = constructor.newInstance(new PacketDataSerializer(Unpooled.wrappedBuffer(new byte[1024])));
+    windowId.set(packet, nextId++);
+    return packet;
+  }
+
+  @Benchmark
+  public Object methodHandles() throws Exception {
+    Object packet = factory.create();
+    windowIdField.set(packet, nextId++);
+    return packet;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Find the deserializing constructor of the packet, as the reflective path does on every call
+   * @return Accessible constructor
+   */
+  private static Constructor<?> findConstructor() {
+    for (Constructor<?> ctor : PACKET.getDeclaredConstructors()) {
+      Class<?>[] params = ctor.getParameterTypes();
+
+      if (params.length != 1 || !params[0].isAssignableFrom(PacketDataSerializer.class))
+        continue;
+
+      ctor.setAccessible(true);
+      return ctor;
+    }
+
+    throw new IllegalStateException("Could not find a deserializing constructor in " + PACKET.getSimpleName());
+  }
+
+  /**
+   * Find the first non-static int field of the packet, as the reflective path does on every call
+   * @return Accessible field
+   */
+  private static Field findIntField() {
+    for (Field f : PACKET.getDeclaredFields()) {
+      if (f.getType() != int.class || Modifier.isStatic(f.getModifiers()))
+        continue;
+
+      f.setAccessible(true);
+      return f;
+    }
+
+    throw new IllegalStateException("Could not find an int field in " + PACKET.getSimpleName());
+  }
+}
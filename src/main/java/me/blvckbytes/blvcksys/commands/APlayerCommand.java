@@ -7,11 +7,10 @@ import me.blvckbytes.blvcksys.config.ConfigValue;
 import me.blvckbytes.blvcksys.config.IConfig;
 import me.blvckbytes.blvcksys.handlers.ICooldownHandler;
 import me.blvckbytes.blvcksys.handlers.ICooldownable;
+import me.blvckbytes.blvcksys.handlers.IPlayerNameIndex;
 import me.blvckbytes.blvcksys.persistence.IPersistence;
 import me.blvckbytes.blvcksys.persistence.models.APersistentModel;
-import me.blvckbytes.blvcksys.persistence.query.EqualityOperation;
 import me.blvckbytes.blvcksys.persistence.query.FieldQueryGroup;
-import me.blvckbytes.blvcksys.persistence.query.QueryBuilder;
 import me.blvckbytes.blvcksys.util.MCReflect;
 import me.blvckbytes.blvcksys.di.AutoInjectLate;
 import me.blvckbytes.blvcksys.util.TimeUtil;
@@ -47,6 +46,9 @@ import java.util.stream.Stream;
  */
 public abstract class APlayerCommand extends Command {
 
+  // Maximum number of suggestions to respond with on tab completion
+  private static final int MAX_SUGGESTIONS = 10;
+
   // Arguments this command may be invoked with
   private final CommandArgument[] cmdArgs;
 
@@ -62,6 +64,9 @@ public abstract class APlayerCommand extends Command {
   @AutoInjectLate
   private TimeUtil timeUtil;
 
+  @AutoInjectLate
+  private IPlayerNameIndex playerNameIndex;
+
   // The top level permission of this command
   @Getter
   private final String rootPerm;
@@ -179,9 +184,9 @@ public abstract class APlayerCommand extends Command {
     if (argPerm != null && !p.hasPermission(argPerm))
       return new ArrayList<>();
 
-    // Call tab completion handler and limit the results to 10 items
+    // Call tab completion handler and limit the results
     return onTabCompletion(p, args, currArg)
-      .limit(10)
+      .limit(MAX_SUGGESTIONS)
       .toList();
   }
 
@@ -305,20 +310,7 @@ public abstract class APlayerCommand extends Command {
     IPersistence pers,
     @Nullable FieldQueryGroup additional
   ) {
-    QueryBuilder<?> query = new QueryBuilder<>(
-      model,
-      field, EqualityOperation.CONT_IC, args[currArg]
-    )
-      .limit(10);
-
-    if (additional != null)
-      query.and(additional);
-
-    return pers.findRaw(query, field)
-      .stream()
-      .map(m -> m.get(field))
-      .filter(Objects::nonNull)
-      .map(Objects::toString);
+    return pers.suggest(model, field, args[currArg], MAX_SUGGESTIONS, additional).stream();
   }
 
   /**
@@ -406,7 +398,7 @@ public abstract class APlayerCommand extends Command {
    * @return Stream of suggestions
    */
   protected Stream<String> suggestOfflinePlayers(String[] args, int currArg) {
-    return suggestOfflinePlayers(args, currArg, new ArrayList<>());
+    return suggestOfflinePlayers(args, currArg, List.of());
   }
 
   /**
@@ -417,12 +409,7 @@ public abstract class APlayerCommand extends Command {
    * @return Stream of suggestions
    */
   protected Stream<String> suggestOfflinePlayers(String[] args, int currArg, List<OfflinePlayer> exclude) {
-    return Arrays.stream(Bukkit.getOfflinePlayers())
-      .filter(p -> !exclude.contains(p))
-      .filter(OfflinePlayer::hasPlayedBefore)
-      .map(OfflinePlayer::getName)
-      .filter(Objects::nonNull)
-      .filter(n -> n.toLowerCase().contains(args[currArg].toLowerCase()));
+    return playerNameIndex.suggest(args[currArg], MAX_SUGGESTIONS, exclude).stream();
   }
 
   /**
@@ -226,6 +226,16 @@ public class CrateCommand extends APlayerCommand {
         return;
       }
 
+      // The crate exists, but the block is owned by another feature
+      if (crateHandler.getCrate(name).isPresent()) {
+        p.sendMessage(
+          cfg.get(ConfigKey.COMMAND_CRATE_OCCUPIED)
+            .withPrefix()
+            .asScalar()
+        );
+        return;
+      }
+
       p.sendMessage(
         cfg.get(ConfigKey.COMMAND_CRATE_NOT_EXISTING)
           .withPrefix()
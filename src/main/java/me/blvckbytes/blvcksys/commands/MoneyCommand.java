@@ -105,21 +105,21 @@ public class MoneyCommand extends APlayerCommand {
     // Set, remove, give: Override, subtract or add a given amount of coins
     int amount = parseInt(args, 2);
 
-    // Decide on how to affect the amount of coins
+    // Apply the change atomically, where removing never takes more coins than available
     int after = before;
     switch (action) {
-      case SET -> after = amount;
-      case GIVE -> after += amount;
-      case REMOVE -> after = Math.max(0, after - amount);
+      case SET -> {
+        before = stats.setMoney(target, amount);
+        after = amount;
+      }
+      case GIVE -> after = stats.addMoney(target, amount);
+      case REMOVE -> after = stats.addMoney(target, -amount);
     }
 
     // Format a delta string
     int delta = after - before;
     String deltaStr = (delta >= 0 ? "+" : "") + delta;
 
-    // Apply the change
-    stats.addMoney(target, delta);
-
     // Notify the issuer
     p.sendMessage(
       cfg.get(isSelf ? ConfigKey.MONEY_SET_SELF : ConfigKey.MONEY_SET_OTHERS_SENDER)
@@ -91,19 +91,17 @@ public class PayCommand extends APlayerCommand {
       return;
     }
 
-    if (amount > available) {
+    // Transfer atomically, as the balance might have changed since it has been read
+    if (amount > available || !stats.transferMoney(p, target, amount)) {
       p.sendMessage(
         cfg.get(ConfigKey.PAY_TOO_MUCH)
           .withPrefix()
-          .withVariable("available", available)
+          .withVariable("available", stats.getStats(p).getMoney())
           .asScalar()
       );
       return;
     }
 
-    stats.addMoney(p, -amount);
-    stats.addMoney(target, amount);
-
     p.sendMessage(
       cfg.get(ConfigKey.PAY_TRANSFERED_SENDER)
         .withPrefix()
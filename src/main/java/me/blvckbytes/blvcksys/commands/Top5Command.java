@@ -22,11 +22,15 @@ import java.util.stream.Stream;
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 06/05/2022
 
-  Displays the top five players in any given measured statistic.
+  Displays the top five players in any given measured statistic, where
+  further pages list the following ranks, as well as the executor's own rank.
 */
 @AutoConstruct
 public class Top5Command extends APlayerCommand {
 
+  // Number of ranks displayed per page
+  private static final int PAGE_SIZE = 5;
+
   private final IPlayerStatsHandler stats;
   private final IFontWidthTable fwTable;
   private final TimeUtil timeUtil;
@@ -45,7 +49,8 @@ public class Top5Command extends APlayerCommand {
       "top5",
       "View the top five players regarding any statistic",
       null,
-      new CommandArgument("<statistic>", "Statistic to rank by")
+      new CommandArgument("<statistic>", "Statistic to rank by"),
+      new CommandArgument("[page]", "Page of ranks to display")
     );
 
     this.stats = stats;
@@ -61,14 +66,20 @@ public class Top5Command extends APlayerCommand {
   protected Stream<String> onTabCompletion(Player p, String[] args, int currArg) {
     if (currArg == 0)
       return suggestEnum(args, currArg, PlayerStatistic.class);
+
+    // Suggest page placeholder
+    if (currArg == 1)
+      return Stream.of(getArgumentPlaceholder(currArg));
+
     return super.onTabCompletion(p, args, currArg);
   }
 
   @Override
   protected void invoke(Player p, String label, String[] args) throws CommandException {
     PlayerStatistic statistic = parseEnum(PlayerStatistic.class, args, 0, null);
+    int offset = (Math.max(1, parseInt(args, 1, 1)) - 1) * PAGE_SIZE;
 
-    List<PlayerStatsModel> topPlayers = stats.getTop5Ranked(statistic);
+    List<PlayerStatsModel> topPlayers = stats.getTopRanked(statistic, offset, PAGE_SIZE);
     TidyTable table = new TidyTable("|", fwTable);
 
     table.addLines(
@@ -86,7 +97,7 @@ public class Top5Command extends APlayerCommand {
       table.addLine(
         cfg.get(ConfigKey.TOP5_ENTRY_PLAYER)
           .withPrefix()
-          .withVariable("place", i + 1)
+          .withVariable("place", offset + i + 1)
           .withVariable("player", stats.getOwner().getName())
           .withVariable("value", switch (statistic) {
             case KILLS -> stats.getKills();
@@ -101,11 +112,11 @@ public class Top5Command extends APlayerCommand {
     }
 
     // Fill up remaining lines
-    for (; i < 5; i++) {
+    for (; i < PAGE_SIZE; i++) {
       table.addLine(
         cfg.get(ConfigKey.TOP5_ENTRY_PLAYER)
           .withPrefix()
-          .withVariable("place", i + 1)
+          .withVariable("place", offset + i + 1)
           .withVariable("player", cfg.get(ConfigKey.TOP5_NAME_EMPTY).asScalar())
           .withVariable("value", "/")
           .asScalar()
@@ -113,5 +124,16 @@ public class Top5Command extends APlayerCommand {
     }
 
     table.displayTo(p);
+
+    // Display the executor's own rank
+    stats.getRank(p, statistic).ifPresent(rank -> {
+      p.sendMessage(
+        cfg.get(ConfigKey.TOP5_OWN_RANK)
+          .withPrefix()
+          .withVariable("place", rank)
+          .withVariable("num_ranked", stats.getNumRanked(statistic))
+          .asScalar()
+      );
+    });
   }
 }
@@ -136,6 +136,7 @@ public enum ConfigKey {
   ),
   TOP5_ENTRY_PLAYER("top5.entry.player", "$1| $0{{place}} $1| $0{{player}} $1| $0{{value}} $1|"),
   TOP5_NAME_EMPTY("top5.name.empty", "$4Unbelegt"),
+  TOP5_OWN_RANK("top5.own_rank", "$0Du belegst Platz $2{{place}} $0von $2{{num_ranked}}$0."),
 
   //=========================================================================//
   //                               Survey COMMAND                            //
@@ -1218,6 +1219,7 @@ public enum ConfigKey {
   COMMAND_CRATE_EXISTS("crate.exists", "$0Es existiert bereits eine Crate namens $4{{name}}$0!"),
   COMMAND_CRATE_DELETED("crate.deleted", "$0Die Crate $3{{name}} $0wurde $3gelöscht$0."),
   COMMAND_CRATE_MOVED("crate.moved", "$0Die Crate $3{{name}} $0wurde zu $3{{location}} $0bewegt."),
+  COMMAND_CRATE_OCCUPIED("crate.occupied", "$0Dieser Block ist $4bereits $0anderweitig $4belegt$0!"),
   COMMAND_CRATE_LAYOUT_SET("crate.layout_set", "$0Das Layout der Crate $3{{name}} $0wurde auf $3{{layout}} $0gesetzt!"),
   COMMAND_CRATE_COLOR_SET("crate.color_set", "$0Die Effektfarbe der Crate $3{{name}} $0wurde auf $3{{color}} $0gesetzt!"),
   COMMAND_CRATE_ITEM_ADDED("crate.item_added", "$0Das $3Item $0wurde mit einer Wahrscheinlichkeit von $3{{probability}}% $0zur Crate $3{{name}} $0hinzugefügt."),
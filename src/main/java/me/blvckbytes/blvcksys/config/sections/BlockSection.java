@@ -7,6 +7,9 @@ import org.bukkit.block.Biome;
 import org.bukkit.block.Block;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 06/28/2022
@@ -41,4 +44,22 @@ public class BlockSection extends AConfigSection {
     // All checks passed
     return true;
   }
+
+  /**
+   * Get the set of block types which any of the provided sections can describe
+   * @param sections Sections to collect the types of
+   * @return Set of types, null if any of the sections describes blocks of any type
+   */
+  public static @Nullable Set<Material> getTypes(BlockSection[] sections) {
+    Set<Material> res = EnumSet.noneOf(Material.class);
+
+    for (BlockSection section : sections) {
+      if (section.getType() == null)
+        return null;
+
+      res.add(section.getType());
+    }
+
+    return res;
+  }
 }
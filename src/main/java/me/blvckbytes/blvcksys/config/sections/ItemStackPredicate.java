@@ -0,0 +1,338 @@
+package me.blvckbytes.blvcksys.config.sections;
+
+import com.mojang.authlib.GameProfile;
+import com.mojang.authlib.properties.Property;
+import org.bukkit.Color;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.LeatherArmorMeta;
+import org.bukkit.inventory.meta.PotionMeta;
+import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.potion.PotionData;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.bukkit.potion.PotionType;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  An immutable predicate compiled from an item stack section, which has all of
+  it's config values evaluated ahead of time. Properties are checked from the
+  cheapest to the most expensive, so that most mismatches are detected before
+  the item's meta has to be requested.
+*/
+public class ItemStackPredicate {
+
+  private record EffectPredicate(
+    @Nullable PotionEffectType type,
+    @Nullable Integer duration,
+    @Nullable Integer amplifier,
+    @Nullable Boolean ambient,
+    @Nullable Boolean particles,
+    @Nullable Boolean icon
+  ) {}
+
+  // Profile fields of skull meta implementations, resolved once per class
+  private static final Map<Class<?>, Field> profileFields = new ConcurrentHashMap<>();
+
+  private final @Nullable Material type;
+  private final @Nullable Integer amount;
+
+  // Whether any of the following properties require the item's meta
+  private final boolean requiresMeta;
+
+  private final @Nullable String name;
+  private final @Nullable List<String> lore;
+  private final @Nullable Set<ItemFlag> flags;
+
+  // Whether a color has been specified, as it may not be parsable
+  private final boolean hasColor;
+  private final @Nullable Color color;
+
+  // Enchantments with their required level, where -1 represents any level
+  private final @Nullable Enchantment[] enchantments;
+  private final int[] enchantmentLevels;
+
+  private final boolean hasBaseEffect;
+  private final @Nullable PotionType baseType;
+  private final @Nullable Boolean baseExtended, baseUpgraded;
+
+  private final @Nullable EffectPredicate[] customEffects;
+
+  private final @Nullable String textures;
+
+  /**
+   * Compile a predicate from an item stack section
+   * @param section Section to compile
+   */
+  public ItemStackPredicate(ItemStackSection section) {
+    this.type = section.getType() == null ? null : section.getType().asScalar(Material.class);
+    this.amount = section.getAmount();
+
+    this.name = section.getName() == null ? null : section.getName().asScalar();
+    this.lore = section.getLore() == null ? null : List.copyOf(section.getLore().asList());
+    this.flags = section.getFlags() == null ? null : Set.copyOf(section.getFlags().asSet(ItemFlag.class));
+
+    this.hasColor = section.getColor() != null;
+    this.color = hasColor ? section.getColor().asScalar(Color.class) : null;
+
+    // Enchantments which cannot be resolved are skipped
+    if (section.getEnchantments() != null && section.getEnchantments().length > 0) {
+      List<Enchantment> enchantments = new ArrayList<>();
+      List<Integer> levels = new ArrayList<>();
+
+      for (ItemStackEnchantmentSection ench : section.getEnchantments()) {
+        Enchantment e = ench.getEnchantment() == null ? null : ench.getEnchantment().asScalar(Enchantment.class);
+        if (e == null)
+          continue;
+
+        Integer level = ench.getLevel() == null ? null : ench.getLevel().asScalar(Integer.class);
+        enchantments.add(e);
+        levels.add(level == null ? -1 : level);
+      }
+
+      this.enchantments = enchantments.toArray(Enchantment[]::new);
+      this.enchantmentLevels = levels.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    else {
+      this.enchantments = null;
+      this.enchantmentLevels = new int[0];
+    }
+
+    ItemStackBaseEffectSection base = section.getBaseEffect();
+    this.hasBaseEffect = base != null;
+    this.baseType = base == null || base.getType() == null ? null : base.getType().asScalar(PotionType.class);
+    this.baseExtended = base == null ? null : base.getExtended();
+    this.baseUpgraded = base == null ? null : base.getUpgraded();
+
+    if (section.getCustomEffects() != null && section.getCustomEffects().length > 0) {
+      this.customEffects = Arrays.stream(section.getCustomEffects())
+        .map(eff -> new EffectPredicate(
+          eff.getEffect() == null ? null : eff.getEffect().asScalar(PotionEffectType.class),
+          eff.getDuration() == null ? Integer.valueOf(0) : eff.getDuration().asScalar(Integer.class),
+          eff.getAmplifier() == null ? Integer.valueOf(0) : eff.getAmplifier().asScalar(Integer.class),
+          eff.getAmbient(), eff.getParticles(), eff.getIcon()
+        ))
+        .toArray(EffectPredicate[]::new);
+    }
+
+    else
+      this.customEffects = null;
+
+    this.textures = section.getTextures() == null ? null : section.getTextures().asScalar();
+
+    this.requiresMeta = (
+      name != null || lore != null || flags != null || hasColor || enchantments != null ||
+      hasBaseEffect || customEffects != null || textures != null
+    );
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Check whether an item matches all specified properties
+   * @param item Target item
+   */
+  public boolean test(@Nullable ItemStack item) {
+    if (item == null)
+      return false;
+
+    if (type != null && item.getType() != type)
+      return false;
+
+    if (amount != null && item.getAmount() != amount)
+      return false;
+
+    if (!requiresMeta)
+      return true;
+
+    // Items without meta (air) never match meta properties
+    if (item.getType().isAir())
+      return false;
+
+    // Requesting the meta creates a copy, thus only do so once
+    ItemMeta meta = item.getItemMeta();
+    if (meta == null)
+      return false;
+
+    if (name != null && !name.equals(meta.getDisplayName()))
+      return false;
+
+    // Compare flag entries for equality (ignoring order)
+    if (flags != null && !flags.equals(meta.getItemFlags()))
+      return false;
+
+    // Check for the presence of all enchantments at the right levels (ignoring order)
+    if (enchantments != null) {
+      for (int i = 0; i < enchantments.length; i++) {
+        if (!meta.hasEnchant(enchantments[i]))
+          return false;
+
+        if (enchantmentLevels[i] >= 0 && meta.getEnchantLevel(enchantments[i]) != enchantmentLevels[i])
+          return false;
+      }
+    }
+
+    // Compare lore lines for equality (and order)
+    if (lore != null && !lore.equals(meta.getLore()))
+      return false;
+
+    // Compare either potion color or leather color
+    if (hasColor && !testColor(meta))
+      return false;
+
+    if (hasBaseEffect && !testBaseEffect(meta))
+      return false;
+
+    if (customEffects != null && !testCustomEffects(meta))
+      return false;
+
+    // Textures require reflective access and are thus checked last
+    if (textures != null && !testTextures(meta))
+      return false;
+
+    // TODO: Compare banner patterns
+
+    // All checks passed
+    return true;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Compare the color of either a potion or a leather armor piece
+   * @param meta Meta of the item
+   */
+  private boolean testColor(ItemMeta meta) {
+    // Unparsable colors never match
+    if (color == null)
+      return false;
+
+    if (meta instanceof PotionMeta pm)
+      return color.equals(pm.getColor());
+
+    if (meta instanceof LeatherArmorMeta lam)
+      return color.equals(lam.getColor());
+
+    // Not colorable
+    return false;
+  }
+
+  /**
+   * Compare the base potion effect
+   * @param meta Meta of the item
+   */
+  private boolean testBaseEffect(ItemMeta meta) {
+    // Not a potion
+    if (!(meta instanceof PotionMeta pm))
+      return false;
+
+    PotionData data = pm.getBasePotionData();
+
+    if (baseType != null && baseType != data.getType())
+      return false;
+
+    if (baseExtended != null && baseExtended != data.isExtended())
+      return false;
+
+    return baseUpgraded == null || baseUpgraded == data.isUpgraded();
+  }
+
+  /**
+   * Check for the presence of all custom effects (ignoring order)
+   * @param meta Meta of the item
+   */
+  private boolean testCustomEffects(ItemMeta meta) {
+    // Not a potion
+    if (!(meta instanceof PotionMeta pm))
+      return false;
+
+    List<PotionEffect> effects = pm.getCustomEffects();
+
+    for (EffectPredicate eff : customEffects) {
+      boolean found = false;
+
+      for (PotionEffect effect : effects) {
+        if (testEffect(eff, effect)) {
+          found = true;
+          break;
+        }
+      }
+
+      // Current custom effect is not represented within the custom effects of the potion
+      if (!found)
+        return false;
+    }
+
+    // All effects present
+    return true;
+  }
+
+  /**
+   * Compare a single custom effect
+   * @param eff Compiled effect section
+   * @param effect Effect of the potion
+   */
+  private boolean testEffect(EffectPredicate eff, PotionEffect effect) {
+    if (eff.type() != null && effect.getType() != eff.type())
+      return false;
+
+    if (eff.duration() != null && effect.getDuration() != eff.duration())
+      return false;
+
+    if (eff.amplifier() != null && effect.getAmplifier() != eff.amplifier())
+      return false;
+
+    if (eff.ambient() != null && effect.isAmbient() != eff.ambient())
+      return false;
+
+    if (eff.particles() != null && effect.hasParticles() != eff.particles())
+      return false;
+
+    return eff.icon() == null || effect.hasIcon() == eff.icon();
+  }
+
+  /**
+   * Compare the textures of a skull's owner
+   * @param meta Meta of the item
+   */
+  private boolean testTextures(ItemMeta meta) {
+    // Not a skull or has no head owner
+    if (!(meta instanceof SkullMeta sm) || sm.getOwningPlayer() == null)
+      return false;
+
+    try {
+      Field profileField = profileFields.get(meta.getClass());
+
+      if (profileField == null) {
+        profileField = meta.getClass().getDeclaredField("profile");
+        profileField.setAccessible(true);
+        profileFields.put(meta.getClass(), profileField);
+      }
+
+      GameProfile profile = (GameProfile) profileField.get(sm);
+      Collection<Property> targets = profile.getProperties().get("textures");
+
+      for (Property prop : targets) {
+        if (prop.getValue().equals(textures))
+          return true;
+      }
+    } catch (Exception ignored) {}
+
+    return false;
+  }
+}
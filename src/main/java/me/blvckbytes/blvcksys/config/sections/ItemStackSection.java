@@ -1,8 +1,6 @@
 package me.blvckbytes.blvcksys.config.sections;
 
-import com.mojang.authlib.GameProfile;
-import com.mojang.authlib.properties.Property;
-import com.mojang.authlib.properties.PropertyMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import me.blvckbytes.blvcksys.config.AConfigSection;
 import me.blvckbytes.blvcksys.config.ConfigValue;
@@ -10,23 +8,12 @@ import me.blvckbytes.blvcksys.handlers.gui.ItemStackBuilder;
 import net.minecraft.util.Tuple;
 import org.bukkit.Color;
 import org.bukkit.Material;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.inventory.meta.LeatherArmorMeta;
-import org.bukkit.inventory.meta.PotionMeta;
-import org.bukkit.inventory.meta.SkullMeta;
-import org.bukkit.profile.PlayerProfile;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Map;
-import java.util.Objects;
-import java.util.function.Function;
+import java.util.*;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -50,6 +37,11 @@ public class ItemStackSection extends AConfigSection {
   private ItemStackBannerPatternSection[] bannerPatterns;
   private boolean loreOverride;
 
+  // Predicate compiled from this section's values, created on first use
+  @CSIgnore
+  @Getter(AccessLevel.NONE)
+  private ItemStackPredicate predicate;
+
   public ItemStackSection() {
     this.enchantments = new ItemStackEnchantmentSection[0];
     this.customEffects = new ItemStackCustomEffectSection[0];
@@ -107,143 +99,29 @@ public class ItemStackSection extends AConfigSection {
    * @param item Target item
    */
   public boolean describesItem(@Nullable ItemStack item) {
-    if (item == null)
-      return false;
-
-    Material m = getType() == null ? null : getType().asScalar(Material.class);
-    if (m != null && item.getType() != m)
-      return false;
-
-    if (amount != null && item.getAmount() != amount)
-      return false;
-
-    // Compare displayname
-    if (!checkMeta(item, name, meta -> name.asScalar().equals(meta.getDisplayName())))
-      return false;
-
-    // Compare lore lines for equality (and order)
-    if (!checkMeta(item, lore, meta -> lore.asList().equals(meta.getLore())))
-      return false;
-
-    // Compare flag entries for equality (ignoring order)
-    if (!checkMeta(item, flags, meta -> flags.asSet(ItemFlag.class).equals(meta.getItemFlags())))
-      return false;
-
-    // Compare either potion color or leather color
-    if (!checkMeta(item, color, meta -> {
-      if (meta instanceof PotionMeta pm)
-        return color.equals(pm.getColor());
-
-      if (meta instanceof LeatherArmorMeta lam)
-        return color.equals(lam.getColor());
-
-      // Not colorable
-      return false;
-    }))
-      return false;
-
-    // Check for the presence of all enchantments at the right levels (ignoring order)
-    if (!checkMeta(item, enchantments, meta -> {
-      for (ItemStackEnchantmentSection ench : enchantments) {
-        Enchantment e = ench.getEnchantment() == null ? null : ench.getEnchantment().asScalar(Enchantment.class);
-
-        // Cannot compare
-        if (e == null)
-          continue;
-
-        Integer level = ench.getLevel() == null ? null : ench.getLevel().asScalar(Integer.class);
-
-        if (!(
-          // Contains this enchantment at any levej
-          meta.hasEnchant(e) &&
-          // Contains at a matching level, if required
-          (level == null || meta.getEnchantLevel(e) == level)
-        ))
-          return false;
-      }
-      // All enchantments matched
-      return true;
-    }))
-      return false;
-
-    // Compare for head textures
-    if (!checkMeta(item, textures, meta -> {
-      // Not a skull
-      if (!(meta instanceof SkullMeta sm))
-        return false;
+    // Compile once on first use, as the section doesn't change after being parsed
+    if (predicate == null)
+      predicate = new ItemStackPredicate(this);
 
-      PlayerProfile pf = sm.getOwnerProfile();
-      OfflinePlayer owner = sm.getOwningPlayer();
-
-      // Has no head owner
-      if (owner == null)
-        return false;
-
-
-      try {
-        Field profileField = meta.getClass().getDeclaredField("profile");
-        profileField.setAccessible(true);
-        GameProfile profile = (GameProfile) profileField.get(sm);
-        PropertyMap pm = profile.getProperties();
-        Collection<Property> targets = pm.get("textures");
-
-        // Does not contain any textures
-        if (targets.size() == 0)
-          return false;
-
-        String texturesValue = textures.asScalar();
-        return targets.stream().anyMatch(prop -> prop.getValue().equals(texturesValue));
-      } catch (Exception ignored) {}
-
-      return false;
-    }))
-      return false;
-
-    // Compare the base potion effect
-    if (!checkMeta(item, baseEffect, meta -> {
-      // Not a potion
-      if (!(meta instanceof PotionMeta pm))
-        return false;
-      return baseEffect.describesData(pm.getBasePotionData());
-    }))
-      return false;
-
-    // Check for the presence of all custom effects (ignoring order)
-    if (!checkMeta(item, customEffects, meta -> {
-      if (!(meta instanceof PotionMeta pm))
-        return false;
-
-      for (ItemStackCustomEffectSection eff : customEffects) {
-        // Current custom effect is not represented within the custom effects of the potion
-        if (pm.getCustomEffects().stream().anyMatch(eff::describesEffect))
-          return false;
-      }
-
-      // All effects present
-      return true;
-    }))
-      return false;
-
-    // TODO: Compare banner patterns
-
-    // All checks passed
-    return true;
+    return predicate.test(item);
   }
 
   /**
-   * Check a local parameter against the item's metadata. Whenever the
-   * local value is null, this function returns true, and if it's present
-   * but there's no metadata or the metadata property mismatches, it returns false
-   * @param item Item to check the meta of
-   * @param value Local parameter to use
-   * @param checker Checker function
+   * Get the set of item types which any of the provided sections can describe
+   * @param sections Sections to collect the types of
+   * @return Set of types, null if any of the sections describes items of any type
    */
-  private boolean checkMeta(ItemStack item, @Nullable Object value, Function<ItemMeta, Boolean> checker) {
-    // Value not present, basically a wildcard
-    if (value == null)
-      return true;
+  public static @Nullable Set<Material> getTypes(ItemStackSection[] sections) {
+    Set<Material> res = EnumSet.noneOf(Material.class);
+
+    for (ItemStackSection section : sections) {
+      Material m = section.getType() == null ? null : section.getType().asScalar(Material.class);
+      if (m == null)
+        return null;
+
+      res.add(m);
+    }
 
-    // Fails if there is either no meta to compare against at all or if the checker failed
-    return item.getItemMeta() != null && checker.apply(item.getItemMeta());
+    return res;
   }
 }
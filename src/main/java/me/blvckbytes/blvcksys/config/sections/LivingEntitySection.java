@@ -7,6 +7,9 @@ import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 06/29/2022
@@ -37,4 +40,22 @@ public class LivingEntitySection extends AConfigSection {
     // Passed all checks
     return true;
   }
+
+  /**
+   * Get the set of entity types which any of the provided sections can describe
+   * @param sections Sections to collect the types of
+   * @return Set of types, null if any of the sections describes entities of any type
+   */
+  public static @Nullable Set<EntityType> getTypes(LivingEntitySection[] sections) {
+    Set<EntityType> res = EnumSet.noneOf(EntityType.class);
+
+    for (LivingEntitySection section : sections) {
+      if (section.getType() == null)
+        return null;
+
+      res.add(section.getType());
+    }
+
+    return res;
+  }
 }
@@ -80,7 +80,7 @@ public class AfkListener implements Listener, IAutoConstructed, IAfkListener {
       reactivateTimeout(t);
 
       // Reactivate timeouts on movement
-      this.move.subscribe(t, () -> reactivateTimeout(t));
+      this.move.subscribeBlockCrossing(t, () -> reactivateTimeout(t));
     }
   }
 
@@ -109,7 +109,7 @@ public class AfkListener implements Listener, IAutoConstructed, IAfkListener {
     reactivateTimeout(e.getPlayer());
 
     // Reactivate timeouts on movement
-    this.move.subscribe(e.getPlayer(), () -> reactivateTimeout(e.getPlayer()));
+    this.move.subscribeBlockCrossing(e.getPlayer(), () -> reactivateTimeout(e.getPlayer()));
   }
 
   @EventHandler
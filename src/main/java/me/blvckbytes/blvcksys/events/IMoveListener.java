@@ -1,7 +1,10 @@
 package me.blvckbytes.blvcksys.events;
 
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
+import java.util.function.BiConsumer;
+
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 04/30/2022
@@ -18,10 +21,53 @@ public interface IMoveListener {
    */
   Runnable subscribe(Player target, Runnable callback);
 
+  /**
+   * Subscribe to a player moving into another block
+   * @param target Player to track
+   * @param callback Callback for block crossings
+   * @return Registered callback ref
+   */
+  Runnable subscribeBlockCrossing(Player target, Runnable callback);
+
+  /**
+   * Subscribe to a player moving into another chunk
+   * @param target Player to track
+   * @param callback Callback for chunk crossings
+   * @return Registered callback ref
+   */
+  Runnable subscribeChunkCrossing(Player target, Runnable callback);
+
+  /**
+   * Subscribe to a player leaving the radius around a center point, which
+   * is called again after the player re-entered and then left again
+   * @param target Player to track
+   * @param center Center of the radius
+   * @param radius Radius in blocks
+   * @param callback Callback for exits
+   * @return Registered callback ref
+   */
+  Runnable subscribeRadiusExit(Player target, Location center, double radius, Runnable callback);
+
   /**
    * Unsubscribe from movements of a player
    * @param target Player that's being tracked
    * @param callback Callback registered previously
    */
   void unsubscribe(Player target, Runnable callback);
+
+  /**
+   * Register a new block-precise region which notifies about all players entering or leaving it
+   * @param cornerA First corner of the region (inclusive)
+   * @param cornerB Opposite corner of the region (inclusive)
+   * @param transition Transition callback, receiving the player as well as
+   *                   true when entering and false when leaving
+   * @return Registered region ref
+   */
+  MoveRegion registerRegion(Location cornerA, Location cornerB, BiConsumer<Player, Boolean> transition);
+
+  /**
+   * Unregister a previously registered region
+   * @param region Region registered previously
+   */
+  void unregisterRegion(MoveRegion region);
 }
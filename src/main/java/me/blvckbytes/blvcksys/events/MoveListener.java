@@ -2,30 +2,68 @@ package me.blvckbytes.blvcksys.events;
 
 import me.blvckbytes.blvcksys.di.AutoConstruct;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.BiConsumer;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 04/30/2022
 
   Listen to move events (x, y, z - ignoring yaw/pitch).
+
+  Besides plain movements, subscribers may only listen for block- or chunk
+  crossings as well as radius exits. Regions are indexed by all chunks they
+  overlap, so that only the regions of the chunk a player moved into need to
+  be checked, and this only happens whenever a block boundary has been crossed.
 */
 @AutoConstruct
 public class MoveListener implements Listener, IMoveListener {
 
+  /**
+   * Represents a subscription to a player leaving a radius around a center point
+   */
+  private static class RadiusSubscription {
+    private final Location center;
+    private final double radiusSq;
+    private final Runnable callback;
+    private boolean inside;
+
+    private RadiusSubscription(Location center, double radius, Runnable callback) {
+      this.center = center;
+      this.radiusSq = radius * radius;
+      this.callback = callback;
+      this.inside = true;
+    }
+  }
+
   private final Map<Player, List<Runnable>> subs;
+  private final Map<Player, List<Runnable>> blockSubs;
+  private final Map<Player, List<Runnable>> chunkSubs;
+  private final Map<Player, List<RadiusSubscription>> radiusSubs;
+
+  // Mapping world IDs to packed chunk coordinates to the regions overlapping that chunk
+  private final Map<UUID, Map<Long, List<MoveRegion>>> regionIndex;
+
+  // Mapping players to the regions they're currently within
+  private final Map<Player, Set<MoveRegion>> insideRegions;
 
   public MoveListener() {
     this.subs = new HashMap<>();
+    this.blockSubs = new HashMap<>();
+    this.chunkSubs = new HashMap<>();
+    this.radiusSubs = new HashMap<>();
+    this.regionIndex = new HashMap<>();
+    this.insideRegions = new HashMap<>();
   }
 
   //=========================================================================//
@@ -34,29 +72,63 @@ public class MoveListener implements Listener, IMoveListener {
 
   @EventHandler
   public void onMove(PlayerMoveEvent e) {
+    Location from = e.getFrom(), to = e.getTo();
+
     // Didn't move
-    if (e.getTo() == null)
+    if (to == null)
       return;
 
     // Only looked around, didn't move
     // Don't use looking around as it's really heavy on performance
-    if (calculateTotalAbsDelta(e.getFrom(), e.getTo()) == 0)
+    if (calculateTotalAbsDelta(from, to) == 0)
       return;
 
-    List<Runnable> subscribers = subs.get(e.getPlayer());
+    Player p = e.getPlayer();
 
-    if (subscribers == null)
+    // Execute all subscribers
+    runAll(subs.get(p));
+    checkRadiusSubscriptions(p, to);
+
+    // Still within the same block, nothing else could have changed
+    if (
+      from.getWorld() == to.getWorld() &&
+      from.getBlockX() == to.getBlockX() &&
+      from.getBlockY() == to.getBlockY() &&
+      from.getBlockZ() == to.getBlockZ()
+    )
       return;
 
-    // Execute all subscribers
-    for (int i = subscribers.size() - 1; i >= 0; i--)
-      subscribers.get(i).run();
+    runAll(blockSubs.get(p));
+
+    if (
+      from.getWorld() != to.getWorld() ||
+      (from.getBlockX() >> 4) != (to.getBlockX() >> 4) ||
+      (from.getBlockZ() >> 4) != (to.getBlockZ() >> 4)
+    )
+      runAll(chunkSubs.get(p));
+
+    updateRegions(p, to);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onTeleport(PlayerTeleportEvent e) {
+    if (e.getTo() != null)
+      updateRegions(e.getPlayer(), e.getTo());
+  }
+
+  @EventHandler
+  public void onJoin(PlayerJoinEvent e) {
+    updateRegions(e.getPlayer(), e.getPlayer().getLocation());
   }
 
   @EventHandler
   public void onQuit(PlayerQuitEvent e) {
     // Automatically unsubscribe all listeners on quitting
     subs.remove(e.getPlayer());
+    blockSubs.remove(e.getPlayer());
+    chunkSubs.remove(e.getPlayer());
+    radiusSubs.remove(e.getPlayer());
+    insideRegions.remove(e.getPlayer());
   }
 
   //=========================================================================//
@@ -65,28 +137,218 @@ public class MoveListener implements Listener, IMoveListener {
 
   @Override
   public Runnable subscribe(Player target, Runnable callback) {
-    // Create empty list initially
-    if (!this.subs.containsKey(target))
-      this.subs.put(target, new ArrayList<>());
+    this.subs.computeIfAbsent(target, k -> new ArrayList<>()).add(callback);
+    return callback;
+  }
+
+  @Override
+  public Runnable subscribeBlockCrossing(Player target, Runnable callback) {
+    this.blockSubs.computeIfAbsent(target, k -> new ArrayList<>()).add(callback);
+    return callback;
+  }
+
+  @Override
+  public Runnable subscribeChunkCrossing(Player target, Runnable callback) {
+    this.chunkSubs.computeIfAbsent(target, k -> new ArrayList<>()).add(callback);
+    return callback;
+  }
+
+  @Override
+  public Runnable subscribeRadiusExit(Player target, Location center, double radius, Runnable callback) {
+    RadiusSubscription sub = new RadiusSubscription(center.clone(), radius, callback);
+    sub.inside = isWithinRadius(sub, target.getLocation());
 
-    // Register callback
-    this.subs.get(target).add(callback);
+    this.radiusSubs.computeIfAbsent(target, k -> new ArrayList<>()).add(sub);
     return callback;
   }
 
   @Override
   public void unsubscribe(Player target, Runnable callback) {
     List<Runnable> subscribers = this.subs.get(target);
+    if (subscribers != null)
+      subscribers.remove(callback);
 
-    // Unregister callback
+    subscribers = this.blockSubs.get(target);
     if (subscribers != null)
       subscribers.remove(callback);
+
+    subscribers = this.chunkSubs.get(target);
+    if (subscribers != null)
+      subscribers.remove(callback);
+
+    List<RadiusSubscription> radiusSubscribers = this.radiusSubs.get(target);
+    if (radiusSubscribers != null)
+      radiusSubscribers.removeIf(sub -> sub.callback == callback);
+  }
+
+  @Override
+  public MoveRegion registerRegion(Location cornerA, Location cornerB, BiConsumer<Player, Boolean> transition) {
+    World w = cornerA.getWorld();
+
+    if (w == null || w != cornerB.getWorld())
+      throw new IllegalArgumentException("Both corners need to reside within the same world");
+
+    MoveRegion region = new MoveRegion(
+      w.getUID(),
+      Math.min(cornerA.getBlockX(), cornerB.getBlockX()),
+      Math.min(cornerA.getBlockY(), cornerB.getBlockY()),
+      Math.min(cornerA.getBlockZ(), cornerB.getBlockZ()),
+      Math.max(cornerA.getBlockX(), cornerB.getBlockX()),
+      Math.max(cornerA.getBlockY(), cornerB.getBlockY()),
+      Math.max(cornerA.getBlockZ(), cornerB.getBlockZ()),
+      transition
+    );
+
+    // Index the region within every chunk it overlaps
+    Map<Long, List<MoveRegion>> chunks = regionIndex.computeIfAbsent(region.getWorldId(), k -> new HashMap<>());
+    for (int cx = region.getMinX() >> 4; cx <= region.getMaxX() >> 4; cx++) {
+      for (int cz = region.getMinZ() >> 4; cz <= region.getMaxZ() >> 4; cz++)
+        chunks.computeIfAbsent(packChunk(cx, cz), k -> new ArrayList<>()).add(region);
+    }
+
+    // Players which are already standing within the region enter it immediately
+    for (Player t : w.getPlayers()) {
+      if (region.contains(t.getLocation())) {
+        insideRegions.computeIfAbsent(t, k -> new HashSet<>()).add(region);
+        transition.accept(t, true);
+      }
+    }
+
+    return region;
+  }
+
+  @Override
+  public void unregisterRegion(MoveRegion region) {
+    Map<Long, List<MoveRegion>> chunks = regionIndex.get(region.getWorldId());
+
+    if (chunks != null) {
+      for (int cx = region.getMinX() >> 4; cx <= region.getMaxX() >> 4; cx++) {
+        for (int cz = region.getMinZ() >> 4; cz <= region.getMaxZ() >> 4; cz++) {
+          long key = packChunk(cx, cz);
+          List<MoveRegion> regions = chunks.get(key);
+
+          if (regions == null)
+            continue;
+
+          regions.remove(region);
+
+          // Drop empty chunk entries to keep lookups cheap
+          if (regions.isEmpty())
+            chunks.remove(key);
+        }
+      }
+    }
+
+    // Players are not notified about leaving a region that ceased to exist
+    for (Set<MoveRegion> inside : insideRegions.values())
+      inside.remove(region);
   }
 
   //=========================================================================//
   //                                 Utilities                               //
   //=========================================================================//
 
+  /**
+   * Run a list of subscribers, which may unsubscribe themselves while being called
+   * @param subscribers Subscribers to run, null is ignored
+   */
+  private void runAll(List<Runnable> subscribers) {
+    if (subscribers == null)
+      return;
+
+    for (int i = subscribers.size() - 1; i >= 0; i--) {
+      if (i < subscribers.size())
+        subscribers.get(i).run();
+    }
+  }
+
+  /**
+   * Check all radius subscriptions of a player and call those which have been exited
+   * @param p Target player
+   * @param to Location the player moved to
+   */
+  private void checkRadiusSubscriptions(Player p, Location to) {
+    List<RadiusSubscription> subscriptions = radiusSubs.get(p);
+
+    if (subscriptions == null)
+      return;
+
+    for (int i = subscriptions.size() - 1; i >= 0; i--) {
+      if (i >= subscriptions.size())
+        continue;
+
+      RadiusSubscription sub = subscriptions.get(i);
+      boolean inside = isWithinRadius(sub, to);
+
+      // Only call on transitions from inside to outside
+      boolean exited = sub.inside && !inside;
+      sub.inside = inside;
+
+      if (exited)
+        sub.callback.run();
+    }
+  }
+
+  /**
+   * Checks whether a location is within the radius of a subscription
+   * @param sub Subscription to check against
+   * @param loc Location to check
+   */
+  private boolean isWithinRadius(RadiusSubscription sub, Location loc) {
+    return loc.getWorld() == sub.center.getWorld() && loc.distanceSquared(sub.center) <= sub.radiusSq;
+  }
+
+  /**
+   * Update the set of regions a player is within and call the transitions
+   * of all regions that have been entered or left
+   * @param p Target player
+   * @param to Location the player moved to
+   */
+  private void updateRegions(Player p, Location to) {
+    Set<MoveRegion> inside = insideRegions.get(p);
+    List<MoveRegion> candidates = null;
+
+    if (to.getWorld() != null) {
+      Map<Long, List<MoveRegion>> chunks = regionIndex.get(to.getWorld().getUID());
+      if (chunks != null)
+        candidates = chunks.get(packChunk(to.getBlockX() >> 4, to.getBlockZ() >> 4));
+    }
+
+    // Neither within any regions, nor near any regions
+    if ((inside == null || inside.isEmpty()) && candidates == null)
+      return;
+
+    if (inside == null) {
+      inside = new HashSet<>();
+      insideRegions.put(p, inside);
+    }
+
+    // Leave all regions which don't contain the player anymore
+    for (MoveRegion region : new ArrayList<>(inside)) {
+      if (!region.contains(to) && inside.remove(region))
+        region.getTransition().accept(p, false);
+    }
+
+    if (candidates == null)
+      return;
+
+    // Enter all regions which newly contain the player
+    for (MoveRegion region : new ArrayList<>(candidates)) {
+      if (region.contains(to) && inside.add(region))
+        region.getTransition().accept(p, true);
+    }
+  }
+
+  /**
+   * Pack a chunk's coordinates into a single long
+   * @param chunkX X coordinate of the chunk
+   * @param chunkZ Z coordinate of the chunk
+   * @return Packed coordinates
+   */
+  private long packChunk(int chunkX, int chunkZ) {
+    return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+  }
+
   /**
    * Calculate the total (dx + dy + dz) absolute (|d|) coordinate delta of a and b
    * @param a Location a
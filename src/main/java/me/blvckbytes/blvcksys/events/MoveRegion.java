@@ -0,0 +1,46 @@
+package me.blvckbytes.blvcksys.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/24/2022
+
+  Represents an axis aligned, block-precise region which notifies about
+  players entering (true) or leaving (false) it through it's transition callback.
+
+  Regions are compared by identity, so that two registrations covering the same
+  blocks with the same callback are still tracked and unregistered separately.
+*/
+@Getter
+@AllArgsConstructor
+public final class MoveRegion {
+
+  private final UUID worldId;
+  private final int minX, minY, minZ;
+  private final int maxX, maxY, maxZ;
+  private final BiConsumer<Player, Boolean> transition;
+
+  /**
+   * Checks whether a location resides within this region
+   * @param loc Location to check
+   * @return True if it's within, false otherwise
+   */
+  public boolean contains(Location loc) {
+    if (loc.getWorld() == null || !loc.getWorld().getUID().equals(worldId))
+      return false;
+
+    int x = loc.getBlockX(), y = loc.getBlockY(), z = loc.getBlockZ();
+    return (
+      x >= minX && x <= maxX &&
+      y >= minY && y <= maxY &&
+      z >= minZ && z <= maxZ
+    );
+  }
+}
@@ -32,6 +32,10 @@ public abstract class ATemplateHandler {
    * @return Resulting string to display
    */
   protected String evaluateLineTemplate(Player p, List<Object> template) {
+    // Fully resolved template, nothing to evaluate
+    if (template.size() == 1 && template.get(0) instanceof String s)
+      return s;
+
     StringBuilder sb = new StringBuilder();
 
     // Iterate all parts of this template
@@ -50,6 +54,27 @@ public abstract class ATemplateHandler {
     return sb.toString();
   }
 
+  /**
+   * Resolve all variables of a template which are not player specific, which yields
+   * a template that only contains player specific variables and can thus be resolved
+   * once and then be evaluated for multiple players
+   * @param template Template to resolve
+   * @return Partially resolved template
+   */
+  protected List<Object> resolveGlobalVariables(List<Object> template) {
+    List<Object> res = new ArrayList<>();
+
+    for (Object part : template) {
+      // Resolve without a player context, joining the result with neighbouring strings
+      if (part instanceof LiveVariable hv && !hv.isPlayerSpecific())
+        appendToTemplate(res, varSupp.resolveVariable(null, hv));
+      else
+        appendToTemplate(res, part);
+    }
+
+    return res;
+  }
+
   /**
    * Append an object (String or variable type) to a list of objects (the template)
    * @param template Template to append to
@@ -38,17 +38,20 @@ public class ArmorStandHandler implements IArmorStandHandler, IAutoConstructed {
   private final IPersistence pers;
   private final IArmorStandCommunicator armorComm;
   private final JavaPlugin plugin;
+  private final IFakeEntityRegistry fakeEntities;
   private BukkitTask tickerHandle;
 
   public ArmorStandHandler(
     @AutoInject IPersistence pers,
     @AutoInject IArmorStandCommunicator armorComm,
-    @AutoInject JavaPlugin plugin
+    @AutoInject JavaPlugin plugin,
+    @AutoInject IFakeEntityRegistry fakeEntities
   ) {
     this.cache = new HashMap<>();
     this.pers = pers;
     this.armorComm = armorComm;
     this.plugin = plugin;
+    this.fakeEntities = fakeEntities;
   }
 
   //=========================================================================//
@@ -146,7 +149,7 @@ public class ArmorStandHandler implements IArmorStandHandler, IAutoConstructed {
   @Override
   public FakeArmorStand createTemporary(Location loc, @Nullable Collection<? extends Player> recipients, ArmorStandProperties properties) {
     // Create a fake random model to register in the main ticking loop
-    FakeArmorStand as = new FakeArmorStand(armorComm, properties, loc, recipients);
+    FakeArmorStand as = new FakeArmorStand(armorComm, fakeEntities, properties, loc, recipients);
     cache.put(ArmorStandModel.createDefault(null, UUID.randomUUID().toString(), loc), as);
     as.tick();
     return as;
@@ -220,7 +223,7 @@ public class ArmorStandHandler implements IArmorStandHandler, IAutoConstructed {
       model.getRightLegPose()
     );
 
-    return new FakeArmorStand(armorComm, props, model.getLoc(), null);
+    return new FakeArmorStand(armorComm, fakeEntities, props, model.getLoc(), null);
   }
 
   /**
@@ -0,0 +1,150 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import me.blvckbytes.blvcksys.di.AutoConstruct;
+import me.blvckbytes.blvcksys.di.IAutoConstructed;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/23/2022
+
+  Maps block positions to the feature objects which own them, like crates,
+  player signs or image frames. Positions are packed into a long per world and
+  bucketed by their chunk, so that lookups on busy events like interactions and
+  block breaks are constant time and quickly rejected for chunks without any
+  registered blocks at all.
+*/
+@AutoConstruct
+public class BlockRegistry implements IBlockRegistry, IAutoConstructed {
+
+  // Mapping world IDs to packed chunk coordinates to packed block coordinates to their owner
+  private final Map<UUID, Map<Long, Map<Long, Object>>> owners;
+
+  public BlockRegistry() {
+    this.owners = new HashMap<>();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  @Override
+  public boolean register(@Nullable Location loc, Object owner) {
+    if (loc == null || loc.getWorld() == null)
+      return false;
+
+    Map<Long, Object> bucket = owners
+      .computeIfAbsent(loc.getWorld().getUID(), k -> new HashMap<>())
+      .computeIfAbsent(packChunk(loc.getBlockX() >> 4, loc.getBlockZ() >> 4), k -> new HashMap<>());
+
+    long key = packBlock(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    Object existing = bucket.putIfAbsent(key, owner);
+
+    return existing == null || existing == owner;
+  }
+
+  @Override
+  public boolean unregister(@Nullable Location loc, Object owner) {
+    if (loc == null || loc.getWorld() == null)
+      return false;
+
+    Map<Long, Map<Long, Object>> chunks = owners.get(loc.getWorld().getUID());
+    if (chunks == null)
+      return false;
+
+    long chunkKey = packChunk(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+    Map<Long, Object> bucket = chunks.get(chunkKey);
+    if (bucket == null)
+      return false;
+
+    // Only remove the registration if it's actually held by this owner
+    if (!bucket.remove(packBlock(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()), owner))
+      return false;
+
+    // Drop empty buckets to keep chunk rejections cheap
+    if (bucket.isEmpty())
+      chunks.remove(chunkKey);
+
+    return true;
+  }
+
+  @Override
+  public <T> Optional<T> lookup(Block block, Class<T> type) {
+    return lookup(block.getWorld(), block.getX(), block.getY(), block.getZ(), type);
+  }
+
+  @Override
+  public <T> Optional<T> lookup(@Nullable Location loc, Class<T> type) {
+    if (loc == null || loc.getWorld() == null)
+      return Optional.empty();
+
+    return lookup(loc.getWorld(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ(), type);
+  }
+
+  @Override
+  public void cleanup() {
+    owners.clear();
+  }
+
+  @Override
+  public void initialize() {}
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Look up the owner of a block by it's coordinates
+   * @param world World of the block
+   * @param x X coordinate of the block
+   * @param y Y coordinate of the block
+   * @param z Z coordinate of the block
+   * @param type Type of the owner
+   * @return Optional owner, empty if the block is unowned or owned by another type
+   */
+  private <T> Optional<T> lookup(World world, int x, int y, int z, Class<T> type) {
+    Map<Long, Map<Long, Object>> chunks = owners.get(world.getUID());
+    if (chunks == null)
+      return Optional.empty();
+
+    Map<Long, Object> bucket = chunks.get(packChunk(x >> 4, z >> 4));
+    if (bucket == null)
+      return Optional.empty();
+
+    Object owner = bucket.get(packBlock(x, y, z));
+    if (!type.isInstance(owner))
+      return Optional.empty();
+
+    return Optional.of(type.cast(owner));
+  }
+
+  /**
+   * Pack a block's coordinates into a single long, using 26 bits
+   * for x and z each as well as 12 bits for y
+   * @param x X coordinate of the block
+   * @param y Y coordinate of the block
+   * @param z Z coordinate of the block
+   * @return Packed coordinates
+   */
+  private static long packBlock(int x, int y, int z) {
+    return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFFL);
+  }
+
+  /**
+   * Pack a chunk's coordinates into a single long
+   * @param chunkX X coordinate of the chunk
+   * @param chunkZ Z coordinate of the chunk
+   * @return Packed coordinates
+   */
+  private static long packChunk(int chunkX, int chunkZ) {
+    return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+  }
+}
@@ -6,26 +6,30 @@ import me.blvckbytes.blvcksys.persistence.models.CrateModel;
 import net.minecraft.util.Tuple;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 05/29/2022
 
-  Represents a cached crate with it's items and a live probability range map.
+  Represents a cached crate with it's items and a live alias table
+  which allows to draw items in constant time, see Vose's alias method.
 */
 public class CachedCrate {
 
-  // Random used for drawing
-  private static final Random rand = new Random();
-
   @Getter
   private final CrateModel crate;
-  private Map<CrateItemModel, Double> items;
-  private double totalProbability;
+  private List<CrateItemModel> items;
+
+  // Probability of keeping the rolled column, per column
+  private double[] keepProbabilities;
+
+  // Index of the alias to fall back to, per column
+  private int[] aliases;
 
   /**
    * Create a new cached crate from it's underlying crate model and a list of items
-   * which will be converted into a probability range map
+   * which will be converted into an alias table
    * @param crate Underlying crate
    * @param items Items of the crate
    */
@@ -38,50 +42,50 @@ public class CachedCrate {
    * Get this crate as a tuple of the crate and a list of all of it's items
    */
   public Tuple<CrateModel, List<CrateItemModel>> asTuple() {
-    return new Tuple<>(crate, items.keySet().stream().toList());
+    return new Tuple<>(crate, getItems());
   }
 
   /**
-   * Add a new crate item and internally calculate all new probabilities
+   * Add a new crate item and internally rebuild the alias table
    * @param item New item to add
    */
   public void addItem(CrateItemModel item) {
-    List<CrateItemModel> items = new ArrayList<>(this.items.keySet());
+    List<CrateItemModel> items = new ArrayList<>(this.items);
     items.add(item);
     setItems(items);
   }
 
   /**
-   * Remove a crate item if it exists and internally calculate all new probabilities
+   * Remove a crate item if it exists and internally rebuild the alias table
    * @param item Item to remove
    */
   public void removeItem(CrateItemModel item) {
-    if (items.remove(item) != null)
-      setItems(items.keySet().stream().toList());
+    List<CrateItemModel> items = new ArrayList<>(this.items);
+    if (items.remove(item))
+      setItems(items);
   }
 
   /**
-   * Update the crate by re-calculating all probabilities
+   * Update the crate by rebuilding the alias table from the current probabilities
    */
   public void update() {
-    setItems(items.keySet().stream().toList());
+    setItems(items);
   }
 
   /**
-   * Set new crate items and internally calculate all new probabilities
+   * Set new crate items and internally rebuild the alias table
    * @param items New list of items
    */
   public void setItems(List<CrateItemModel> items) {
-    Tuple<Double, Map<CrateItemModel, Double>> probs = buildProbabilityRanges(items);
-    this.items = probs.b();
-    this.totalProbability = probs.a();
+    this.items = new ArrayList<>(items);
+    buildAliasTable();
   }
 
   /**
    * Get all items within this crate
    */
   public List<CrateItemModel> getItems() {
-    return new ArrayList<>(items.keySet());
+    return new ArrayList<>(items);
   }
 
   /**
@@ -93,31 +97,97 @@ public class CachedCrate {
     if (items.size() == 0)
       return Optional.empty();
 
-    // Decide on an item by it's range
-    double targetRange = rand.nextDouble() * totalProbability;
-    for (CrateItemModel item : items.keySet()) {
-      if (items.get(item) >= targetRange)
-        return Optional.of(item);
-    }
+    return Optional.of(items.get(drawIndex(ThreadLocalRandom.current())));
+  }
+
+  /**
+   * Draw multiple crate items at once based on the item probabilities
+   * @param n Number of items to draw
+   * @return List of drawn items, empty if there were no items to draw from
+   */
+  public List<CrateItemModel> drawItems(int n) {
+    List<CrateItemModel> res = new ArrayList<>(Math.max(0, n));
+
+    // Nothing to draw from
+    if (items.size() == 0)
+      return res;
+
+    ThreadLocalRandom rand = ThreadLocalRandom.current();
+    for (int i = 0; i < n; i++)
+      res.add(items.get(drawIndex(rand)));
 
-    return Optional.empty();
+    return res;
   }
 
   /**
-   * Build probability ranges for all items
-   * @param items Items to build ranges for
-   * @return Tuple of the total probability as well as the range map
+   * Draw the index of an item by rolling a column and then deciding
+   * between the column itself and it's alias
+   * @param rand Random to draw with
+   * @return Index of the drawn item
    */
-  private Tuple<Double, Map<CrateItemModel, Double>> buildProbabilityRanges(List<CrateItemModel> items) {
-    // Use a linked hash map here to preserve insertion order
-    Map<CrateItemModel, Double> ranges = new LinkedHashMap<>();
-
-    double accumulator = 0;
-    for (CrateItemModel item : items) {
-      accumulator += item.getProbability();
-      ranges.put(item, accumulator);
+  private int drawIndex(ThreadLocalRandom rand) {
+    int column = rand.nextInt(aliases.length);
+    return rand.nextDouble() < keepProbabilities[column] ? column : aliases[column];
+  }
+
+  /**
+   * Build the alias table for all current items, where each column is split
+   * between the item itself and at most one alias which makes up the rest
+   */
+  private void buildAliasTable() {
+    int n = items.size();
+    keepProbabilities = new double[n];
+    aliases = new int[n];
+
+    if (n == 0)
+      return;
+
+    double totalProbability = 0;
+    for (CrateItemModel item : items)
+      totalProbability += item.getProbability();
+
+    // Scale the probabilities so that an average column is exactly full (1)
+    double[] scaled = new double[n];
+    for (int i = 0; i < n; i++)
+      scaled[i] = totalProbability <= 0 ? 1 : items.get(i).getProbability() * n / totalProbability;
+
+    // Work stacks of under- and overfull columns
+    int[] small = new int[n], large = new int[n];
+    int numSmall = 0, numLarge = 0;
+
+    for (int i = 0; i < n; i++) {
+      if (scaled[i] < 1)
+        small[numSmall++] = i;
+      else
+        large[numLarge++] = i;
+    }
+
+    // Fill up underfull columns with the excess of overfull columns
+    while (numSmall > 0 && numLarge > 0) {
+      int less = small[--numSmall], more = large[--numLarge];
+
+      keepProbabilities[less] = scaled[less];
+      aliases[less] = more;
+
+      scaled[more] = (scaled[more] + scaled[less]) - 1;
+
+      if (scaled[more] < 1)
+        small[numSmall++] = more;
+      else
+        large[numLarge++] = more;
     }
 
-    return new Tuple<>(accumulator, ranges);
+    // Remaining columns are full, small ones only remain due to rounding errors
+    while (numLarge > 0) {
+      int i = large[--numLarge];
+      keepProbabilities[i] = 1;
+      aliases[i] = i;
+    }
+
+    while (numSmall > 0) {
+      int i = small[--numSmall];
+      keepProbabilities[i] = 1;
+      aliases[i] = i;
+    }
   }
 }
@@ -16,6 +16,7 @@ import me.blvckbytes.blvcksys.persistence.exceptions.PersistenceException;
 import me.blvckbytes.blvcksys.persistence.models.*;
 import me.blvckbytes.blvcksys.persistence.query.EqualityOperation;
 import me.blvckbytes.blvcksys.persistence.query.QueryBuilder;
+import me.blvckbytes.blvcksys.util.logging.ILogger;
 import net.minecraft.util.Tuple;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -67,6 +68,8 @@ public class CrateHandler implements ICrateHandler, Listener, IAutoConstructed {
   private final IAnimationHandler animationHandler;
   private final ConfirmationGui confirmationGui;
   private final IConfig cfg;
+  private final IBlockRegistry blockRegistry;
+  private final ILogger logger;
 
   private BukkitTask effectTaskHandle;
 
@@ -75,13 +78,17 @@ public class CrateHandler implements ICrateHandler, Listener, IAutoConstructed {
     @AutoInject JavaPlugin plugin,
     @AutoInject IAnimationHandler animationHandler,
     @AutoInject ConfirmationGui confirmationGui,
-    @AutoInject IConfig cfg
+    @AutoInject IConfig cfg,
+    @AutoInject IBlockRegistry blockRegistry,
+    @AutoInject ILogger logger
   ) {
     this.pers = pers;
     this.plugin = plugin;
     this.animationHandler = animationHandler;
     this.confirmationGui = confirmationGui;
     this.cfg = cfg;
+    this.blockRegistry = blockRegistry;
+    this.logger = logger;
 
     this.crateCache = new HashMap<>();
     this.keyCache = new HashMap<>();
@@ -108,18 +115,34 @@ public class CrateHandler implements ICrateHandler, Listener, IAutoConstructed {
 
   @Override
   public boolean deleteCrate(String name) {
-    crateCache.remove(name.toLowerCase());
+    CachedCrate cc = crateCache.remove(name.toLowerCase());
+
+    if (cc != null)
+      blockRegistry.unregister(cc.getCrate().getLoc(), cc);
+
     return pers.delete(buildCrateQuery(name)) > 0;
   }
 
   @Override
   public boolean moveCrate(String name, @Nullable Location loc) {
-    CrateModel crate = getCrate(name).orElse(null);
+    CachedCrate cc = crateCache.get(name.toLowerCase());
 
-    if (crate == null)
+    if (cc == null)
+      return false;
+
+    CrateModel crate = cc.getCrate();
+
+    // Move the block registration along with the crate
+    blockRegistry.unregister(crate.getLoc(), cc);
+
+    // Refuse to move onto a block which is already owned by another feature
+    if (loc != null && !blockRegistry.register(loc, cc)) {
+      blockRegistry.register(crate.getLoc(), cc);
       return false;
+    }
 
     crate.setLoc(loc);
+
     pers.store(crate);
     return true;
   }
@@ -228,6 +251,16 @@ public class CrateHandler implements ICrateHandler, Listener, IAutoConstructed {
     return cc.drawItem();
   }
 
+  @Override
+  public Optional<List<CrateItemModel>> drawItems(String crateName, int n) {
+    CachedCrate cc = crateCache.get(crateName.toLowerCase());
+
+    if (cc == null)
+      return Optional.empty();
+
+    return Optional.of(cc.drawItems(n));
+  }
+
   @Override
   public List<CrateKeyModel> getAllKeys(OfflinePlayer p) {
     if (keyCache.containsKey(p))
@@ -297,11 +330,7 @@ public class CrateHandler implements ICrateHandler, Listener, IAutoConstructed {
 
   @EventHandler
   public void onBreak(BlockBreakEvent e) {
-    if (
-      crateCache.values().stream()
-        .map(CachedCrate::getCrate)
-        .anyMatch(crate -> crate.getLoc().equals(e.getBlock().getLocation()))
-    )
+    if (blockRegistry.lookup(e.getBlock(), CachedCrate.class).isPresent())
       e.setCancelled(true);
   }
 
@@ -312,11 +341,8 @@ public class CrateHandler implements ICrateHandler, Listener, IAutoConstructed {
 
     Player p = e.getPlayer();
 
-    Location l = e.getClickedBlock().getLocation();
-    CrateModel targetCrate = crateCache.values().stream()
+    CrateModel targetCrate = blockRegistry.lookup(e.getClickedBlock(), CachedCrate.class)
       .map(CachedCrate::getCrate)
-      .filter(crate -> crate.getLoc().equals(l))
-      .findFirst()
       .orElse(null);
 
     if (targetCrate == null)
@@ -403,6 +429,9 @@ public class CrateHandler implements ICrateHandler, Listener, IAutoConstructed {
     if (effectTaskHandle != null)
       effectTaskHandle.cancel();
 
+    for (CachedCrate cc : crateCache.values())
+      blockRegistry.unregister(cc.getCrate().getLoc(), cc);
+
     crateCache.clear();
     keyCache.clear();
   }
@@ -412,7 +441,12 @@ public class CrateHandler implements ICrateHandler, Listener, IAutoConstructed {
     // Load all creates and all items into the cache
     pers.list(CrateModel.class).forEach(crate -> {
       List<CrateItemModel> items = CrateItemModel.sequentize(pers.find(buildCrateItemsQuery(crate.getId())));
-      crateCache.put(crate.getName().toLowerCase(), new CachedCrate(crate, items));
+      CachedCrate cc = new CachedCrate(crate, items);
+      crateCache.put(crate.getName().toLowerCase(), cc);
+
+      // The crate stays usable by commands, but cannot be opened at it's block
+      if (crate.getLoc() != null && !blockRegistry.register(crate.getLoc(), cc))
+        logger.logError("The block of crate '" + crate.getName() + "' is already owned by another feature!");
     });
 
     // Task used to play crate effects
@@ -29,17 +29,20 @@ public class FakeArmorStand {
 
   private final Collection<? extends Player> recipients;
   private final IArmorStandCommunicator comm;
+  private final IFakeEntityRegistry fakeEntities;
   private final Map<Player, Entity> actives;
   private ArmorStandProperties props;
   private Location loc;
 
   public FakeArmorStand(
     IArmorStandCommunicator comm,
+    IFakeEntityRegistry fakeEntities,
     ArmorStandProperties props,
     Location loc,
     @Nullable Collection<? extends Player> recipients
   ) {
     this.comm = comm;
+    this.fakeEntities = fakeEntities;
     this.props = props;
     this.loc = loc;
     this.recipients = recipients;
@@ -79,6 +82,7 @@ public class FakeArmorStand {
         if (actives.containsKey(t)) {
           Entity handle = actives.remove(t);
           comm.delete(t, handle);
+          fakeEntities.unregister(handle.getEntityId());
         }
 
         continue;
@@ -98,7 +102,9 @@ public class FakeArmorStand {
     // Destroy the armor stand for all active players
     for (Iterator<Player> activeI = actives.keySet().iterator(); activeI.hasNext();) {
       Player p = activeI.next();
-      comm.delete(p, actives.get(p));
+      Entity handle = actives.get(p);
+      comm.delete(p, handle);
+      fakeEntities.unregister(handle.getEntityId());
       activeI.remove();
     }
   }
@@ -114,13 +120,21 @@ public class FakeArmorStand {
 
     Entity handle = comm.create(p, loc, props);
     actives.put(p, handle);
+    fakeEntities.register(handle.getEntityId(), this, null);
   }
 
   /**
    * Cleans out offline player entries from the active list
    */
   private void cleanupOfflinePlayers() {
-    actives.keySet().removeIf(p -> !p.isOnline());
+    for (Iterator<Map.Entry<Player, Entity>> activeI = actives.entrySet().iterator(); activeI.hasNext();) {
+      Map.Entry<Player, Entity> active = activeI.next();
+      if (active.getKey().isOnline())
+        continue;
+
+      fakeEntities.unregister(active.getValue().getEntityId());
+      activeI.remove();
+    }
   }
 
   /**
@@ -0,0 +1,144 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import me.blvckbytes.blvcksys.di.AutoConstruct;
+import me.blvckbytes.blvcksys.di.AutoInject;
+import me.blvckbytes.blvcksys.packets.IPacketInterceptor;
+import me.blvckbytes.blvcksys.packets.IPacketModifier;
+import me.blvckbytes.blvcksys.packets.ModificationPriority;
+import me.blvckbytes.blvcksys.packets.PacketSource;
+import me.blvckbytes.blvcksys.util.IntObjectMap;
+import me.blvckbytes.blvcksys.util.MCReflect;
+import me.blvckbytes.blvcksys.util.logging.ILogger;
+import net.minecraft.network.NetworkManager;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.PacketPlayInUseEntity;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Keeps track of all fake entities which are only known to the clients, mapping
+  their entity IDs to their owner and an interaction callback. Interaction packets
+  are routed to the callback of the used entity by a single lookup. Callbacks may
+  relay an interaction to another fake entity by rewriting the packet's entity ID.
+*/
+@AutoConstruct
+public class FakeEntityRegistry implements IFakeEntityRegistry, IPacketModifier {
+
+  // Maximum number of times an interaction may be relayed to another fake entity
+  private static final int MAX_RELAYS = 4;
+
+  private record FakeEntity(Object owner, @Nullable IFakeEntityInteraction interaction) {}
+
+  // Mapping entity IDs to fake entities, accessed by both the main and the network thread
+  private final IntObjectMap<FakeEntity> entities;
+
+  private final MCReflect refl;
+  private final ILogger logger;
+
+  public FakeEntityRegistry(
+    @AutoInject IPacketInterceptor interceptor,
+    @AutoInject MCReflect refl,
+    @AutoInject ILogger logger
+  ) {
+    this.refl = refl;
+    this.logger = logger;
+    this.entities = new IntObjectMap<>(256);
+
+    interceptor.register(this, ModificationPriority.HIGH);
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  @Override
+  public void register(int entityId, Object owner, @Nullable IFakeEntityInteraction interaction) {
+    // Entity ID generation failed
+    if (entityId <= 0)
+      return;
+
+    synchronized (entities) {
+      entities.put(entityId, new FakeEntity(owner, interaction));
+    }
+  }
+
+  @Override
+  public void unregister(int entityId) {
+    synchronized (entities) {
+      entities.remove(entityId);
+    }
+  }
+
+  @Override
+  public Optional<Object> getOwner(int entityId) {
+    return Optional.ofNullable(lookup(entityId)).map(FakeEntity::owner);
+  }
+
+  @Override
+  public Packet<?> modifyIncoming(UUID sender, PacketSource ps, Packet<?> incoming) {
+    // A player used an entity (left- or right click)
+    if (sender == null || !(incoming instanceof PacketPlayInUseEntity pack))
+      return incoming;
+
+    try {
+      int prevId = -1;
+
+      for (int i = 0; i < MAX_RELAYS; i++) {
+        int entityId = refl.getFieldByType(pack, int.class, 0);
+
+        // Not relayed to another entity
+        if (entityId == prevId)
+          return pack;
+
+        FakeEntity target = lookup(entityId);
+
+        // Not a fake entity or not interactive, let the packet through
+        if (target == null || target.interaction() == null)
+          return pack;
+
+        Player p = Bukkit.getPlayer(sender);
+        if (p == null)
+          return pack;
+
+        Packet<?> res = target.interaction().onInteract(p, ps, pack, target.owner());
+
+        // Packet has been dropped or substituted
+        if (res != pack)
+          return res;
+
+        prevId = entityId;
+      }
+    } catch (Exception e) {
+      logger.logError(e);
+    }
+
+    return incoming;
+  }
+
+  @Override
+  public Packet<?> modifyOutgoing(UUID receiver, NetworkManager nm, Packet<?> outgoing) {
+    return outgoing;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Look up a fake entity by it's ID
+   * @param entityId ID of the fake entity
+   * @return Fake entity, null if there's no fake entity with this ID
+   */
+  private @Nullable FakeEntity lookup(int entityId) {
+    synchronized (entities) {
+      return entities.get(entityId);
+    }
+  }
+}
@@ -3,9 +3,6 @@ package me.blvckbytes.blvcksys.handlers;
 import me.blvckbytes.blvcksys.di.AutoConstruct;
 import me.blvckbytes.blvcksys.di.AutoInject;
 import me.blvckbytes.blvcksys.di.IAutoConstructed;
-import me.blvckbytes.blvcksys.packets.IPacketInterceptor;
-import me.blvckbytes.blvcksys.packets.IPacketModifier;
-import me.blvckbytes.blvcksys.packets.ModificationPriority;
 import me.blvckbytes.blvcksys.packets.PacketSource;
 import me.blvckbytes.blvcksys.packets.communicators.armorstand.IArmorStandCommunicator;
 import me.blvckbytes.blvcksys.persistence.IPersistence;
@@ -16,10 +13,8 @@ import me.blvckbytes.blvcksys.persistence.query.EqualityOperation;
 import me.blvckbytes.blvcksys.persistence.query.FieldQueryGroup;
 import me.blvckbytes.blvcksys.persistence.query.QueryBuilder;
 import me.blvckbytes.blvcksys.util.MCReflect;
-import me.blvckbytes.blvcksys.util.logging.ILogger;
 import net.minecraft.core.BlockPosition;
 import net.minecraft.core.EnumDirection;
-import net.minecraft.network.NetworkManager;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.PacketPlayInUseEntity;
 import net.minecraft.network.protocol.game.PacketPlayInUseItem;
@@ -49,7 +44,7 @@ import java.util.*;
   this underlying fact for all callers.
 */
 @AutoConstruct
-public class HologramHandler implements IHologramHandler, IAutoConstructed, IPacketModifier {
+public class HologramHandler implements IHologramHandler, IAutoConstructed {
 
   // Specifies the time between hologram update triggers in ticks
   private static final long UPDATE_INTERVAL_TICKS = 20;
@@ -65,34 +60,31 @@ public class HologramHandler implements IHologramHandler, IAutoConstructed, IPac
   private final JavaPlugin plugin;
   private final IArmorStandCommunicator holoComm;
   private final ILiveVariableSupplier varSupp;
-  private final ILogger logger;
   private final MCReflect refl;
   private final INpcHandler npcs;
+  private final IFakeEntityRegistry fakeEntities;
 
   public HologramHandler(
     @AutoInject IPersistence pers,
     @AutoInject JavaPlugin plugin,
     @AutoInject IArmorStandCommunicator holoComm,
     @AutoInject ILiveVariableSupplier varSupp,
-    @AutoInject IPacketInterceptor interceptor,
-    @AutoInject ILogger logger,
     @AutoInject MCReflect refl,
-    @AutoInject INpcHandler npcs
+    @AutoInject INpcHandler npcs,
+    @AutoInject IFakeEntityRegistry fakeEntities
   ) {
     this.pers = pers;
     this.plugin = plugin;
     this.holoComm = holoComm;
     this.intervalHandle = -1;
     this.varSupp = varSupp;
-    this.logger = logger;
     this.refl = refl;
     this.npcs = npcs;
+    this.fakeEntities = fakeEntities;
 
     this.time = 0L;
     this.cache = new HashMap<>();
     this.holograms = new HashMap<>();
-
-    interceptor.register(this, ModificationPriority.HIGH);
   }
 
   //=========================================================================//
@@ -261,7 +253,9 @@ public class HologramHandler implements IHologramHandler, IAutoConstructed, IPac
     String name = UUID.randomUUID().toString();
 
     // Create and register it
-    MultilineHologram tmp = new MultilineHologram(name, loc, lines, recipients, holoComm, varSupp, plugin);
+    MultilineHologram tmp = new MultilineHologram(
+      name, loc, lines, recipients, holoComm, varSupp, plugin, fakeEntities, this::onInteract
+    );
     tmp.tick(time);
     holograms.put(name, tmp);
     return tmp;
@@ -297,80 +291,58 @@ public class HologramHandler implements IHologramHandler, IAutoConstructed, IPac
     }, 0L, UPDATE_INTERVAL_TICKS);
   }
 
-  @Override
-  public Packet<?> modifyIncoming(UUID sender, PacketSource ps, Packet<?> incoming) {
-    // A player used an entity (left- or right click)
-    if (sender != null && incoming instanceof PacketPlayInUseEntity pack) {
-
-      Player p = Bukkit.getPlayer(sender);
-      if (p == null)
-        return incoming;
-
-      try {
-        int entityId = refl.getFieldByType(pack, int.class, 0);
-
-        MultilineHologram holo = holograms.values().stream()
-          .filter(h -> h.containsEntityId(entityId))
-          .findFirst()
-          .orElse(null);
-
-        // Not a hologram
-        if (holo == null)
-          return incoming;
-
-        // List all npcs that contain this entityId (can only be one), then
-        // get the nearest npc from it's location and if that's present, modify the
-        // entity id within the packet to the npc's entity id to "relay" the click-event
-        Optional<FakeNpc> npc = npcs.getNearestNpc(holo.getLoc());
-
-        // There's an npc, modify and let the packet through
-        if (npc.isPresent())
-          refl.setFieldByType(pack, int.class, npc.get().getEntityId(), 0);
-
-        else {
-          Bukkit.getScheduler().runTask(plugin, () -> {
-            // Check if there's a player shadowed by this hologram
-            Entity targeted = getPlayerLookingAt(p).orElse(null);
-
-            // There's a player, modify and let the packet through
-            if (targeted != null) {
-              refl.setFieldByType(pack, int.class, targeted.getEntityId(), 0);
-              ps.send().accept(pack);
-              return;
-            }
-
-            // Would have interacted with a block, substitute the packet for a use
-            Block b = p.getTargetBlockExact(5, FluidCollisionMode.NEVER);
-            if (b != null) {
-              Location l = b.getLocation();
-              Vec3D v = new Vec3D(l.getX(), l.getY(), l.getZ());
-              ps.send().accept(new PacketPlayInUseItem(EnumHand.a, new MovingObjectPositionBlock(
-                v, EnumDirection.b, new BlockPosition(v), false
-              )));
-            }
-          });
-
-          // Drop the packet in all cases, as it's either going to be re-sent
-          // synchronously or there's nothing real interacted with
-          return null;
-        }
-
-      } catch (Exception e) {
-        logger.logError(e);
-      }
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Handles interactions with the lines of persistent holograms, which would
+   * otherwise shadow the npc or player behind them
+   * @param p Interacting player
+   * @param ps Source of the packet
+   * @param pack Interaction packet
+   * @param owner Hologram which has been interacted with
+   * @return Packet to let through, null to drop the packet
+   */
+  private Packet<?> onInteract(Player p, PacketSource ps, PacketPlayInUseEntity pack, Object owner) {
+    MultilineHologram holo = (MultilineHologram) owner;
+
+    // Get the nearest npc from the hologram's location and if that's present, modify the
+    // entity id within the packet to the npc's entity id to "relay" the click-event
+    Optional<FakeNpc> npc = npcs.getNearestNpc(holo.getLoc());
 
+    // There's an npc, modify and let the packet through
+    if (npc.isPresent()) {
+      refl.setFieldByType(pack, int.class, npc.get().getEntityId(), 0);
+      return pack;
     }
-    return incoming;
-  }
 
-  @Override
-  public Packet<?> modifyOutgoing(UUID receiver, NetworkManager nm, Packet<?> outgoing) {
-    return outgoing;
-  }
+    Bukkit.getScheduler().runTask(plugin, () -> {
+      // Check if there's a player shadowed by this hologram
+      Entity targeted = getPlayerLookingAt(p).orElse(null);
 
-  //=========================================================================//
-  //                                Utilities                                //
-  //=========================================================================//
+      // There's a player, modify and let the packet through
+      if (targeted != null) {
+        refl.setFieldByType(pack, int.class, targeted.getEntityId(), 0);
+        ps.send().accept(pack);
+        return;
+      }
+
+      // Would have interacted with a block, substitute the packet for a use
+      Block b = p.getTargetBlockExact(5, FluidCollisionMode.NEVER);
+      if (b != null) {
+        Location l = b.getLocation();
+        Vec3D v = new Vec3D(l.getX(), l.getY(), l.getZ());
+        ps.send().accept(new PacketPlayInUseItem(EnumHand.a, new MovingObjectPositionBlock(
+          v, EnumDirection.b, new BlockPosition(v), false
+        )));
+      }
+    });
+
+    // Drop the packet in all cases, as it's either going to be re-sent
+    // synchronously or there's nothing real interacted with
+    return null;
+  }
 
   /**
    * Get the player a player's looking at by casting a ray into the world and
@@ -494,7 +466,9 @@ public class HologramHandler implements IHologramHandler, IAutoConstructed, IPac
 
     // Hologram didn't yet exist, create it
     if (!this.holograms.containsKey(name.toLowerCase()))
-      this.holograms.put(name.toLowerCase(), new MultilineHologram(name, loc, strLines, null, holoComm, varSupp, plugin));
+      this.holograms.put(name.toLowerCase(), new MultilineHologram(
+        name, loc, strLines, null, holoComm, varSupp, plugin, fakeEntities, this::onInteract
+      ));
 
     // Update the existing hologram
     else {
@@ -0,0 +1,48 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/23/2022
+
+  Public interfaces which the block registry provides to other consumers.
+*/
+public interface IBlockRegistry {
+
+  /**
+   * Register an owner at the block a location resides in
+   * @param loc Location of the target block, null locations are ignored
+   * @param owner Owning feature object
+   * @return True on success, false if the block is already owned by another object
+   */
+  boolean register(@Nullable Location loc, Object owner);
+
+  /**
+   * Unregister an owner from the block a location resides in
+   * @param loc Location of the target block, null locations are ignored
+   * @param owner Owning feature object, only it's own registration will be removed
+   * @return True on success, false if the block wasn't owned by this object
+   */
+  boolean unregister(@Nullable Location loc, Object owner);
+
+  /**
+   * Look up the owner of a block, if it's of the requested type
+   * @param block Block to look up
+   * @param type Type of the owner
+   * @return Optional owner, empty if the block is unowned or owned by another type
+   */
+  <T> Optional<T> lookup(Block block, Class<T> type);
+
+  /**
+   * Look up the owner of the block a location resides in, if it's of the requested type
+   * @param loc Location of the block to look up
+   * @param type Type of the owner
+   * @return Optional owner, empty if the block is unowned or owned by another type
+   */
+  <T> Optional<T> lookup(@Nullable Location loc, Class<T> type);
+}
@@ -41,7 +41,8 @@ public interface ICrateHandler {
    * Move a crate by it's name to a new location
    * @param name Name of the crate
    * @param loc New location, null to delete the location value
-   * @return True on success, false if there was no crate with this name
+   * @return True on success, false if there was no crate with this name or
+   * if the block is already owned by another feature
    */
   boolean moveCrate(String name, @Nullable Location loc);
 
@@ -124,10 +125,18 @@ public interface ICrateHandler {
   /**
    * Draw an item randomly based on the item's probabilities
    * @param crateName Crate to draw from
-   * @return Optional drawn item, empty if there was crate with this name
+   * @return Optional drawn item, empty if there was no crate with this name
    */
   Optional<CrateItemModel> drawItem(String crateName);
 
+  /**
+   * Draw multiple items at once randomly based on the item's probabilities
+   * @param crateName Crate to draw from
+   * @param n Number of items to draw
+   * @return Optional list of drawn items, empty if there was no crate with this name
+   */
+  Optional<List<CrateItemModel>> drawItems(String crateName, int n);
+
   /**
    * Get all crate keys of a player
    * @param p
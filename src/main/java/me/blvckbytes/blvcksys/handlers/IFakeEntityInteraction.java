@@ -0,0 +1,28 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import me.blvckbytes.blvcksys.packets.PacketSource;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.PacketPlayInUseEntity;
+import org.bukkit.entity.Player;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Represents a callback which handles a player's interaction with a fake
+  entity. It's invoked on the network thread, so all further processing
+  which touches the world has to be scheduled synchronously.
+*/
+@FunctionalInterface
+public interface IFakeEntityInteraction {
+
+  /**
+   * Called whenever a player used (left- or right clicked) a fake entity
+   * @param p Interacting player
+   * @param ps Source of the packet
+   * @param packet Interaction packet
+   * @param owner Owner of the fake entity
+   * @return Packet to let through, null to drop the packet
+   */
+  Packet<?> onInteract(Player p, PacketSource ps, PacketPlayInUseEntity packet, Object owner) throws Exception;
+}
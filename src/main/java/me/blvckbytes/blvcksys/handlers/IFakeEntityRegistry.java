@@ -0,0 +1,35 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Public interfaces which the fake entity registry provides to other consumers.
+ */
+public interface IFakeEntityRegistry {
+
+  /**
+   * Register a fake entity, which replaces any previous registration of the same ID
+   * @param entityId ID of the fake entity
+   * @param owner Owner of the fake entity, which is passed to the interaction callback
+   * @param interaction Interaction callback, null to let interactions pass through
+   */
+  void register(int entityId, Object owner, @Nullable IFakeEntityInteraction interaction);
+
+  /**
+   * Unregister a fake entity
+   * @param entityId ID of the fake entity
+   */
+  void unregister(int entityId);
+
+  /**
+   * Get the owner of a fake entity
+   * @param entityId ID of the fake entity
+   * @return Owner, empty if there's no fake entity with this ID
+   */
+  Optional<Object> getOwner(int entityId);
+}
@@ -0,0 +1,21 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import java.io.IOException;
+import java.net.URL;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/25/2022
+
+  Public interfaces which the image fetcher provides to other consumers.
+*/
+public interface IImageFetcher {
+
+  /**
+   * Fetch the raw, still encoded bytes of an image, blocking the calling thread
+   * @param url URL of the image
+   * @return Bytes of the image
+   * @throws IOException Errors while fetching the image
+   */
+  byte[] fetch(URL url) throws IOException;
+}
@@ -1,6 +1,7 @@
 package me.blvckbytes.blvcksys.handlers;
 
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -12,9 +13,9 @@ public interface ILiveVariableSupplier {
 
   /**
    * Resolve a live variable in a player's context
-   * @param p Player to resolve for
+   * @param p Player to resolve for, may only be null for variables which are not player specific
    * @param variable Variable to resolve
    * @return String value to substitute
    */
-  String resolveVariable(Player p, LiveVariable variable);
+  String resolveVariable(@Nullable Player p, LiveVariable variable);
 }
@@ -0,0 +1,30 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import org.bukkit.OfflinePlayer;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Public interfaces which the player name index provides to other consumers.
+*/
+public interface IPlayerNameIndex {
+
+  /**
+   * Suggest names of players who have ever played on this server, where names
+   * starting with the input come first, followed by names containing the input
+   * @param input Typed out input, matched while ignoring casing
+   * @param limit Maximum number of suggestions
+   * @param exclude Players to exclude from the suggestions
+   * @return List of matching names
+   */
+  List<String> suggest(String input, int limit, Collection<? extends OfflinePlayer> exclude);
+
+  /**
+   * Get the number of indexed names
+   */
+  int size();
+}
@@ -5,6 +5,7 @@ import org.bukkit.OfflinePlayer;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 /*
@@ -16,11 +17,28 @@ import java.util.function.Consumer;
 public interface IPlayerStatsHandler {
 
   /**
-   * Get the top five ranked players for any given statistic
+   * Get a page of the top ranked players for any given statistic
    * @param statistic Statistic to rank by
-   * @return List of top five players, or less, if less players played before
+   * @param offset Number of ranks to skip
+   * @param limit Maximum number of players to list
+   * @return List of players in order of their rank, or less, if less players played before
    */
-  List<PlayerStatsModel> getTop5Ranked(PlayerStatistic statistic);
+  List<PlayerStatsModel> getTopRanked(PlayerStatistic statistic, int offset, int limit);
+
+  /**
+   * Get the rank of a player within any given statistic
+   * @param p Target player
+   * @param statistic Statistic to rank by
+   * @return One-based rank, empty if the player has no stats
+   */
+  Optional<Integer> getRank(OfflinePlayer p, PlayerStatistic statistic);
+
+  /**
+   * Get the number of ranked players within any given statistic
+   * @param statistic Statistic to rank by
+   * @return Number of ranked players
+   */
+  int getNumRanked(PlayerStatistic statistic);
 
   /**
    * Register an interest in statistic updates for a specific category
@@ -37,11 +55,38 @@ public interface IPlayerStatsHandler {
   double calculateKD(OfflinePlayer p);
 
   /**
-   * Add to the amount of money a player owns
+   * Atomically add to the amount of money a player owns, where negative
+   * amounts never take more money than the player currently owns
+   * @param p Target player
+   * @param amount Amount of money
+   * @return Amount of money the player owns afterwards
+   */
+  int addMoney(OfflinePlayer p, int amount);
+
+  /**
+   * Atomically take money from a player, if they own enough of it
+   * @param p Target player
+   * @param amount Amount of money
+   * @return True if the money has been taken, false if the player doesn't own enough
+   */
+  boolean takeMoney(OfflinePlayer p, int amount);
+
+  /**
+   * Atomically transfer money from one player to another, if the sender owns enough of it
+   * @param from Sending player
+   * @param to Receiving player
+   * @param amount Amount of money, has to be positive
+   * @return True if the money has been transferred, false if the sender doesn't own enough
+   */
+  boolean transferMoney(OfflinePlayer from, OfflinePlayer to, int amount);
+
+  /**
+   * Atomically set the amount of money a player owns
    * @param p Target player
    * @param amount Amount of money
+   * @return Amount of money the player owned before
    */
-  void addMoney(OfflinePlayer p, int amount);
+  int setMoney(OfflinePlayer p, int amount);
 
   /**
    * Set the last login stamp of a player
@@ -0,0 +1,50 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import me.blvckbytes.blvcksys.di.AutoConstruct;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/25/2022
+
+  Fetches images from their URL with bounded timeouts and a maximum
+  size, so that slow or huge resources can't stall image loading workers.
+*/
+@AutoConstruct
+public class ImageFetcher implements IImageFetcher {
+
+  // Timeouts for connecting and reading in milliseconds
+  private static final int CONNECT_TIMEOUT = 5000, READ_TIMEOUT = 10000;
+
+  // Maximum number of bytes an image may consist of
+  private static final int MAX_SIZE = 16 * 1024 * 1024;
+
+  @Override
+  public byte[] fetch(URL url) throws IOException {
+    URLConnection connection = url.openConnection();
+    connection.setConnectTimeout(CONNECT_TIMEOUT);
+    connection.setReadTimeout(READ_TIMEOUT);
+
+    try (
+      InputStream is = connection.getInputStream();
+      ByteArrayOutputStream os = new ByteArrayOutputStream()
+    ) {
+      byte[] buf = new byte[8192];
+      int read;
+
+      while ((read = is.read(buf)) >= 0) {
+        if (os.size() + read > MAX_SIZE)
+          throw new IOException("The image at " + url + " exceeds " + MAX_SIZE + " bytes");
+
+        os.write(buf, 0, read);
+      }
+
+      return os.toByteArray();
+    }
+  }
+}
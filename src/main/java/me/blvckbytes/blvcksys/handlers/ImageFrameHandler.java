@@ -10,7 +10,9 @@ import me.blvckbytes.blvcksys.persistence.models.ImageFrameModel;
 import me.blvckbytes.blvcksys.persistence.models.ImageFrameType;
 import me.blvckbytes.blvcksys.persistence.query.EqualityOperation;
 import me.blvckbytes.blvcksys.persistence.query.QueryBuilder;
+import me.blvckbytes.blvcksys.util.GifDecoder;
 import me.blvckbytes.blvcksys.util.PlayerSkin;
+import me.blvckbytes.blvcksys.util.UnsafeSupplier;
 import me.blvckbytes.blvcksys.util.logging.ILogger;
 import net.minecraft.util.Tuple;
 import org.bukkit.Bukkit;
@@ -28,37 +30,112 @@ import org.bukkit.profile.PlayerTextures;
 import org.jetbrains.annotations.Nullable;
 
 import javax.imageio.ImageIO;
-import java.io.File;
+import java.awt.image.BufferedImage;
+import java.io.*;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 05/09/2022
 
-  Holds multiple item frame groups and handles what they display.
+  Holds multiple item frame groups and handles what they display. Content is
+  loaded asynchronously and converted framebuffers are kept in a disk cache,
+  which is addressed by the source's content and the conversion parameters.
+  The disk cache is bounded in size by evicting the least recently used entries.
+
+  Animated GIFs are decoded into all of their frames. Decoded animations are
+  accounted against a memory budget and the least recently displayed animations
+  are evicted to still images of their first frame once it's exceeded.
  */
 @AutoConstruct
 public class ImageFrameHandler implements IImageFrameHandler, IAutoConstructed, Listener {
 
+  /**
+   * Decodes raw data into the images to display
+   */
+  @FunctionalInterface
+  private interface FrameDecoder {
+
+    /**
+     * Decode raw data
+     * @param data Raw, still encoded data
+     * @param maxFrames Maximum number of frames to decode
+     * @param consumer Consumer of the decoded images and their delays
+     */
+    void decode(byte[] data, int maxFrames, GifDecoder.FrameConsumer consumer) throws Exception;
+  }
+
+  /**
+   * Represents the source of a group's content
+   * @param id Identifies where the data originates from
+   * @param data Supplier of the raw, still encoded data
+   * @param decoder Decoder which turns the raw data into the images to display and their delays
+   * @param kind Kind of conversion that the decoder applies
+   * @param dither Whether to dither the image's colors
+   */
+  private record ImageSource(
+    String id,
+    UnsafeSupplier<byte[]> data,
+    FrameDecoder decoder,
+    String kind,
+    boolean dither
+  ) {}
+
+  // Folder within the plugin's data folder which holds converted framebuffers
+  private static final String CACHE_FOLDER = "imageframes/.cache";
+
+  // Maximum number of bytes the disk cache may occupy before the least recently used entries are evicted
+  private static final long CACHE_MAX_BYTES = 256L * 1024 * 1024;
+
+  // Time in milliseconds after which a source is fetched again, even if it's conversion is cached
+  private static final long SOURCE_MAX_AGE_MS = 6L * 60 * 60 * 1000;
+
+  // Maximum number of bytes all decoded animations may occupy in memory
+  private static final long ANIMATION_BUDGET = 64L * 1024 * 1024;
+
   private final Map<String, ItemFrameGroup> groups;
   private final Map<String, ImageFrameModel> cache;
 
+  // Decoded animations in order of their last access, and their total size in bytes
+  private final LinkedHashMap<MapAnimation, Long> animations;
+  private long animationBytes;
+
+  // Loads which are currently running, by their source and conversion parameters
+  private final Map<String, CompletableFuture<MapAnimation>> pendingLoads;
+
+  // Serializes evictions from the disk cache
+  private final Object cacheLock;
+
   private final IPersistence pers;
   private final ILogger logger;
   private final JavaPlugin plugin;
+  private final IBlockRegistry blockRegistry;
+  private final IImageFetcher fetcher;
 
   public ImageFrameHandler(
     @AutoInject ILogger logger,
     @AutoInject IPersistence pers,
-    @AutoInject JavaPlugin plugin
+    @AutoInject JavaPlugin plugin,
+    @AutoInject IBlockRegistry blockRegistry,
+    @AutoInject IImageFetcher fetcher
   ) {
     this.logger = logger;
     this.pers = pers;
     this.plugin = plugin;
+    this.blockRegistry = blockRegistry;
+    this.fetcher = fetcher;
 
     this.groups = new HashMap<>();
     this.cache = new HashMap<>();
+    this.animations = new LinkedHashMap<>(16, 0.75F, true);
+    this.pendingLoads = new HashMap<>();
+    this.cacheLock = new Object();
   }
 
   //=========================================================================//
@@ -68,9 +145,11 @@ public class ImageFrameHandler implements IImageFrameHandler, IAutoConstructed,
   @Override
   public void cleanup() {
     for (ItemFrameGroup group : groups.values())
-      group.destroy();
+      destroyGroup(group);
 
     groups.clear();
+    animations.clear();
+    animationBytes = 0;
   }
 
   @Override
@@ -110,12 +189,9 @@ public class ImageFrameHandler implements IImageFrameHandler, IAutoConstructed,
 
   @Override
   public ItemFrameGroup findGroupByMember(ItemFrame member) {
-    for (ItemFrameGroup group : groups.values()) {
-      if (group.isMember(member))
-        return group;
-    }
-
-    return null;
+    return blockRegistry.lookup(member.getLocation(), ItemFrameGroup.class)
+      .filter(group -> group.isMember(member))
+      .orElse(null);
   }
 
   @Override
@@ -151,8 +227,9 @@ public class ImageFrameHandler implements IImageFrameHandler, IAutoConstructed,
     if (ret) {
       ItemFrameGroup grp = groups.remove(name.toLowerCase());
       if (grp != null)
-        grp.destroy();
+        destroyGroup(grp);
       cache.remove(name.toLowerCase());
+      enforceAnimationBudget();
     }
 
     return ret;
@@ -166,7 +243,7 @@ public class ImageFrameHandler implements IImageFrameHandler, IAutoConstructed,
       return false;
 
     for (Player t : Bukkit.getOnlinePlayers())
-      loadContent(group, t);
+      loadContent(group, t, true);
 
     return true;
   }
@@ -178,13 +255,16 @@ public class ImageFrameHandler implements IImageFrameHandler, IAutoConstructed,
   @EventHandler
   public void onJoin(PlayerJoinEvent e) {
     for (ItemFrameGroup group : groups.values())
-      loadContent(group, e.getPlayer());
+      loadContent(group, e.getPlayer(), false);
   }
 
   @EventHandler
   public void onQuit(PlayerQuitEvent e) {
     for (ItemFrameGroup group : groups.values())
       group.clearFramebuffer(e.getPlayer());
+
+    // Release animations which nobody watches anymore
+    enforceAnimationBudget();
   }
 
   //=========================================================================//
@@ -225,58 +305,387 @@ public class ImageFrameHandler implements IImageFrameHandler, IAutoConstructed,
       logger
     );
 
+    // Register all members to be able to resolve their group by block
+    List<ItemFrame> registered = new ArrayList<>();
+    for (ItemFrame member : newGroup.getMembers()) {
+      if (blockRegistry.register(member.getLocation(), newGroup)) {
+        registered.add(member);
+        continue;
+      }
+
+      // Refuse to load a group which overlaps with blocks owned by another feature
+      for (ItemFrame prev : registered)
+        blockRegistry.unregister(prev.getLocation(), newGroup);
+
+      newGroup.destroy();
+      logger.logError("The frames of image frame group '" + model.getName() + "' are already owned by another feature!");
+      return;
+    }
+
     cache.put(model.getName().toLowerCase(), model);
 
     // Load content for all currently online players
     for (Player t : Bukkit.getOnlinePlayers())
-      loadContent(newGroup, t);
+      loadContent(newGroup, t, false);
 
     groups.put(model.getName().toLowerCase(), newGroup);
   }
 
   /**
-   * Load the custom content for a given frame group for a given player
+   * Unregister all members of a group and destroy it afterwards
+   * @param group Group to destroy
+   */
+  private void destroyGroup(ItemFrameGroup group) {
+    for (ItemFrame member : group.getMembers())
+      blockRegistry.unregister(member.getLocation(), group);
+
+    group.destroy();
+  }
+
+  /**
+   * Load the custom content for a given frame group for a given player. A placeholder
+   * is shown while the content is fetched, decoded and converted on a worker thread.
    * @param group Target frame group
    * @param p Player to display for
+   * @param refetch Whether to fetch the source again, even if a recent conversion is cached
    */
-  private void loadContent(ItemFrameGroup group, Player p) {
+  private void loadContent(ItemFrameGroup group, Player p, boolean refetch) {
+    ImageSource source;
+
     try {
-      ImageFrameModel model = cache.get(group.getName().toLowerCase());
+      // Resolve the source on the main thread, as it may depend on the player's state
+      source = resolveSource(cache.get(group.getName().toLowerCase()), p);
+    } catch (Exception e) {
+      group.clearFramebuffer(p);
+      logger.logError(e);
+      return;
+    }
 
-      if (model == null) {
-        group.clearFramebuffer(p);
+    if (source == null) {
+      group.clearFramebuffer(p);
+      return;
+    }
+
+    int ticket = group.beginLoad(p);
+
+    loadShared(group, source, refetch).whenComplete((content, e) -> {
+      if (e != null)
+        logger.logError(e instanceof Exception ex ? ex : new Exception(e));
+
+      // Plugin has been disabled in the meantime, the group is gone
+      if (!plugin.isEnabled())
         return;
+
+      // Re-sync to apply the result, if the group still exists
+      MapAnimation result = e == null ? content : null;
+      Bukkit.getScheduler().runTask(plugin, () -> {
+        if (groups.get(group.getName().toLowerCase()) != group || !p.isOnline())
+          return;
+
+        MapAnimation displayed = group.setContent(p, result, ticket);
+        if (displayed != null && displayed.getFrameCount() > 1)
+          trackAnimation(displayed);
+      });
+    });
+  }
+
+  /**
+   * Load content on a worker thread, where loads of the same source for the
+   * same group which are already running are joined instead of repeated
+   * @param group Group to fit the content to
+   * @param source Source of the content
+   * @param refetch Whether to fetch the source again, even if a recent conversion is cached
+   * @return Future of the loaded content
+   */
+  private CompletableFuture<MapAnimation> loadShared(ItemFrameGroup group, ImageSource source, boolean refetch) {
+    String key = source.id() + "_" + source.kind() + "_" +
+      group.getPixelWidth() + "x" + group.getPixelHeight() + (source.dither() ? "_d" : "");
+
+    CompletableFuture<MapAnimation> load;
+
+    synchronized (pendingLoads) {
+      CompletableFuture<MapAnimation> running = pendingLoads.get(key);
+      if (running != null)
+        return running;
+
+      load = new CompletableFuture<>();
+      pendingLoads.put(key, load);
+    }
+
+    Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+      MapAnimation content = null;
+      Exception error = null;
+
+      try {
+        content = loadAnimation(group, source, refetch);
+      } catch (Exception e) {
+        error = e;
       }
 
-      String resource = model.getResource();
-      if (resource != null) {
-        resource = resource
-          .replace("{name}", p.getName())
-          .replace("{uuid}", p.getUniqueId().toString());
+      // Following requests start a new load, as the source may have changed by then
+      synchronized (pendingLoads) {
+        pendingLoads.remove(key);
       }
 
-      switch (model.getType()) {
-        case PLAYER_SKIN -> {
-          PlayerTextures textures = p.getPlayerProfile().getTextures();
-          PlayerSkin skin = new PlayerSkin(textures.getSkin(), textures.getSkinModel());
-          group.setFramebuffer(p, skin.getFullRender());
-        }
-
-        case URL_IMAGE -> {
-          if (resource != null)
-            group.setFramebuffer(p, ImageIO.read(new URL(resource)));
-        }
-
-        case FILE_IMAGE -> {
-          if (resource != null) {
-            String path = plugin.getDataFolder().getAbsolutePath() + "/imageframes/" + resource;
-            group.setFramebuffer(p, ImageIO.read(new File(path)));
-          }
-        }
+      if (error != null)
+        load.completeExceptionally(error);
+      else
+        load.complete(content);
+    });
+
+    return load;
+  }
+
+  /**
+   * Resolve the source of a group's content for a given player
+   * @param model Model of the group
+   * @param p Player to display for
+   * @return Source of the content, null if there's nothing to display
+   */
+  private @Nullable ImageSource resolveSource(@Nullable ImageFrameModel model, Player p) throws Exception {
+    if (model == null)
+      return null;
+
+    String resource = model.getResource();
+    if (resource != null) {
+      resource = resource
+        .replace("{name}", p.getName())
+        .replace("{uuid}", p.getUniqueId().toString());
+    }
+
+    switch (model.getType()) {
+      case PLAYER_SKIN -> {
+        PlayerTextures textures = p.getPlayerProfile().getTextures();
+        URL skin = textures.getSkin();
+        PlayerTextures.SkinModel skinModel = textures.getSkinModel();
+
+        if (skin == null)
+          return null;
+
+        // Don't smear the skin's pixel-art by dithering
+        return new ImageSource(
+          "skin:" + skin,
+          () -> fetcher.fetch(skin),
+          (data, maxFrames, consumer) -> consumer.accept(new PlayerSkin(skin, skinModel, decodeImage(data)).getFullRender(), 0),
+          "skin_" + skinModel.name(), false
+        );
       }
-    } catch (Exception e) {
-      group.clearFramebuffer(p);
+
+      case URL_IMAGE -> {
+        if (resource == null)
+          return null;
+
+        URL url = new URL(resource);
+        return new ImageSource("url:" + url, () -> fetcher.fetch(url), this::decodeFrames, "image", true);
+      }
+
+      case FILE_IMAGE -> {
+        if (resource == null)
+          return null;
+
+        File file = new File(plugin.getDataFolder(), "imageframes/" + resource);
+        return new ImageSource("file:" + file, () -> Files.readAllBytes(file.toPath()), this::decodeFrames, "image", true);
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Load content from it's source data, either by reading the result of a previous
+   * conversion from the disk cache or by decoding and converting it and caching the result.
+   * Sources which have been fetched recently are not fetched again, as long as the
+   * conversion of the content they resolved to is still cached.
+   * @param group Group to fit the content to
+   * @param source Source of the content
+   * @param refetch Whether to fetch the source again, even if a recent conversion is cached
+   * @return Loaded content
+   */
+  private MapAnimation loadAnimation(ItemFrameGroup group, ImageSource source, boolean refetch) throws Exception {
+    String params = "_" + source.kind().toLowerCase() +
+      "_" + group.getPixelWidth() + "x" + group.getPixelHeight() +
+      (source.dither() ? "_d" : "");
+
+    File folder = new File(plugin.getDataFolder(), CACHE_FOLDER);
+    if (!folder.isDirectory() && !folder.mkdirs())
+      throw new IOException("Could not create the image cache folder " + folder);
+
+    // Points at the entry of the content which the source resolved to when it was last fetched
+    File sourceRef = new File(folder, sha256(source.id().getBytes(StandardCharsets.UTF_8)) + params + ".src");
+
+    if (!refetch && sourceRef.isFile() && System.currentTimeMillis() - sourceRef.lastModified() < SOURCE_MAX_AGE_MS) {
+      String refKey = Files.readString(sourceRef.toPath(), StandardCharsets.UTF_8).trim();
+      MapAnimation cached = readCached(new File(folder, refKey + ".frames"));
+
+      if (cached != null)
+        return cached;
+    }
+
+    byte[] data = source.data().get();
+
+    // Address the converted result by it's source content and all conversion parameters
+    String key = sha256(data) + params;
+    File entry = new File(folder, key + ".frames");
+    MapAnimation animation = readCached(entry);
+
+    if (animation == null) {
+      // Convert every frame as soon as it's decoded, so that only the converted frames are kept
+      List<MapFramebuffer> frames = new ArrayList<>();
+      List<Integer> delays = new ArrayList<>();
+      int maxFrames = (int) Math.max(1, ANIMATION_BUDGET / ((long) group.getPixelWidth() * group.getPixelHeight()));
+
+      source.decoder().decode(data, maxFrames, (image, delay) -> {
+        frames.add(group.createFramebuffer(image, source.dither()));
+        delays.add(delay);
+      });
+
+      animation = new MapAnimation(frames, delays.stream().mapToInt(Integer::intValue).toArray());
+
+      // Write to a temporary file first, so that concurrent readers never see partial entries
+      File tmp = File.createTempFile(key, ".tmp", folder);
+      try (OutputStream os = new BufferedOutputStream(new FileOutputStream(tmp))) {
+        animation.write(os);
+      }
+
+      Files.move(tmp.toPath(), entry.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Remember what the source resolved to, which also marks the time of this fetch
+    File tmp = File.createTempFile(key, ".tmp", folder);
+    Files.writeString(tmp.toPath(), key, StandardCharsets.UTF_8);
+    Files.move(tmp.toPath(), sourceRef.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    pruneCache(folder);
+    return animation;
+  }
+
+  /**
+   * Read a converted entry from the disk cache and mark it as recently used
+   * @param entry Entry to read
+   * @return Read content, null if the entry doesn't exist or is corrupted
+   */
+  private @Nullable MapAnimation readCached(File entry) {
+    if (!entry.isFile())
+      return null;
+
+    try (InputStream is = new BufferedInputStream(new FileInputStream(entry))) {
+      MapAnimation animation = MapAnimation.read(is);
+
+      // The modification time tracks the last use of an entry
+      if (!entry.setLastModified(System.currentTimeMillis()))
+        logger.logDebug("Could not mark the image cache entry " + entry + " as used");
+
+      return animation;
+    } catch (IOException e) {
+      // Corrupted entry, it will be converted again and overwritten
       logger.logError(e);
+      return null;
     }
   }
+
+  /**
+   * Evict the least recently used entries from the disk cache while it exceeds it's size limit
+   * @param folder Folder of the disk cache
+   */
+  private void pruneCache(File folder) {
+    synchronized (cacheLock) {
+      File[] entries = folder.listFiles(File::isFile);
+      if (entries == null)
+        return;
+
+      long total = 0;
+      for (File entry : entries)
+        total += entry.length();
+
+      if (total <= CACHE_MAX_BYTES)
+        return;
+
+      Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+
+      for (File entry : entries) {
+        if (total <= CACHE_MAX_BYTES)
+          break;
+
+        long size = entry.length();
+        if (entry.delete())
+          total -= size;
+      }
+    }
+  }
+
+  /**
+   * Get the hexadecimal SHA-256 hash of some data
+   * @param data Data to hash
+   */
+  private String sha256(byte[] data) throws Exception {
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+  }
+
+  /**
+   * Account a displayed animation against the memory budget and mark it as the most recently used
+   * @param animation Animation which is being displayed
+   */
+  private void trackAnimation(MapAnimation animation) {
+    if (animations.get(animation) == null) {
+      long size = animation.getByteSize();
+      animations.put(animation, size);
+      animationBytes += size;
+    }
+
+    enforceAnimationBudget();
+  }
+
+  /**
+   * Release animations which are not displayed anymore and evict the least
+   * recently used animations while the memory budget is still exceeded
+   */
+  private void enforceAnimationBudget() {
+    Iterator<Map.Entry<MapAnimation, Long>> it = animations.entrySet().iterator();
+
+    while (it.hasNext()) {
+      Map.Entry<MapAnimation, Long> entry = it.next();
+      MapAnimation animation = entry.getKey();
+      boolean playing = groups.values().stream().anyMatch(group -> group.isPlaying(animation));
+
+      // Still displayed and within budget
+      if (playing && animationBytes <= ANIMATION_BUDGET)
+        continue;
+
+      it.remove();
+      animationBytes -= entry.getValue();
+
+      // Viewers keep the first frame as a still image
+      if (playing)
+        animation.evict();
+    }
+  }
+
+  /**
+   * Decode all frames of an image from it's raw data, where still images result in a single frame
+   * @param data Raw image data
+   * @param maxFrames Maximum number of frames to decode
+   * @param consumer Consumer of the frames and their delays in milliseconds
+   */
+  private void decodeFrames(byte[] data, int maxFrames, GifDecoder.FrameConsumer consumer) throws Exception {
+    if (GifDecoder.isGif(data)) {
+      GifDecoder.decode(data, maxFrames, consumer);
+      return;
+    }
+
+    consumer.accept(decodeImage(data), 0);
+  }
+
+  /**
+   * Decode an image from it's raw data
+   * @param data Raw image data
+   * @return Decoded image
+   */
+  private BufferedImage decodeImage(byte[] data) throws IOException {
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(data));
+
+    if (image == null)
+      throw new IOException("Unsupported image format");
+
+    return image;
+  }
 }
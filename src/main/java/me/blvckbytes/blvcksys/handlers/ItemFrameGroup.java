@@ -16,7 +16,9 @@ import org.bukkit.map.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.awt.*;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.util.*;
 
@@ -25,7 +27,14 @@ import java.util.*;
   Created On: 05/09/2022
 
   Holds multiple connected item frames which together form a bigger
-  canvas on which images can be displayed.
+  canvas on which images can be displayed. Images are converted into palette
+  indexed framebuffers once, which are shared between all viewers of the same
+  image and only drawn onto a viewer's map canvas when they've been swapped.
+
+  Animated content advances per viewer in real time, while only the changed
+  rectangle of each map is redrawn. The interval between visible frame changes
+  is stretched with the viewer's distance and the number of animated viewers.
+  Frames which fall into a stretched interval are skipped, not delayed.
  */
 public class ItemFrameGroup {
 
@@ -33,15 +42,61 @@ public class ItemFrameGroup {
   private static final double LOC_SEARCH_RAD = 1.0D;
 
   // The size of a map's edge in pixels
-  private static final int MAP_SIZE = 128;
+  private static final int MAP_SIZE = MapFramebuffer.MAP_SIZE;
 
-  private final Map<Player, Color[][]> framebuffers;
+  // Color of the placeholder which is shown while loading
+  private static final Color PLACEHOLDER_COLOR = new Color(0x2B2B2B);
+
+  // Minimum interval between frame changes of a close viewer, in milliseconds
+  private static final long MIN_FRAME_INTERVAL = 50;
+
+  // Distance in blocks after which the frame interval is stretched by another step
+  private static final double DISTANCE_STEP = 16;
+
+  // Number of animated viewers after which the frame interval is stretched by another step
+  private static final int VIEWER_STEP = 8;
+
+  /**
+   * Represents a frame which is or has been drawn onto a player's canvas
+   * @param framebuffer Framebuffer of the frame
+   * @param animation Animation the frame belongs to, null for still content
+   * @param index Index of the frame within it's animation
+   */
+  private record DrawnFrame(
+    MapFramebuffer framebuffer,
+    @Nullable MapAnimation animation,
+    int index
+  ) {}
+
+  /**
+   * Playback state of an animation for a single player
+   */
+  private static class Playback {
+    private final MapAnimation animation;
+    private final long start;
+    private int frame;
+    private long lastSwitch;
+
+    private Playback(MapAnimation animation, long start) {
+      this.animation = animation;
+      this.start = start;
+      this.lastSwitch = start;
+    }
+  }
+
+  private final Map<Player, MapFramebuffer> framebuffers;
+  private final Map<Player, Playback> playbacks;
+  private final Map<Player, Integer> loadTickets;
   private final ILogger logger;
 
+  private final MapFramebuffer placeholder;
+  private int lastTicket;
+
   @Getter
   private int width, height, numMembers;
 
   private ItemFrame[][] frameGrid;
+  private Location center;
 
   @Getter
   public String name;
@@ -54,10 +109,14 @@ public class ItemFrameGroup {
     this.logger = logger;
     this.name = name;
     this.framebuffers = new HashMap<>();
+    this.playbacks = new HashMap<>();
+    this.loadTickets = new HashMap<>();
 
     Tuple<BlockFace, Set<ItemFrame>> ret = findMembers(loc);
     if (ret != null)
       createGrid(ret.a(), ret.b());
+
+    this.placeholder = MapFramebuffer.solid(getPixelWidth(), getPixelHeight(), PLACEHOLDER_COLOR);
   }
 
   //=========================================================================//
@@ -121,46 +180,109 @@ public class ItemFrameGroup {
   }
 
   /**
-   * Set a custom framebuffer for a given player
-   * @param p Player to set the framebuffer for
-   * @param framebuffer Framebuffer to display
+   * Get a list of all member frames of this group
+   */
+  public List<ItemFrame> getMembers() {
+    List<ItemFrame> members = new ArrayList<>();
+
+    for (int x = 0; x < width; x++) {
+      for (int y = 0; y < height; y++) {
+        if (frameGrid[x][y] != null)
+          members.add(frameGrid[x][y]);
+      }
+    }
+
+    return members;
+  }
+
+  /**
+   * Show a placeholder to a player while their framebuffer is being loaded
+   * @param p Player to show the placeholder to
+   * @return Ticket of this load, which has to be passed when setting the loaded framebuffer
    */
-  public void setFramebuffer(Player p, Color[][] framebuffer) {
-    this.framebuffers.put(p, framebuffer);
+  public int beginLoad(Player p) {
+    int ticket = ++lastTicket;
+    loadTickets.put(p, ticket);
+    playbacks.remove(p);
+    framebuffers.put(p, placeholder);
+    return ticket;
   }
 
   /**
-   * Set a custom framebuffer for a given player using an image
-   * directly, which will be resized to fit internally
-   * @param p Player to set the framebuffer for
-   * @param image Image to display
+   * Set loaded content for a given player, if no other load has been started
+   * in the meantime. Still content is displayed as a single framebuffer. If
+   * another player already views identical content, that instance will be shared.
+   * @param p Player to set the content for
+   * @param content Content to display, null to clear
+   * @param ticket Ticket of the load, as returned by {@link #beginLoad(Player)}
+   * @return The content which is now displayed, null if it has been cleared or the load is outdated
    */
-  public void setFramebuffer(Player p, @Nullable BufferedImage image) {
-    if (image == null) {
+  public @Nullable MapAnimation setContent(Player p, @Nullable MapAnimation content, int ticket) {
+    Integer current = loadTickets.get(p);
+    if (current == null || current != ticket)
+      return null;
+
+    loadTickets.remove(p);
+    playbacks.remove(p);
+
+    if (content == null) {
       framebuffers.remove(p);
-      return;
+      return null;
     }
 
-    try {
-      int pWidth = width * MAP_SIZE, pHeight = height * MAP_SIZE;
-      Color[][] fbuf = new Color[pWidth][pHeight];
-
-      // Resize the image to fit exactly on the canvas
-      image = resizeToFit(image);
+    // Still content, share the framebuffer of an identical image
+    if (content.getFrameCount() == 1) {
+      MapFramebuffer framebuffer = content.getFrame(0);
 
-      // Copy all pixels into the local framebuffer
-      for (int x = 0; x < pWidth; x++) {
-        for (int y = 0; y < pHeight; y++) {
-          // TODO: I read that #getRGB() is immensely inefficient, come up with something else here
-          fbuf[x][y] = new Color(image.getRGB(x, pHeight - 1 - y), true);
+      for (MapFramebuffer existing : framebuffers.values()) {
+        if (existing.getSourceHash() == framebuffer.getSourceHash() && existing.isDithered() == framebuffer.isDithered()) {
+          framebuffer = existing;
+          break;
         }
       }
 
-      framebuffers.put(p, fbuf);
-    } catch (Exception e) {
-      logger.logError(e);
-      framebuffers.remove(p);
+      framebuffers.put(p, framebuffer);
+      return content;
     }
+
+    // Share the frames of an identical animation, if they're still held
+    MapAnimation animation = content;
+    for (Playback existing : playbacks.values()) {
+      MapAnimation other = existing.animation;
+      if (other.getSourceHash() == content.getSourceHash() && other.isDithered() == content.isDithered() && !other.isEvicted()) {
+        animation = other;
+        break;
+      }
+    }
+
+    framebuffers.remove(p);
+    playbacks.put(p, new Playback(animation, System.currentTimeMillis()));
+    return animation;
+  }
+
+  /**
+   * Check whether an animation is currently being played back to any player
+   * @param animation Animation to check for
+   */
+  public boolean isPlaying(MapAnimation animation) {
+    for (Playback playback : playbacks.values()) {
+      if (playback.animation == animation)
+        return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Create a framebuffer which fits this group from an image. This
+   * doesn't alter any state and may thus be called from any thread.
+   * @param image Image to display, which will be resized to fit
+   * @param dither Whether to dither the image's colors
+   * @return Created framebuffer
+   */
+  public MapFramebuffer createFramebuffer(BufferedImage image, boolean dither) {
+    int pWidth = getPixelWidth(), pHeight = getPixelHeight();
+    return MapFramebuffer.fromPixels(MapFramebuffer.readPixels(resizeToFit(image)), pWidth, pHeight, dither);
   }
 
   /**
@@ -169,22 +291,79 @@ public class ItemFrameGroup {
    */
   public void clearFramebuffer(Player p) {
     this.framebuffers.remove(p);
+    this.playbacks.remove(p);
+    this.loadTickets.remove(p);
+  }
+
+  /**
+   * Get the width of this group's canvas in pixels
+   */
+  public int getPixelWidth() {
+    return width * MAP_SIZE;
+  }
+
+  /**
+   * Get the height of this group's canvas in pixels
+   */
+  public int getPixelHeight() {
+    return height * MAP_SIZE;
   }
 
   //=========================================================================//
   //                                 Utilities                               //
   //=========================================================================//
 
+  /**
+   * Resolve the frame which should currently be displayed to a player,
+   * advancing the player's playback if the frame interval has passed
+   * @param p Target player
+   * @return Frame to display, null if there's no custom content
+   */
+  private @Nullable DrawnFrame resolveFrame(Player p) {
+    Playback playback = playbacks.get(p);
+
+    if (playback == null) {
+      MapFramebuffer framebuffer = framebuffers.get(p);
+      return framebuffer == null ? null : new DrawnFrame(framebuffer, null, 0);
+    }
+
+    long now = System.currentTimeMillis();
+    int target = playback.animation.frameAt(now - playback.start);
+
+    if (target != playback.frame && now - playback.lastSwitch >= getFrameInterval(p)) {
+      playback.frame = target;
+      playback.lastSwitch = now;
+    }
+
+    return new DrawnFrame(playback.animation.getFrame(playback.frame), playback.animation, playback.frame);
+  }
+
+  /**
+   * Get the minimum interval between frame changes for a given player, which
+   * grows with the player's distance and the number of animated viewers
+   * @param p Target player
+   * @return Interval in milliseconds
+   */
+  private long getFrameInterval(Player p) {
+    Location loc = p.getLocation();
+    double distance = (center == null || loc.getWorld() != center.getWorld()) ? 0 : loc.distance(center);
+    return MIN_FRAME_INTERVAL * (1 + (long) (distance / DISTANCE_STEP)) * (1 + playbacks.size() / VIEWER_STEP);
+  }
+
   /**
    * Resize a image to fit the group's dimensions
    * @param img Image to resize
    * @return Resized image
    */
   private BufferedImage resizeToFit(BufferedImage img) {
-    Image tmp = img.getScaledInstance(width * MAP_SIZE, height * MAP_SIZE, Image.SCALE_SMOOTH);
-    BufferedImage resized = new BufferedImage(width * MAP_SIZE, height * MAP_SIZE, img.getType());
+    int pWidth = getPixelWidth(), pHeight = getPixelHeight();
+
+    // Always draw into an ARGB raster, so that pixels can be read from it directly
+    BufferedImage resized = new BufferedImage(pWidth, pHeight, BufferedImage.TYPE_INT_ARGB);
     Graphics2D g2d = resized.createGraphics();
-    g2d.drawImage(tmp, 0, 0, null);
+    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    g2d.drawImage(img, 0, 0, pWidth, pHeight, null);
     g2d.dispose();
     return resized;
   }
@@ -246,6 +425,14 @@ public class ItemFrameGroup {
 
     this.frameGrid = new ItemFrame[width][height];
 
+    // Center of all members, used to determine a viewer's distance
+    this.center = new Location(
+      members.iterator().next().getWorld(),
+      (minMaxAx[0] + minMaxAx[1]) / 2,
+      (minMaxAx[2] + minMaxAx[3]) / 2,
+      (minMaxAx[4] + minMaxAx[5]) / 2
+    );
+
     // Insert all members in their grid-slot
     for (ItemFrame frame : members) {
       Location loc = frame.getLocation();
@@ -299,35 +486,37 @@ public class ItemFrameGroup {
     view.getRenderers().clear();
     view.addRenderer(new MapRenderer(true) {
 
+      // Frames which have last been drawn onto each player's canvas
+      private final Map<Player, DrawnFrame> drawn = new WeakHashMap<>();
+
       @Override
       public void render(@NotNull MapView mv, @NotNull MapCanvas cv, @NotNull Player p) {
-        // Get the current player's custom framebuffer
-        Color[][] framebuffer = framebuffers.get(p);
-        if (framebuffer == null)
+        // Get the current player's custom frame
+        DrawnFrame frame = resolveFrame(p);
+        if (frame == null)
           return;
 
-        // Calculate framebuffer offsets based on this frame's coordinates
-        int xOff = x * MAP_SIZE, yOff = y * MAP_SIZE;
-
-        for (int cx = 0; cx < MAP_SIZE; cx++) {
-          for (int cy = 0; cy < MAP_SIZE; cy++) {
-            int fbX = xOff + cx, fbY = yOff + cy;
-
-            // No framebuffer entry for the current pixel, set to transparent
-            if (
-              framebuffer.length == 0 ||
-              framebuffer[0].length == 0 ||
-              fbX >= framebuffer.length ||
-              fbY >= framebuffer[0].length
-            ) {
-              cv.setPixel(cx, cy, (byte) 0);
-              continue;
-            }
-
-            // Set pixel from framebuffer
-            cv.setPixel(cx, MAP_SIZE - 1 - cy, MapPalette.matchColor(framebuffer[fbX][fbY]));
-          }
+        // The player's canvas already holds this framebuffer, as it's kept between calls
+        DrawnFrame last = drawn.get(p);
+        if (last != null && last.framebuffer() == frame.framebuffer())
+          return;
+
+        drawn.put(p, frame);
+
+        // Advanced within the same animation, only redraw the changed rectangle
+        // As the canvas only flags changed pixels, this also keeps the map update small
+        if (last != null && frame.animation() != null && last.animation() == frame.animation()) {
+          int[] rect = frame.animation().getDirtyRect(last.index(), frame.index(), x, y);
+
+          // This map didn't change at all
+          if (rect == null)
+            return;
+
+          frame.framebuffer().drawTile(cv, x, y, rect);
+          return;
         }
+
+        frame.framebuffer().drawTile(cv, x, y);
       }
     });
 
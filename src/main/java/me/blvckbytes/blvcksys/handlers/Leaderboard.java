@@ -0,0 +1,272 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Ranks players by a numeric score in descending order, where equal scores are
+  ordered by the player's ID to keep the ranking stable. Entries are held within
+  a randomized search tree (treap) which knows the size of each of it's subtrees,
+  so that updates, rank lookups and finding the start of a page are all answered
+  in logarithmic time. All operations are synchronized, as scores may be updated
+  from asynchronous tasks.
+*/
+public class Leaderboard {
+
+  private static class Node {
+    private final UUID id;
+    private final long score;
+    private final int priority;
+    private Node left, right;
+    private int size;
+
+    private Node(UUID id, long score, int priority) {
+      this.id = id;
+      this.score = score;
+      this.priority = priority;
+      this.size = 1;
+    }
+  }
+
+  // Nodes by the ID of the player they represent
+  private final Map<UUID, Node> nodes;
+  private final Random random;
+  private Node root;
+
+  public Leaderboard() {
+    this.nodes = new HashMap<>();
+    this.random = new Random();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Set the score of a player, which adds them to the leaderboard if absent
+   * @param id ID of the player
+   * @param score New score
+   */
+  public synchronized void update(UUID id, long score) {
+    Node prev = nodes.get(id);
+
+    if (prev != null) {
+      // Score didn't change, the rank stays the same
+      if (prev.score == score)
+        return;
+
+      root = remove(root, prev);
+    }
+
+    Node node = new Node(id, score, random.nextInt());
+    nodes.put(id, node);
+    root = insert(root, node);
+  }
+
+  /**
+   * Remove a player from the leaderboard
+   * @param id ID of the player
+   */
+  public synchronized void remove(UUID id) {
+    Node node = nodes.remove(id);
+    if (node != null)
+      root = remove(root, node);
+  }
+
+  /**
+   * Get the zero-based rank of a player
+   * @param id ID of the player
+   * @return Rank, -1 if the player is not ranked
+   */
+  public synchronized int rank(UUID id) {
+    Node node = nodes.get(id);
+    if (node == null)
+      return -1;
+
+    int rank = 0;
+    Node at = root;
+
+    while (at != null) {
+      int c = compare(node, at);
+
+      if (c < 0) {
+        at = at.left;
+        continue;
+      }
+
+      // All nodes of the left subtree are ranked before the node
+      if (c == 0)
+        return rank + size(at.left);
+
+      rank += size(at.left) + 1;
+      at = at.right;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Get a page of ranked players, starting at the highest score
+   * @param offset Number of ranks to skip
+   * @param limit Maximum number of players to list
+   * @return List of player IDs in order of their rank
+   */
+  public synchronized List<UUID> page(int offset, int limit) {
+    List<UUID> res = new ArrayList<>();
+
+    if (offset >= 0 && limit > 0)
+      collect(root, offset, limit, res);
+
+    return res;
+  }
+
+  /**
+   * Get the number of ranked players
+   */
+  public synchronized int size() {
+    return size(root);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Collect the IDs of a subtree's nodes in order, starting at an offset
+   * @param at Root of the subtree
+   * @param offset Number of nodes to skip within the subtree
+   * @param limit Maximum size of the result
+   * @param res Result to append to
+   */
+  private void collect(Node at, int offset, int limit, List<UUID> res) {
+    if (at == null || res.size() >= limit)
+      return;
+
+    int leftSize = size(at.left);
+
+    // The offset is located within the left subtree
+    if (offset < leftSize)
+      collect(at.left, offset, limit, res);
+
+    if (res.size() >= limit)
+      return;
+
+    if (offset <= leftSize)
+      res.add(at.id);
+
+    collect(at.right, Math.max(0, offset - leftSize - 1), limit, res);
+  }
+
+  /**
+   * Insert a node into a subtree
+   * @param at Root of the subtree
+   * @param node Node to insert
+   * @return New root of the subtree
+   */
+  private Node insert(Node at, Node node) {
+    if (at == null)
+      return node;
+
+    if (compare(node, at) < 0) {
+      at.left = insert(at.left, node);
+
+      if (at.left.priority > at.priority)
+        return rotateRight(at);
+    }
+
+    else {
+      at.right = insert(at.right, node);
+
+      if (at.right.priority > at.priority)
+        return rotateLeft(at);
+    }
+
+    resize(at);
+    return at;
+  }
+
+  /**
+   * Remove a node from a subtree
+   * @param at Root of the subtree
+   * @param node Node to remove
+   * @return New root of the subtree
+   */
+  private Node remove(Node at, Node node) {
+    if (at == null)
+      return null;
+
+    int c = compare(node, at);
+
+    if (c == 0)
+      return merge(at.left, at.right);
+
+    if (c < 0)
+      at.left = remove(at.left, node);
+    else
+      at.right = remove(at.right, node);
+
+    resize(at);
+    return at;
+  }
+
+  /**
+   * Merge two subtrees, where all nodes of the first are ranked before the second
+   * @param a First subtree
+   * @param b Second subtree
+   * @return Root of the merged tree
+   */
+  private Node merge(Node a, Node b) {
+    if (a == null)
+      return b;
+
+    if (b == null)
+      return a;
+
+    if (a.priority > b.priority) {
+      a.right = merge(a.right, b);
+      resize(a);
+      return a;
+    }
+
+    b.left = merge(a, b.left);
+    resize(b);
+    return b;
+  }
+
+  private Node rotateRight(Node at) {
+    Node left = at.left;
+    at.left = left.right;
+    left.right = at;
+    resize(at);
+    resize(left);
+    return left;
+  }
+
+  private Node rotateLeft(Node at) {
+    Node right = at.right;
+    at.right = right.left;
+    right.left = at;
+    resize(at);
+    resize(right);
+    return right;
+  }
+
+  private void resize(Node node) {
+    node.size = size(node.left) + size(node.right) + 1;
+  }
+
+  private int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+
+  /**
+   * Compare two nodes by their rank, where higher scores rank first
+   * @return Negative if a ranks before b, zero if equal, positive otherwise
+   */
+  private int compare(Node a, Node b) {
+    int c = Long.compare(b.score, a.score);
+    return c != 0 ? c : a.id.compareTo(b.id);
+  }
+}
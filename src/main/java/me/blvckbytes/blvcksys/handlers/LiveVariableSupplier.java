@@ -14,6 +14,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
 
 import java.text.SimpleDateFormat;
 import java.util.*;
@@ -102,7 +103,7 @@ public class LiveVariableSupplier implements ILiveVariableSupplier, IAutoConstru
   }
 
   @Override
-  public String resolveVariable(Player p, LiveVariable variable) {
+  public String resolveVariable(@Nullable Player p, LiveVariable variable) {
     if (!this.suppliers.containsKey(variable))
       return variable.getPlaceholder();
     return this.suppliers.get(variable).apply(p);
@@ -117,7 +118,7 @@ public class LiveVariableSupplier implements ILiveVariableSupplier, IAutoConstru
   @Override
   public void initialize() {
     pollingHandle = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-      this.top5KillingPlayers = playerStats.getTop5Ranked(PlayerStatistic.KILLS);
+      this.top5KillingPlayers = playerStats.getTopRanked(PlayerStatistic.KILLS, 0, 5);
       updateTopKillingArmorStands();
     }, 0L, TOP_POLL_T);
   }
@@ -0,0 +1,262 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  A sequence of framebuffers, each displayed for a given delay, which is shown on
+  a frame group. A still image is just an animation with a single frame. For every
+  frame and every map of the group, the rectangle which changed in relation to the
+  previous frame is computed once, so that advancing only redraws these pixels.
+
+  Animations may be evicted to release their frames when the memory budget has been
+  exceeded, after which they keep on displaying their first frame as a still image.
+*/
+public class MapAnimation {
+
+  // Marks the start of a serialized animation
+  private static final int MAGIC = 0x4D414E31;
+
+  // Maximum number of frames to merge dirty rectangles of before redrawing the whole map
+  private static final int MAX_MERGED_FRAMES = 8;
+
+  @Getter
+  private final int width, height;
+
+  @Getter
+  private final long sourceHash;
+
+  @Getter
+  private final boolean dithered;
+
+  // Total duration of one loop in milliseconds
+  @Getter
+  private final long duration;
+
+  private final int[] delays;
+  private final int tilesX;
+
+  // Dirty rectangle of each map per frame, null if that map didn't change
+  private final int[][][] dirtyRects;
+
+  private volatile MapFramebuffer[] frames;
+
+  /**
+   * Create a new animation from it's frames
+   * @param frames Framebuffers of all frames, which share the same dimensions
+   * @param delays Delay of each frame in milliseconds
+   */
+  public MapAnimation(List<MapFramebuffer> frames, int[] delays) {
+    if (frames.isEmpty() || frames.size() != delays.length)
+      throw new IllegalArgumentException("Every frame needs exactly one delay");
+
+    this.frames = frames.toArray(MapFramebuffer[]::new);
+    this.delays = delays;
+
+    MapFramebuffer first = this.frames[0];
+    this.width = first.getWidth();
+    this.height = first.getHeight();
+    this.dithered = first.isDithered();
+
+    long hash = 17, duration = 0;
+    for (int i = 0; i < this.frames.length; i++) {
+      hash = hash * 31 + this.frames[i].getSourceHash();
+      duration += delays[i];
+    }
+
+    // Still images share the hash of their only frame
+    this.sourceHash = this.frames.length == 1 ? first.getSourceHash() : hash;
+    this.duration = Math.max(1, duration);
+
+    this.tilesX = width / MapFramebuffer.MAP_SIZE;
+    this.dirtyRects = computeDirtyRects(tilesX, height / MapFramebuffer.MAP_SIZE);
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the number of frames which are currently held
+   */
+  public int getFrameCount() {
+    return frames.length;
+  }
+
+  /**
+   * Get a frame by it's index
+   * @param index Index of the frame, wrapped around the number of frames
+   */
+  public MapFramebuffer getFrame(int index) {
+    MapFramebuffer[] frames = this.frames;
+    return frames[index % frames.length];
+  }
+
+  /**
+   * Get the index of the frame which is displayed at a given point in time
+   * @param time Time since the start of the animation in milliseconds
+   */
+  public int frameAt(long time) {
+    MapFramebuffer[] frames = this.frames;
+    if (frames.length == 1)
+      return 0;
+
+    long remaining = time % duration;
+    for (int i = 0; i < delays.length; i++) {
+      remaining -= delays[i];
+      if (remaining < 0)
+        return i;
+    }
+
+    return delays.length - 1;
+  }
+
+  /**
+   * Get the rectangle of a map which changed when advancing from one frame to another
+   * @param from Index of the frame which is currently displayed
+   * @param to Index of the frame to advance to
+   * @param tileX X coordinate of the map
+   * @param tileY Y coordinate of the map
+   * @return Rectangle in canvas coordinates as {minX, minY, maxX, maxY}, null if nothing changed
+   */
+  public @Nullable int[] getDirtyRect(int from, int to, int tileX, int tileY) {
+    // Frames have been evicted, the indices don't relate to each other anymore
+    if (frames.length != delays.length)
+      return MapFramebuffer.FULL_TILE;
+
+    int steps = Math.floorMod(to - from, delays.length);
+    if (steps > MAX_MERGED_FRAMES)
+      return MapFramebuffer.FULL_TILE;
+
+    // Merge the rectangles of all frames which have been skipped
+    int[] merged = null;
+    for (int i = 1; i <= steps; i++) {
+      int[] rect = dirtyRects[(from + i) % delays.length][tileY * tilesX + tileX];
+
+      if (rect == null)
+        continue;
+
+      if (merged == null) {
+        merged = rect.clone();
+        continue;
+      }
+
+      merged[0] = Math.min(merged[0], rect[0]);
+      merged[1] = Math.min(merged[1], rect[1]);
+      merged[2] = Math.max(merged[2], rect[2]);
+      merged[3] = Math.max(merged[3], rect[3]);
+    }
+
+    return merged;
+  }
+
+  /**
+   * Get the number of bytes all currently held frames occupy
+   */
+  public long getByteSize() {
+    long size = 0;
+    for (MapFramebuffer frame : frames)
+      size += frame.getByteSize();
+    return size;
+  }
+
+  /**
+   * Check whether this animation has been evicted and only holds it's first frame
+   */
+  public boolean isEvicted() {
+    return frames.length != delays.length;
+  }
+
+  /**
+   * Release all frames but the first, which is kept as a still image
+   */
+  public void evict() {
+    if (frames.length > 1)
+      frames = new MapFramebuffer[] { frames[0] };
+  }
+
+  /**
+   * Write this animation into a stream
+   * @param os Stream to write to
+   */
+  public void write(OutputStream os) throws IOException {
+    MapFramebuffer[] frames = this.frames;
+
+    if (frames.length != delays.length)
+      throw new IOException("Cannot write an evicted animation");
+
+    DataOutputStream dos = new DataOutputStream(os);
+    dos.writeInt(MAGIC);
+    dos.writeInt(frames.length);
+
+    for (int i = 0; i < frames.length; i++) {
+      dos.writeInt(delays[i]);
+      frames[i].write(dos);
+    }
+
+    dos.flush();
+  }
+
+  /**
+   * Read an animation which has been written by {@link #write(OutputStream)}
+   * @param is Stream to read from
+   * @return Read animation
+   */
+  public static MapAnimation read(InputStream is) throws IOException {
+    DataInputStream dis = new DataInputStream(is);
+
+    if (dis.readInt() != MAGIC)
+      throw new IOException("Not a serialized animation");
+
+    int count = dis.readInt();
+    if (count <= 0)
+      throw new IOException("Invalid number of frames: " + count);
+
+    MapFramebuffer[] frames = new MapFramebuffer[count];
+    int[] delays = new int[count];
+
+    for (int i = 0; i < count; i++) {
+      delays[i] = dis.readInt();
+      frames[i] = MapFramebuffer.read(dis);
+    }
+
+    return new MapAnimation(List.of(frames), delays);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Compute the dirty rectangles of all maps for every frame in relation
+   * to it's previous frame, where the first frame follows the last frame
+   * @param tilesX Number of maps on the x axis
+   * @param tilesY Number of maps on the y axis
+   * @return Dirty rectangles, indexed by frame and then by map
+   */
+  private int[][][] computeDirtyRects(int tilesX, int tilesY) {
+    int[][][] rects = new int[frames.length][][];
+
+    // Still images never advance
+    if (frames.length == 1)
+      return rects;
+
+    for (int i = 0; i < frames.length; i++) {
+      MapFramebuffer prev = frames[Math.floorMod(i - 1, frames.length)];
+      rects[i] = new int[tilesX * tilesY][];
+
+      for (int ty = 0; ty < tilesY; ty++) {
+        for (int tx = 0; tx < tilesX; tx++)
+          rects[i][ty * tilesX + tx] = frames[i].diffTile(prev, tx, ty);
+      }
+    }
+
+    return rects;
+  }
+}
@@ -0,0 +1,324 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import lombok.Getter;
+import org.bukkit.map.MapCanvas;
+import org.bukkit.map.MapPalette;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.*;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/25/2022
+
+  An immutable framebuffer which holds the map palette index of every pixel
+  of an image in row-major order, so that maps can be drawn from it without
+  having to match any colors while rendering. Each framebuffer carries the
+  hash of the image data it has been converted from, which is used to share
+  framebuffers of identical images between multiple viewers.
+*/
+@SuppressWarnings("deprecation")
+public class MapFramebuffer {
+
+  // The size of a map's edge in pixels
+  public static final int MAP_SIZE = 128;
+
+  // Marks the start of a serialized framebuffer
+  private static final int MAGIC = 0x4D464231;
+
+  // Rectangle which spans a whole map, as {minX, minY, maxX, maxY}
+  public static final int[] FULL_TILE = { 0, 0, MAP_SIZE - 1, MAP_SIZE - 1 };
+
+  @Getter
+  private final int width, height;
+
+  @Getter
+  private final long sourceHash;
+
+  @Getter
+  private final boolean dithered;
+
+  private final byte[] pixels;
+
+  private MapFramebuffer(int width, int height, long sourceHash, boolean dithered, byte[] pixels) {
+    this.width = width;
+    this.height = height;
+    this.sourceHash = sourceHash;
+    this.dithered = dithered;
+    this.pixels = pixels;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Draw a single map sized tile of this framebuffer onto a map's canvas, where
+   * tiles are counted from the left (x) and from the bottom (y) of the image
+   * @param cv Canvas to draw on
+   * @param tileX X coordinate of the tile
+   * @param tileY Y coordinate of the tile
+   */
+  public void drawTile(MapCanvas cv, int tileX, int tileY) {
+    drawTile(cv, tileX, tileY, FULL_TILE);
+  }
+
+  /**
+   * Draw a rectangle within a single map sized tile of this framebuffer onto a map's canvas
+   * @param cv Canvas to draw on
+   * @param tileX X coordinate of the tile
+   * @param tileY Y coordinate of the tile
+   * @param rect Rectangle in canvas coordinates as {minX, minY, maxX, maxY}, inclusive
+   */
+  public void drawTile(MapCanvas cv, int tileX, int tileY, int[] rect) {
+    int colOff = tileX * MAP_SIZE;
+    int rowOff = height - (tileY + 1) * MAP_SIZE;
+
+    for (int cy = rect[1]; cy <= rect[3]; cy++) {
+      int row = rowOff + cy;
+
+      for (int cx = rect[0]; cx <= rect[2]; cx++) {
+        int col = colOff + cx;
+
+        // No framebuffer entry for the current pixel, set to transparent
+        if (row < 0 || row >= height || col >= width) {
+          cv.setPixel(cx, cy, (byte) 0);
+          continue;
+        }
+
+        cv.setPixel(cx, cy, pixels[row * width + col]);
+      }
+    }
+  }
+
+  /**
+   * Find the rectangle within a single map sized tile in which this
+   * framebuffer differs from another framebuffer of the same dimensions
+   * @param other Framebuffer to compare against
+   * @param tileX X coordinate of the tile
+   * @param tileY Y coordinate of the tile
+   * @return Rectangle in canvas coordinates as {minX, minY, maxX, maxY}, null if the tile is identical
+   */
+  public @Nullable int[] diffTile(MapFramebuffer other, int tileX, int tileY) {
+    if (other.width != width || other.height != height)
+      return FULL_TILE;
+
+    int colOff = tileX * MAP_SIZE;
+    int rowOff = height - (tileY + 1) * MAP_SIZE;
+    int minX = MAP_SIZE, minY = MAP_SIZE, maxX = -1, maxY = -1;
+
+    for (int cy = 0; cy < MAP_SIZE; cy++) {
+      int row = rowOff + cy;
+      if (row < 0 || row >= height)
+        continue;
+
+      for (int cx = 0; cx < MAP_SIZE; cx++) {
+        int col = colOff + cx;
+        if (col >= width)
+          break;
+
+        if (pixels[row * width + col] == other.pixels[row * width + col])
+          continue;
+
+        minX = Math.min(minX, cx);
+        minY = Math.min(minY, cy);
+        maxX = Math.max(maxX, cx);
+        maxY = Math.max(maxY, cy);
+      }
+    }
+
+    if (maxX < 0)
+      return null;
+
+    return new int[] { minX, minY, maxX, maxY };
+  }
+
+  /**
+   * Get the number of bytes this framebuffer's pixels occupy
+   */
+  public int getByteSize() {
+    return pixels.length;
+  }
+
+  /**
+   * Write this framebuffer into a stream
+   * @param os Stream to write to
+   */
+  public void write(OutputStream os) throws IOException {
+    DataOutputStream dos = new DataOutputStream(os);
+    dos.writeInt(MAGIC);
+    dos.writeInt(width);
+    dos.writeInt(height);
+    dos.writeLong(sourceHash);
+    dos.writeBoolean(dithered);
+    dos.write(pixels);
+    dos.flush();
+  }
+
+  /**
+   * Read a framebuffer which has been written by {@link #write(OutputStream)}
+   * @param is Stream to read from
+   * @return Read framebuffer
+   */
+  public static MapFramebuffer read(InputStream is) throws IOException {
+    DataInputStream dis = new DataInputStream(is);
+
+    if (dis.readInt() != MAGIC)
+      throw new IOException("Not a serialized framebuffer");
+
+    int width = dis.readInt(), height = dis.readInt();
+    long sourceHash = dis.readLong();
+    boolean dithered = dis.readBoolean();
+
+    byte[] pixels = new byte[width * height];
+    dis.readFully(pixels);
+
+    return new MapFramebuffer(width, height, sourceHash, dithered, pixels);
+  }
+
+  /**
+   * Create a framebuffer which is filled with a single color
+   * @param width Width of the framebuffer
+   * @param height Height of the framebuffer
+   * @param color Color to fill with
+   * @return Filled framebuffer
+   */
+  public static MapFramebuffer solid(int width, int height, Color color) {
+    byte[] pixels = new byte[width * height];
+    Arrays.fill(pixels, MapPalette.matchColor(color));
+    return new MapFramebuffer(width, height, color.getRGB(), false, pixels);
+  }
+
+  /**
+   * Hash the ARGB pixels of an image, used to identify identical
+   * images before having to convert them into a framebuffer
+   * @param argb ARGB pixels of the image
+   * @param width Width of the image
+   * @param height Height of the image
+   * @return 64-bit content hash
+   */
+  public static long hashPixels(int[] argb, int width, int height) {
+    long hash = 0xCBF29CE484222325L ^ (((long) width << 32) | height);
+
+    for (int pixel : argb) {
+      hash ^= pixel;
+      hash *= 0x100000001B3L;
+      hash ^= hash >>> 29;
+    }
+
+    return hash;
+  }
+
+  /**
+   * Read all ARGB pixels of an image in row-major order
+   * @param image Image to read
+   * @return ARGB pixels
+   */
+  public static int[] readPixels(BufferedImage image) {
+    int w = image.getWidth(), h = image.getHeight();
+
+    // ARGB images are already backed by exactly this layout
+    if (image.getType() == BufferedImage.TYPE_INT_ARGB)
+      return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+
+    return image.getRGB(0, 0, w, h, null, 0, w);
+  }
+
+  /**
+   * Convert the ARGB pixels of an image into a new framebuffer
+   * @param argb ARGB pixels of the image in row-major order
+   * @param width Width of the image
+   * @param height Height of the image
+   * @param dither Whether to apply Floyd-Steinberg dithering to smoothen palette banding
+   * @return Converted framebuffer
+   */
+  public static MapFramebuffer fromPixels(int[] argb, int width, int height, boolean dither) {
+    byte[] pixels = new byte[width * height];
+
+    // Cache matched colors, as images usually consist of way fewer colors than pixels
+    Map<Integer, Byte> matches = new HashMap<>();
+
+    // Error of the current and the next row, three channels per pixel
+    float[] currErr = dither ? new float[(width + 2) * 3] : null;
+    float[] nextErr = dither ? new float[(width + 2) * 3] : null;
+
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        int pixel = argb[y * width + x];
+
+        // Transparent pixels are not matched, neither do they carry errors
+        if ((pixel >>> 24) < 128) {
+          pixels[y * width + x] = (byte) 0;
+          continue;
+        }
+
+        if (!dither) {
+          pixels[y * width + x] = matchColor(pixel & 0xFFFFFF, matches);
+          continue;
+        }
+
+        // Apply the accumulated error to this pixel
+        int e = (x + 1) * 3;
+        int r = clamp(((pixel >> 16) & 0xFF) + Math.round(currErr[e]));
+        int g = clamp(((pixel >> 8) & 0xFF) + Math.round(currErr[e + 1]));
+        int b = clamp((pixel & 0xFF) + Math.round(currErr[e + 2]));
+
+        byte index = matchColor((r << 16) | (g << 8) | b, matches);
+        pixels[y * width + x] = index;
+
+        // Distribute the error onto the neighbors which are yet to be matched
+        Color matched = MapPalette.getColor(index);
+        float[] err = {
+          r - matched.getRed(),
+          g - matched.getGreen(),
+          b - matched.getBlue()
+        };
+
+        for (int c = 0; c < 3; c++) {
+          currErr[e + 3 + c] += err[c] * 7 / 16F;
+          nextErr[e - 3 + c] += err[c] * 3 / 16F;
+          nextErr[e + c] += err[c] * 5 / 16F;
+          nextErr[e + 3 + c] += err[c] / 16F;
+        }
+      }
+
+      if (dither) {
+        float[] tmp = currErr;
+        currErr = nextErr;
+        nextErr = tmp;
+        Arrays.fill(nextErr, 0);
+      }
+    }
+
+    return new MapFramebuffer(width, height, hashPixels(argb, width, height), dither, pixels);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Match a RGB color to it's closest palette index, using a cache
+   * @param rgb RGB color to match
+   * @param matches Cache of already matched colors
+   * @return Palette index
+   */
+  private static byte matchColor(int rgb, Map<Integer, Byte> matches) {
+    return matches.computeIfAbsent(rgb, k -> MapPalette.matchColor(new Color(k)));
+  }
+
+  /**
+   * Clamp a color channel value into it's valid range
+   * @param value Value to clamp
+   * @return Clamped value
+   */
+  private static int clamp(int value) {
+    return Math.max(0, Math.min(255, value));
+  }
+}
@@ -22,7 +22,9 @@ import java.util.*;
 
   Holds multiple hologram lines and manages the layouting, deciding
   of recipients (based on visibility) as well as keeping the hologram's
-  variables in sync.
+  variables in sync. Variables which are not player specific are resolved
+  once per tick for all recipients, and lines are only sent to recipients
+  whose rendered text actually changed.
  */
 @Getter
 public class MultilineHologram extends ATemplateHandler {
@@ -54,7 +56,6 @@ public class MultilineHologram extends ATemplateHandler {
   private static final double RECIPIENT_MAX_DIST_SQ = Math.pow(30, 2);
 
   private final Collection<? extends Player> recipients;
-  private final List<Integer> entityIds;
   private final Map<Player, List<Tuple<Entity, ArmorStandProperties>>> entities;
   private final String name;
 
@@ -67,6 +68,8 @@ public class MultilineHologram extends ATemplateHandler {
 
   private final IArmorStandCommunicator holoComm;
   private final JavaPlugin plugin;
+  private final IFakeEntityRegistry fakeEntities;
+  private final @Nullable IFakeEntityInteraction interaction;
 
   public MultilineHologram(
     String name,
@@ -75,7 +78,9 @@ public class MultilineHologram extends ATemplateHandler {
     @Nullable Collection<? extends Player> recipients,
     IArmorStandCommunicator holoComm,
     ILiveVariableSupplier varSupp,
-    JavaPlugin plugin
+    JavaPlugin plugin,
+    IFakeEntityRegistry fakeEntities,
+    @Nullable IFakeEntityInteraction interaction
   ) {
     super(varSupp);
 
@@ -84,9 +89,10 @@ public class MultilineHologram extends ATemplateHandler {
     this.holoComm = holoComm;
     this.plugin = plugin;
     this.recipients = recipients;
+    this.fakeEntities = fakeEntities;
+    this.interaction = interaction;
 
     this.entities = new HashMap<>();
-    this.entityIds = new ArrayList<>();
 
     this.setLines(lines);
   }
@@ -95,15 +101,6 @@ public class MultilineHologram extends ATemplateHandler {
   //                                   API                                   //
   //=========================================================================//
 
-  /**
-   * Checks whether this set of lines contains a line with the given entity id
-   * @param entityId Entity id to search for
-   * @return True if it contains it, false otherwise
-   */
-  public boolean containsEntityId(int entityId) {
-    return entityIds.contains(entityId);
-  }
-
   /**
    * Sets new content lines for all players by building new
    * templates and then destroying the old entities to generate new
@@ -151,7 +148,8 @@ public class MultilineHologram extends ATemplateHandler {
       .toList();
 
     // Update all entities forcefully
-    entities.keySet().forEach(p -> tickPlayer(p, 0, true));
+    List<List<Object>> dueLines = resolveDueLines(0, true);
+    entities.keySet().forEach(p -> tickPlayer(p, dueLines));
     return true;
   }
 
@@ -303,12 +301,19 @@ public class MultilineHologram extends ATemplateHandler {
    * @param time Relative time in ticks since start
    */
   public void tick(long time) {
+    List<List<Object>> dueLines = null;
+
     for (Player t : Bukkit.getOnlinePlayers()) {
       if (recipients != null && !recipients.contains(t))
         continue;
 
-      if (isRecipient(t))
-        tickPlayer(t, time, false);
+      if (isRecipient(t)) {
+        // Resolve once for all recipients, as soon as there's at least one
+        if (dueLines == null)
+          dueLines = resolveDueLines(time, false);
+
+        tickPlayer(t, dueLines);
+      }
 
       // Don't keep players which are out of reach in memory
       else
@@ -329,7 +334,7 @@ public class MultilineHologram extends ATemplateHandler {
     for (Player t : entities.keySet()) {
       for (Tuple<Entity, ArmorStandProperties> ent : entities.get(t)) {
         holoComm.delete(t, ent.a());
-        entityIds.remove(Integer.valueOf(ent.a().getEntityId()));
+        fakeEntities.unregister(ent.a().getEntityId());
       }
     }
     entities.clear();
@@ -343,36 +348,66 @@ public class MultilineHologram extends ATemplateHandler {
    * Cleans out offline player entries from the entity map
    */
   private void cleanupOfflinePlayers() {
-    entities.keySet().removeIf(p -> !p.isOnline());
+    for (Iterator<Map.Entry<Player, List<Tuple<Entity, ArmorStandProperties>>>> it = entities.entrySet().iterator(); it.hasNext();) {
+      Map.Entry<Player, List<Tuple<Entity, ArmorStandProperties>>> pe = it.next();
+      if (pe.getKey().isOnline())
+        continue;
+
+      for (Tuple<Entity, ArmorStandProperties> ent : pe.getValue())
+        fakeEntities.unregister(ent.a().getEntityId());
+
+      it.remove();
+    }
+  }
+
+  /**
+   * Resolve the player independent parts of all lines which are due for an update
+   * @param time Relative time in ticks since start
+   * @param force Whether to resolve all lines, no matter of the current time
+   * @return Partially resolved templates by line index, null for lines which are not due
+   */
+  private List<List<Object>> resolveDueLines(long time, boolean force) {
+    List<List<Object>> res = new ArrayList<>(lineTemplates.size());
+
+    for (Tuple<Long, List<Object>> lineTemplate : lineTemplates) {
+      // Is a static line or the period did not yet elapse
+      if (!force && (lineTemplate.a() < 0 || time % lineTemplate.a() != 0)) {
+        res.add(null);
+        continue;
+      }
+
+      res.add(resolveGlobalVariables(lineTemplate.b()));
+    }
+
+    return res;
   }
 
   /**
    * Called whenever the hologram should update for a specific player
    * @param p Target player
-   * @param time Relative time in ticks since start
-   * @param force Whether to force tick, no matter of the current time
+   * @param dueLines Partially resolved templates by line index, null for lines which are not due
    */
-  private void tickPlayer(Player p, long time, boolean force) {
+  private void tickPlayer(Player p, List<List<Object>> dueLines) {
     // Make sure that the line entities exist for this player
     if (!this.entities.containsKey(p))
       createLineEntities(p);
 
     // Update all lines for this player
     List<Tuple<Entity, ArmorStandProperties>> pEnts = entities.get(p);
-    for (int i = 0; i < Math.min(pEnts.size(), lineTemplates.size()); i++) {
-      Tuple<Long, List<Object>> lineTemplate = lineTemplates.get(i);
+    for (int i = 0; i < Math.min(pEnts.size(), dueLines.size()); i++) {
+      List<Object> dueLine = dueLines.get(i);
 
-      // Is a static line, doesn't need refreshing
-      if (!force && lineTemplate.a() < 0)
+      // Line is not due for an update
+      if (dueLine == null)
         continue;
 
-      // Period did not yet elapse
-      if (!force && time % lineTemplate.a() != 0)
+      // Only send lines which actually changed
+      Tuple<Entity, ArmorStandProperties> ent = pEnts.get(i);
+      String text = evaluateLineTemplate(p, dueLine);
+      if (text.equals(ent.b().getName()))
         continue;
 
-      // Update this line
-      Tuple<Entity, ArmorStandProperties> ent = pEnts.get(i);
-      ent.b().setName(evaluateLineTemplate(p, lineTemplate.b()));
+      ent.b().setName(text);
       holoComm.update(p, ent.a(), ent.b());
     }
   }
@@ -393,7 +428,7 @@ public class MultilineHologram extends ATemplateHandler {
       Entity ent = holoComm.create(p, head, props);
 
       ents.add(new Tuple<>(ent, props));
-      entityIds.add(ent.getEntityId());
+      fakeEntities.register(ent.getEntityId(), this, interaction);
       head.add(0, -INTER_LINE_SPACING, 0);
     }
 
@@ -414,7 +449,7 @@ public class MultilineHologram extends ATemplateHandler {
     // Destroy all lines
     for (Tuple<Entity, ArmorStandProperties> ent : ents) {
       holoComm.delete(p, ent.a());
-      entityIds.remove(Integer.valueOf(ent.a().getEntityId()));
+      fakeEntities.unregister(ent.a().getEntityId());
     }
   }
 
@@ -5,9 +5,6 @@ import me.blvckbytes.blvcksys.di.AutoInject;
 import me.blvckbytes.blvcksys.di.IAutoConstructed;
 import me.blvckbytes.blvcksys.events.NpcInteractEvent;
 import me.blvckbytes.blvcksys.events.NpcInteraction;
-import me.blvckbytes.blvcksys.packets.IPacketInterceptor;
-import me.blvckbytes.blvcksys.packets.IPacketModifier;
-import me.blvckbytes.blvcksys.packets.ModificationPriority;
 import me.blvckbytes.blvcksys.packets.PacketSource;
 import me.blvckbytes.blvcksys.packets.communicators.npc.INpcCommunicator;
 import me.blvckbytes.blvcksys.persistence.IPersistence;
@@ -21,7 +18,6 @@ import me.blvckbytes.blvcksys.persistence.query.QueryBuilder;
 import me.blvckbytes.blvcksys.util.MCReflect;
 import me.blvckbytes.blvcksys.util.Triple;
 import me.blvckbytes.blvcksys.util.logging.ILogger;
-import net.minecraft.network.NetworkManager;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.PacketPlayInUseEntity;
 import net.minecraft.world.entity.Entity;
@@ -46,7 +42,7 @@ import java.util.concurrent.atomic.AtomicInteger;
   interactions to fire custom npc events.
 */
 @AutoConstruct
-public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifier, Listener {
+public class NpcHandler implements INpcHandler, IAutoConstructed, Listener {
 
   // Specifies the max. distance when searching for the nearest npc
   // handle horizontally and vertically, where the horizontal distance should be
@@ -67,13 +63,11 @@ public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifie
   private final ILogger logger;
   private final MCReflect refl;
   private final IPlayerTextureHandler playerTextures;
+  private final IFakeEntityRegistry fakeEntities;
 
   // Mapping npc-names to fake-npcs
   private final Map<String, FakeNpc> npcs;
 
-  // Mapping entity IDs to fake-npcs
-  private final Map<Integer, FakeNpc> npcIds;
-
   // Mapping event causing players to their last event emit timestamp (for debouncing)
   private final Map<UUID, Long> lastEventEmits;
 
@@ -84,9 +78,9 @@ public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifie
     @AutoInject IPersistence pers,
     @AutoInject INpcCommunicator npcComm,
     @AutoInject ILogger logger,
-    @AutoInject IPacketInterceptor interceptor,
     @AutoInject MCReflect refl,
-    @AutoInject PlayerTextureHandler playerTextures
+    @AutoInject PlayerTextureHandler playerTextures,
+    @AutoInject IFakeEntityRegistry fakeEntities
   ) {
     this.plugin = plugin;
     this.pers = pers;
@@ -94,13 +88,11 @@ public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifie
     this.refl = refl;
     this.logger = logger;
     this.playerTextures = playerTextures;
+    this.fakeEntities = fakeEntities;
 
     this.intervalHandle = -1;
     this.npcs = new HashMap<>();
-    this.npcIds = new HashMap<>();
     this.lastEventEmits = Collections.synchronizedMap(new HashMap<>());
-
-    interceptor.register(this, ModificationPriority.LOW);
   }
 
   //=========================================================================//
@@ -115,7 +107,6 @@ public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifie
 
       FakeNpc fNpc = fakeNpcFromModel(npc);
       npcs.put(name.toLowerCase(), fNpc);
-      npcIds.put(fNpc.getEntityId(), fNpc);
 
       return Optional.of(npc);
     } catch (DuplicatePropertyException e) {
@@ -127,8 +118,11 @@ public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifie
   public boolean deleteNpc(String name) {
     boolean res = pers.delete(buildQuery(name)) > 0;
 
-    if (res)
-      npcs.remove(name.toLowerCase()).destroy();
+    if (res) {
+      FakeNpc fNpc = npcs.remove(name.toLowerCase());
+      fakeEntities.unregister(fNpc.getEntityId());
+      fNpc.destroy();
+    }
 
     return res;
   }
@@ -227,11 +221,12 @@ public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifie
     if (intervalHandle > 0)
       Bukkit.getScheduler().cancelTask(intervalHandle);
 
-    for (FakeNpc npc : npcs.values())
+    for (FakeNpc npc : npcs.values()) {
+      fakeEntities.unregister(npc.getEntityId());
       npc.destroy();
+    }
 
     npcs.clear();
-    npcIds.clear();
   }
 
   @Override
@@ -239,7 +234,6 @@ public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifie
     for (NpcModel npc : pers.list(NpcModel.class)) {
       FakeNpc fNpc = fakeNpcFromModel(npc);
       npcs.put(npc.getName().toLowerCase(), fNpc);
-      npcIds.put(fNpc.getEntityId(), fNpc);
     }
 
     intervalHandle = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, () -> {
@@ -248,72 +242,6 @@ public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifie
     }, 0L, UPDATE_INTERVAL_TICKS);
   }
 
-  @Override
-  public Packet<?> modifyIncoming(UUID sender, PacketSource ps, Packet<?> incoming) {
-    // A player used an entity (left- or right click)
-    if (sender != null && incoming instanceof PacketPlayInUseEntity pack) {
-
-      try {
-        Player p = Bukkit.getPlayer(sender);
-        int entityId = refl.getFieldByType(pack, int.class, 0);
-
-
-        FakeNpc target = npcIds.get(entityId);
-
-        // Not a fake NPC, do nothing
-        if (target == null)
-          return incoming;
-
-        // Debounce packets, ignore bursts (but still drop the packet)
-        Long lastEmit = lastEventEmits.get(sender);
-        if (lastEmit != null && System.currentTimeMillis() < lastEmit + EVENT_DEBOUNCE_MS)
-          return null;
-
-        // Get the first enum defined within the packet's class (is the interact type, as there's only one)
-        Class<?> actionEnumC = Arrays.stream(PacketPlayInUseEntity.class.getDeclaredClasses())
-          .filter(Class::isEnum)
-          .findFirst()
-          .orElseThrow();
-
-        // Get the use-action interface type'd field within the packet
-        Class<?> actionC = refl.findInnerClass(pack.getClass(), "EnumEntityUseAction");
-        Object useAction = refl.getFieldByType(pack, actionC, 0);
-
-        // Invoke the method of that interface which returns the action enum
-        Enum<?> action = (Enum<?>) refl.findMethodByReturn(useAction.getClass(), actionEnumC)
-          .orElseThrow()
-          .invoke(useAction);
-
-        // The boolean signals whether the interacting player was sneaking
-        boolean isSneaking = refl.getFieldByType(pack, boolean.class, 0);
-
-        // Create a new npc event from these parameters and decode the action
-        NpcInteractEvent event = new NpcInteractEvent(
-          p,
-          action.ordinal() == 1 ? NpcInteraction.HIT : NpcInteraction.INTERACTED,
-          isSneaking,
-          target.getName()
-        );
-
-        // Fire the event synchronously
-        Bukkit.getScheduler().runTask(plugin, () -> Bukkit.getPluginManager().callEvent(event));
-        this.lastEventEmits.put(sender, System.currentTimeMillis());
-
-        // Catch this packet
-        return null;
-      } catch (Exception e) {
-        logger.logError(e);
-      }
-    }
-
-    return incoming;
-  }
-
-  @Override
-  public Packet<?> modifyOutgoing(UUID receiver, NetworkManager nm, Packet<?> outgoing) {
-    return outgoing;
-  }
-
   //=========================================================================//
   //                                 Listener                                //
   //=========================================================================//
@@ -341,7 +269,6 @@ public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifie
 
     FakeNpc fn = fakeNpcFromModel(model);
     this.npcs.put(name, fn);
-    this.npcIds.put(fn.getEntityId(), fn);
 
     return fn;
   }
@@ -352,11 +279,64 @@ public class NpcHandler implements INpcHandler, IAutoConstructed, IPacketModifie
    * @return New fake npc
    */
   private FakeNpc fakeNpcFromModel(NpcModel model) {
-    return new FakeNpc(
+    FakeNpc fNpc = new FakeNpc(
       model.getLoc(),
       playerTextures.getProfileOrDefault(model.getSkinOwnerName()),
       generateEntityId(), model.getName(), npcComm, plugin
     );
+
+    fakeEntities.register(fNpc.getEntityId(), fNpc, this::onInteract);
+    return fNpc;
+  }
+
+  /**
+   * Handles interactions with fake npcs by firing a custom npc event
+   * @param p Interacting player
+   * @param ps Source of the packet
+   * @param pack Interaction packet
+   * @param owner Npc which has been interacted with
+   * @return Always null, as the packet is caught
+   */
+  private Packet<?> onInteract(Player p, PacketSource ps, PacketPlayInUseEntity pack, Object owner) throws Exception {
+    FakeNpc target = (FakeNpc) owner;
+
+    // Debounce packets, ignore bursts (but still drop the packet)
+    Long lastEmit = lastEventEmits.get(p.getUniqueId());
+    if (lastEmit != null && System.currentTimeMillis() < lastEmit + EVENT_DEBOUNCE_MS)
+      return null;
+
+    // Get the first enum defined within the packet's class (is the interact type, as there's only one)
+    Class<?> actionEnumC = Arrays.stream(PacketPlayInUseEntity.class.getDeclaredClasses())
+      .filter(Class::isEnum)
+      .findFirst()
+      .orElseThrow();
+
+    // Get the use-action interface type'd field within the packet
+    Class<?> actionC = refl.findInnerClass(pack.getClass(), "EnumEntityUseAction");
+    Object useAction = refl.getFieldByType(pack, actionC, 0);
+
+    // Invoke the method of that interface which returns the action enum
+    Enum<?> action = (Enum<?>) refl.findMethodByReturn(useAction.getClass(), actionEnumC)
+      .orElseThrow()
+      .invoke(useAction);
+
+    // The boolean signals whether the interacting player was sneaking
+    boolean isSneaking = refl.getFieldByType(pack, boolean.class, 0);
+
+    // Create a new npc event from these parameters and decode the action
+    NpcInteractEvent event = new NpcInteractEvent(
+      p,
+      action.ordinal() == 1 ? NpcInteraction.HIT : NpcInteraction.INTERACTED,
+      isSneaking,
+      target.getName()
+    );
+
+    // Fire the event synchronously
+    Bukkit.getScheduler().runTask(plugin, () -> Bukkit.getPluginManager().callEvent(event));
+    this.lastEventEmits.put(p.getUniqueId(), System.currentTimeMillis());
+
+    // Catch this packet
+    return null;
   }
 
   /**
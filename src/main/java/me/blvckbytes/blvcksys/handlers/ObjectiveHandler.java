@@ -43,7 +43,8 @@ import java.util.stream.Collectors;
   name above their avatar for all players. All created objectives are destroyed
   before the end of this module's lifecycle. Levels and hearts below the name are
   only updated on an actual numeric delta by listening to all corresponding events
-  that affect those metrics. The sidebar is also only refreshed on changes.
+  that affect those metrics. The sidebar is also only refreshed on changes, where
+  only those scores are sent which differ from what the client has last received.
 */
 @AutoConstruct
 public class ObjectiveHandler implements Listener, IAutoConstructed, IObjectiveHandler {
@@ -65,8 +66,9 @@ public class ObjectiveHandler implements Listener, IAutoConstructed, IObjectiveH
   private final IPlayerStatsHandler stats;
   private final TimeUtil time;
 
-  // Previous sidebar lines, used for diffing and thus obsolete score deletion
-  private final Map<Player, List<String>> prevSidebarLines;
+  // Previously sent sidebar lines and their scores, used for diffing and thus
+  // to only send changed scores as well as to delete obsolete scores
+  private final Map<Player, Map<String, Integer>> prevSidebarScores;
 
   // List of all players that a player has registered objectives for below name for
   private final Map<Player, List<Player>> knownBelowNames;
@@ -85,7 +87,7 @@ public class ObjectiveHandler implements Listener, IAutoConstructed, IObjectiveH
     @AutoInject IPlayerStatsHandler stats,
     @AutoInject TimeUtil time
   ) {
-    this.prevSidebarLines = new HashMap<>();
+    this.prevSidebarScores = new HashMap<>();
     this.knownBelowNames = new HashMap<>();
     this.prevLevels = new HashMap<>();
     this.belowNameFlags = new HashMap<>();
@@ -128,6 +130,9 @@ public class ObjectiveHandler implements Listener, IAutoConstructed, IObjectiveH
 
   @EventHandler
   public void onQuit(PlayerQuitEvent e) {
+    prevSidebarScores.remove(e.getPlayer());
+    prevLevels.remove(e.getPlayer());
+
     // Remove this player form all player's below name
     for (Player t : Bukkit.getOnlinePlayers()) {
       if (t != e.getPlayer())
@@ -349,6 +354,8 @@ public class ObjectiveHandler implements Listener, IAutoConstructed, IObjectiveH
    * @param t Target player
    */
   private void clearSidebarObjective(Player t) {
+    // The client forgets about all scores of this objective
+    prevSidebarScores.remove(t);
     oComm.sendObjective(t, NAME_SIDEBAR, ObjectiveMode.REMOVE, null, null);
   }
 
@@ -357,6 +364,9 @@ public class ObjectiveHandler implements Listener, IAutoConstructed, IObjectiveH
    * @param t Target player
    */
   private void createSidebarObjective(Player t) {
+    // A newly created objective has no scores yet
+    prevSidebarScores.remove(t);
+
     // Create the sidebar objective
     if (oComm.sendObjective(
       t, NAME_SIDEBAR,
@@ -510,18 +520,27 @@ public class ObjectiveHandler implements Listener, IAutoConstructed, IObjectiveH
     // Uniquify all lines to avoid collisions (multiple lines collapsing into a single score)
     scores = uniquifyLines(scores);
 
+    // Map all lines to their inverse score (since the board is ordered descending)
+    Map<String, Integer> currScores = new HashMap<>();
+    for (int i = 0; i < scores.size(); i++)
+      currScores.put(scores.get(i), scores.size() - 1 - i);
+
+    Map<String, Integer> prevScores = prevSidebarScores.getOrDefault(t, Collections.emptyMap());
+
     // Remove all previous lines that are not in the current score list
-    for (String prev : prevSidebarLines.getOrDefault(t, new ArrayList<>())) {
-      if (!scores.contains(prev))
+    for (String prev : prevScores.keySet()) {
+      if (!currScores.containsKey(prev))
         oComm.updateScore(t, NAME_SIDEBAR, prev, true, null);
     }
 
-    // Set previous lines cache
-    prevSidebarLines.put(t, scores);
+    // Set previous scores cache
+    prevSidebarScores.put(t, currScores);
 
-    // Update all scores and set their inverse score (since the board is ordered descending)
-    for (int i = 0; i < scores.size(); i++)
-      oComm.updateScore(t, NAME_SIDEBAR, scores.get(i), false, scores.size() - 1 - i);
+    // Only update scores of lines which are new or have been moved
+    for (Map.Entry<String, Integer> score : currScores.entrySet()) {
+      if (!score.getValue().equals(prevScores.get(score.getKey())))
+        oComm.updateScore(t, NAME_SIDEBAR, score.getKey(), false, score.getValue());
+    }
   }
 
   /**
@@ -0,0 +1,229 @@
+package me.blvckbytes.blvcksys.handlers;
+
+import me.blvckbytes.blvcksys.di.AutoConstruct;
+import me.blvckbytes.blvcksys.di.IAutoConstructed;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Keeps the names of all players who have ever played on this server in memory,
+  so that suggestions don't have to visit the server's offline player store. The
+  store is only read once on startup, while joining players keep the index up to date.
+
+  Names are held in an array which is sorted by their lowercase representation,
+  so prefixes are located by a binary search. Names which only contain the input
+  are found by scanning the array, which stops as soon as the limit has been reached.
+*/
+@AutoConstruct
+public class PlayerNameIndex implements IPlayerNameIndex, IAutoConstructed, Listener {
+
+  // Lowercase names in ascending order, their original names and their owners at the same index
+  private String[] keys;
+  private String[] names;
+  private UUID[] ids;
+  private int size;
+
+  // Mapping players to their currently indexed lowercase name
+  private final Map<UUID, String> keysById;
+
+  public PlayerNameIndex() {
+    this.keys = new String[16];
+    this.names = new String[16];
+    this.ids = new UUID[16];
+    this.keysById = new HashMap<>();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  @Override
+  public synchronized List<String> suggest(String input, int limit, Collection<? extends OfflinePlayer> exclude) {
+    List<String> res = new ArrayList<>();
+    String typed = input.toLowerCase();
+
+    // Resolve the players to exclude once, instead of comparing players per name
+    Set<UUID> excluded = new HashSet<>();
+    for (OfflinePlayer p : exclude)
+      excluded.add(p.getUniqueId());
+
+    // Collect all names which start with the input
+    for (int i = lowerBound(typed); i < size && res.size() < limit; i++) {
+      if (!keys[i].startsWith(typed))
+        break;
+
+      if (!excluded.contains(ids[i]))
+        res.add(names[i]);
+    }
+
+    // Every name starts with an empty input
+    if (typed.isEmpty())
+      return res;
+
+    // Fill up with names which contain the input somewhere after their first character
+    for (int i = 0; i < size && res.size() < limit; i++) {
+      String key = keys[i];
+      if (key.indexOf(typed, 1) > 0 && !key.startsWith(typed) && !excluded.contains(ids[i]))
+        res.add(names[i]);
+    }
+
+    return res;
+  }
+
+  @Override
+  public synchronized int size() {
+    return size;
+  }
+
+  @Override
+  public void cleanup() {}
+
+  @Override
+  public void initialize() {
+    List<OfflinePlayer> players = new ArrayList<>();
+    for (OfflinePlayer p : Bukkit.getOfflinePlayers()) {
+      if (p.hasPlayedBefore() && p.getName() != null)
+        players.add(p);
+    }
+
+    synchronized (this) {
+      keys = new String[Math.max(16, players.size())];
+      names = new String[keys.length];
+      ids = new UUID[keys.length];
+      size = 0;
+      keysById.clear();
+
+      // Later entries of the same name replace earlier entries, just like on insertion
+      Map<String, OfflinePlayer> byKey = new HashMap<>();
+      for (OfflinePlayer p : players) {
+        OfflinePlayer previous = byKey.put(p.getName().toLowerCase(), p);
+        if (previous != null)
+          keysById.remove(previous.getUniqueId());
+        keysById.put(p.getUniqueId(), p.getName().toLowerCase());
+      }
+
+      // Sort once instead of inserting every name into it's position
+      List<String> sortedKeys = new ArrayList<>(byKey.keySet());
+      Collections.sort(sortedKeys);
+
+      for (String key : sortedKeys) {
+        OfflinePlayer p = byKey.get(key);
+        keys[size] = key;
+        names[size] = p.getName();
+        ids[size] = p.getUniqueId();
+        size++;
+      }
+    }
+  }
+
+  //=========================================================================//
+  //                                Listener                                 //
+  //=========================================================================//
+
+  @EventHandler
+  public void onJoin(PlayerJoinEvent e) {
+    index(e.getPlayer());
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Add a player's current name to the index, which replaces
+   * their previous name, if they changed it in the meantime
+   * @param p Target player
+   */
+  private synchronized void index(OfflinePlayer p) {
+    String name = p.getName();
+    if (name == null)
+      return;
+
+    String key = name.toLowerCase();
+    String previous = keysById.put(p.getUniqueId(), key);
+
+    // Name didn't change, only update the casing
+    if (key.equals(previous)) {
+      int index = lowerBound(key);
+      if (index < size && keys[index].equals(key))
+        names[index] = name;
+      return;
+    }
+
+    if (previous != null)
+      remove(previous);
+
+    int index = lowerBound(key);
+
+    // Another player used to have this name, take it over
+    if (index < size && keys[index].equals(key)) {
+      keysById.remove(ids[index]);
+      names[index] = name;
+      ids[index] = p.getUniqueId();
+      return;
+    }
+
+    // Grow the arrays if they're full
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      names = Arrays.copyOf(names, size * 2);
+      ids = Arrays.copyOf(ids, size * 2);
+    }
+
+    // Shift all following names by one to make space
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(names, index, names, index + 1, size - index);
+    System.arraycopy(ids, index, ids, index + 1, size - index);
+
+    keys[index] = key;
+    names[index] = name;
+    ids[index] = p.getUniqueId();
+    size++;
+  }
+
+  /**
+   * Remove a name from the index
+   * @param key Lowercase name to remove
+   */
+  private void remove(String key) {
+    int index = lowerBound(key);
+    if (index >= size || !keys[index].equals(key))
+      return;
+
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(names, index + 1, names, index, size - index - 1);
+    System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+
+    size--;
+    keys[size] = null;
+    names[size] = null;
+    ids[size] = null;
+  }
+
+  /**
+   * Find the index of the first key which is greater than or equal to the provided key
+   * @param key Key to search for
+   * @return Index within the key array, size if all keys are smaller
+   */
+  private int lowerBound(String key) {
+    int lo = 0, hi = size;
+
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (keys[mid].compareTo(key) < 0)
+        lo = mid + 1;
+      else
+        hi = mid;
+    }
+
+    return lo;
+  }
+}
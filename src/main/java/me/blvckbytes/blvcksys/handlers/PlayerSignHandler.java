@@ -49,18 +49,21 @@ public class PlayerSignHandler extends ATemplateHandler implements IPlayerSignHa
   private final IPersistence pers;
   private final JavaPlugin plugin;
   private final IConfig cfg;
+  private final IBlockRegistry blockRegistry;
 
   public PlayerSignHandler(
     @AutoInject IPersistence pers,
     @AutoInject JavaPlugin plugin,
     @AutoInject ILiveVariableSupplier varSupp,
-    @AutoInject IConfig cfg
+    @AutoInject IConfig cfg,
+    @AutoInject IBlockRegistry blockRegistry
   ) {
     super(varSupp);
 
     this.pers = pers;
     this.plugin = plugin;
     this.cfg = cfg;
+    this.blockRegistry = blockRegistry;
 
     this.intervalHandle = -1;
     this.templates = new HashMap<>();
@@ -127,6 +130,7 @@ public class PlayerSignHandler extends ATemplateHandler implements IPlayerSignHa
 
     // Mark this sign for ASAP restore and deletion
     templates.put(from.getLocation(), new Tuple<>(1L, null));
+    unregisterBlock(from.getLocation());
 
     updateTemplate(targetSign);
     return TriResult.SUCC;
@@ -135,6 +139,7 @@ public class PlayerSignHandler extends ATemplateHandler implements IPlayerSignHa
   @Override
   public boolean deleteSign(Sign sign) {
     templates.remove(sign.getLocation());
+    unregisterBlock(sign.getLocation());
     return pers.delete(buildQuery(sign.getLocation())) > 0;
   }
 
@@ -142,6 +147,10 @@ public class PlayerSignHandler extends ATemplateHandler implements IPlayerSignHa
   public void cleanup() {
     if (this.intervalHandle > 0)
       Bukkit.getScheduler().cancelTask(this.intervalHandle);
+
+    for (Location loc : templates.keySet())
+      unregisterBlock(loc);
+
     templates.clear();
   }
 
@@ -180,7 +189,7 @@ public class PlayerSignHandler extends ATemplateHandler implements IPlayerSignHa
 
   @EventHandler
   public void onBreak(BlockBreakEvent e) {
-    if (!templates.containsKey(e.getBlock().getLocation()))
+    if (blockRegistry.lookup(e.getBlock(), PlayerSignModel.class).isEmpty())
       return;
 
     e.setCancelled(true);
@@ -214,6 +223,19 @@ public class PlayerSignHandler extends ATemplateHandler implements IPlayerSignHa
     }
 
     templates.put(sign.getLoc(), new Tuple<>(dur, lineTemplates));
+
+    // Replace the previous registration, which may be held by an outdated model
+    unregisterBlock(sign.getLoc());
+    blockRegistry.register(sign.getLoc(), sign);
+  }
+
+  /**
+   * Unregister the sign model which is registered at a given location
+   * @param loc Location of the sign
+   */
+  private void unregisterBlock(Location loc) {
+    blockRegistry.lookup(loc, PlayerSignModel.class)
+      .ifPresent(model -> blockRegistry.unregister(loc, model));
   }
 
   /**
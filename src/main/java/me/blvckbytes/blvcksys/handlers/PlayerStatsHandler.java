@@ -11,6 +11,7 @@ import me.blvckbytes.blvcksys.persistence.IPersistence;
 import me.blvckbytes.blvcksys.persistence.models.PlayerStatsModel;
 import me.blvckbytes.blvcksys.persistence.query.EqualityOperation;
 import me.blvckbytes.blvcksys.persistence.query.QueryBuilder;
+import net.minecraft.util.Tuple;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
@@ -24,8 +25,7 @@ import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.ToLongFunction;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -35,6 +35,14 @@ import java.util.stream.Stream;
   an API to alter the individual statistics available, while also allowing
   other modules to register an interest for occurring updates. Updates
   are mostly bound to events, handled too by this module.
+
+  Every statistic is ranked by a leaderboard, which is seeded from persistence
+  once and then kept up to date whenever a player's stats change.
+
+  Money operations are serialized per player through striped locks and written
+  as deltas which the database applies itself, while all other statistics only
+  write their own columns, so that concurrent updates of the same row can no
+  longer overwrite each other.
 */
 @AutoConstruct
 public class PlayerStatsHandler implements IPlayerStatsHandler, IAutoConstructed, Listener {
@@ -48,14 +56,20 @@ public class PlayerStatsHandler implements IPlayerStatsHandler, IAutoConstructed
   // Money to receive when reaching another killstreak broadcast
   private static final int KILLSTREAK_MONEY = 100;
 
+  // Number of locks which money operations are striped across
+  private static final int MONEY_LOCK_STRIPES = 16;
+
   // There can be multiple update interests per statistic
   private final Map<PlayerStatistic, List<Consumer<OfflinePlayer>>> updateInterests;
 
   // Each player is being mapped to their stats model
   private final Map<OfflinePlayer, PlayerStatsModel> cache;
 
-  // Each statistic is being mapped to a list of top players in that statistic
-  private final Map<PlayerStatistic, List<PlayerStatsModel>> topCache;
+  // Each statistic is being mapped to the leaderboard of all players
+  private final Map<PlayerStatistic, Leaderboard> leaderboards;
+
+  // Locks which serialize money operations, where each player maps to one of them
+  private final Object[] moneyLocks;
 
   private final IPersistence pers;
   private final JavaPlugin plugin;
@@ -82,8 +96,15 @@ public class PlayerStatsHandler implements IPlayerStatsHandler, IAutoConstructed
     this.cfg = cfg;
 
     this.updateInterests = new HashMap<>();
-    this.topCache = new HashMap<>();
+    this.leaderboards = new EnumMap<>(PlayerStatistic.class);
     this.cache = new HashMap<>();
+    this.moneyLocks = new Object[MONEY_LOCK_STRIPES];
+
+    for (int i = 0; i < moneyLocks.length; i++)
+      this.moneyLocks[i] = new Object();
+
+    for (PlayerStatistic statistic : PlayerStatistic.values())
+      this.leaderboards.put(statistic, new Leaderboard());
   }
 
   //=========================================================================//
@@ -91,59 +112,54 @@ public class PlayerStatsHandler implements IPlayerStatsHandler, IAutoConstructed
   //=========================================================================//
 
   @Override
-  public List<PlayerStatsModel> getTop5Ranked(PlayerStatistic statistic) {
-    // This statistic's top players have already been loaded into cache,
-    // there is no point fetching from DB again, as there will be no
-    // better players available in the data-set
-    List<PlayerStatsModel> topStats = topCache.get(statistic);
-    if (topStats != null) {
-
-      // Remove all currently cached stats from the top stats list, to refresh them, but
-      // keep the non-available, initially fetched, highest stats
-      cache.values().forEach(cPs -> {
-        topStats.removeIf(tPs -> tPs.getOwner().getUniqueId().equals(cPs.getOwner().getUniqueId()));
-      });
-
-      // Decide on new top 5 players from the cache as well as the top cache combined
-      List<PlayerStatsModel> newTopStats = Stream.concat(
-        cache.values().stream(),
-        topStats.stream()
-      )
-        .sorted((a, b) -> (
-          switch (statistic) {
-            case KILLS -> b.getKills() - a.getKills();
-            case DEATHS -> b.getDeaths() - a.getDeaths();
-            case MONEY -> b.getMoney() - a.getMoney();
-            case PLAYTIME -> -Long.compare(a.getPlaytimeSeconds(), b.getPlaytimeSeconds());
-            case CURRENT_KILLSTREAK -> b.getCurrentKillstreak() - a.getCurrentKillstreak();
-            case HIGHEST_KILLSTREAK -> b.getHighestKillstreak() - a.getHighestKillstreak();
-          }
-        ))
-        .limit(5)
-        .collect(Collectors.toList());
-
-      // Update and return the new top cache
-      topCache.put(statistic, newTopStats);
-      return newTopStats;
+  public List<PlayerStatsModel> getTopRanked(PlayerStatistic statistic, int offset, int limit) {
+    List<UUID> page = leaderboards.get(statistic).page(offset, limit);
+    Map<UUID, PlayerStatsModel> models = new HashMap<>();
+    QueryBuilder<PlayerStatsModel> missing = null;
+
+    for (UUID id : page) {
+      Player online = Bukkit.getPlayer(id);
+      PlayerStatsModel cached = online == null ? null : cache.get(online);
+
+      if (cached != null) {
+        models.put(id, cached);
+        continue;
+      }
+
+      // Offline players are loaded in one go, without caching them
+      if (missing == null)
+        missing = new QueryBuilder<>(PlayerStatsModel.class, "owner__uuid", EqualityOperation.EQ, id);
+      else
+        missing.or("owner__uuid", EqualityOperation.EQ, id);
     }
 
-    QueryBuilder<PlayerStatsModel> query = new QueryBuilder<>(PlayerStatsModel.class).limit(5);
+    if (missing != null) {
+      for (PlayerStatsModel model : pers.find(missing)) {
+        if (model.getOwner() != null)
+          models.put(model.getOwner().getUniqueId(), model);
+      }
+    }
 
-    switch (statistic) {
-      case KILLS -> query.orderBy("kills", false);
-      case DEATHS -> query.orderBy("deaths", false);
-      case MONEY -> query.orderBy("money", false);
-      case PLAYTIME -> query.orderBy("playtimeSeconds", false);
-      case CURRENT_KILLSTREAK -> query.orderBy("currentKillstreak", false);
-      case HIGHEST_KILLSTREAK -> query.orderBy("highestKillstreak", false);
+    // Keep the order of the leaderboard, skipping rows which vanished in the meantime
+    List<PlayerStatsModel> res = new ArrayList<>();
+    for (UUID id : page) {
+      PlayerStatsModel model = models.get(id);
+      if (model != null)
+        res.add(model);
     }
 
-    // Fetch the statistic's top players from DB and cache the result
-    List<PlayerStatsModel> top5 = pers.find(query);
-    top5.forEach(top -> cache.put(top.getOwner(), top));
-    topCache.put(statistic, top5);
+    return res;
+  }
+
+  @Override
+  public Optional<Integer> getRank(OfflinePlayer p, PlayerStatistic statistic) {
+    int rank = leaderboards.get(statistic).rank(p.getUniqueId());
+    return rank < 0 ? Optional.empty() : Optional.of(rank + 1);
+  }
 
-    return top5;
+  @Override
+  public int getNumRanked(PlayerStatistic statistic) {
+    return leaderboards.get(statistic).size();
   }
 
   @Override
@@ -177,19 +193,90 @@ public class PlayerStatsHandler implements IPlayerStatsHandler, IAutoConstructed
   ///////////////////////////////// MONEY ////////////////////////////////////
 
   @Override
-  public void addMoney(OfflinePlayer p, int amount) {
+  public int addMoney(OfflinePlayer p, int amount) {
     PlayerStatsModel stats = getStats(p);
-    stats.setMoney(stats.getMoney() + amount);
-    pers.store(stats);
+    int after;
+
+    synchronized (moneyLocks[moneyStripe(p)]) {
+      // Never take more than the player owns
+      after = Math.max(0, stats.getMoney() + amount);
+      writeMoney(stats, after - stats.getMoney());
+    }
 
+    updateRanks(stats);
     callInterest(PlayerStatistic.MONEY, p);
+    return after;
+  }
+
+  @Override
+  public boolean takeMoney(OfflinePlayer p, int amount) {
+    PlayerStatsModel stats = getStats(p);
+
+    synchronized (moneyLocks[moneyStripe(p)]) {
+      if (stats.getMoney() < amount)
+        return false;
+
+      writeMoney(stats, -amount);
+    }
+
+    updateRanks(stats);
+    callInterest(PlayerStatistic.MONEY, p);
+    return true;
+  }
+
+  @Override
+  public boolean transferMoney(OfflinePlayer from, OfflinePlayer to, int amount) {
+    if (amount <= 0)
+      return false;
+
+    PlayerStatsModel fromStats = getStats(from), toStats = getStats(to);
+
+    // Always acquire the locks in the same order to avoid deadlocks
+    int fromStripe = moneyStripe(from), toStripe = moneyStripe(to);
+
+    synchronized (moneyLocks[Math.min(fromStripe, toStripe)]) {
+      synchronized (moneyLocks[Math.max(fromStripe, toStripe)]) {
+        if (fromStats.getMoney() < amount)
+          return false;
+
+        // Write both deltas within a single transaction
+        pers.addToProperty("money", List.of(
+          new Tuple<>(fromStats, (long) -amount),
+          new Tuple<>(toStats, (long) amount)
+        ));
+
+        fromStats.setMoney(fromStats.getMoney() - amount);
+        toStats.setMoney(toStats.getMoney() + amount);
+      }
+    }
+
+    updateRanks(fromStats);
+    updateRanks(toStats);
+    callInterest(PlayerStatistic.MONEY, from);
+    callInterest(PlayerStatistic.MONEY, to);
+    return true;
+  }
+
+  @Override
+  public int setMoney(OfflinePlayer p, int amount) {
+    PlayerStatsModel stats = getStats(p);
+    int before;
+
+    synchronized (moneyLocks[moneyStripe(p)]) {
+      before = stats.getMoney();
+      writeMoney(stats, amount - before);
+    }
+
+    updateRanks(stats);
+    callInterest(PlayerStatistic.MONEY, p);
+    return before;
   }
 
   @Override
   public void setLastLogin(OfflinePlayer p, Date stamp) {
     PlayerStatsModel stats = getStats(p);
     stats.setLastLogin(stamp);
-    pers.store(stats);
+    pers.storeProperties(stats, "lastLogin");
   }
 
   @Override
@@ -200,6 +287,23 @@ public class PlayerStatsHandler implements IPlayerStatsHandler, IAutoConstructed
 
   @Override
   public void initialize() {
+    // Seed all leaderboards once by only reading the scores, they're kept up to date from here on
+    List<String> properties = new ArrayList<>();
+    properties.add("owner__uuid");
+
+    for (PlayerStatistic statistic : PlayerStatistic.values())
+      properties.add(scoreProperty(statistic));
+
+    for (Map<String, Object> row : pers.listRaw(PlayerStatsModel.class, properties.toArray(String[]::new))) {
+      // Stats of deleted players cannot be ranked
+      if (!(row.get("owner__uuid") instanceof UUID owner))
+        continue;
+
+      updateRanks(owner, statistic -> (
+        row.get(scoreProperty(statistic)) instanceof Number n ? n.longValue() : 0
+      ));
+    }
+
     for (Player t : Bukkit.getOnlinePlayers())
       loadPlayer(t);
 
@@ -274,7 +378,8 @@ public class PlayerStatsHandler implements IPlayerStatsHandler, IAutoConstructed
       callInterest(PlayerStatistic.CURRENT_KILLSTREAK, p);
     }
 
-    pers.store(stats);
+    pers.storeProperties(stats, "deaths", "currentKillstreak", "highestKillstreak");
+    updateRanks(stats);
     callInterest(PlayerStatistic.DEATHS, p);
   }
 
@@ -303,10 +408,11 @@ public class PlayerStatsHandler implements IPlayerStatsHandler, IAutoConstructed
       );
 
       // Hand out the killstreak money
-      stats.setMoney(stats.getMoney() + KILLSTREAK_MONEY);
+      addMoney(p, KILLSTREAK_MONEY);
     }
 
-    pers.store(stats);
+    pers.storeProperties(stats, "kills", "currentKillstreak");
+    updateRanks(stats);
     callInterest(PlayerStatistic.KILLS, p);
   }
 
@@ -327,12 +433,79 @@ public class PlayerStatsHandler implements IPlayerStatsHandler, IAutoConstructed
     if (model == null) {
       model = PlayerStatsModel.createDefault(p);
       pers.store(model);
+      updateRanks(model);
     }
 
     this.cache.put(p, model);
     return model;
   }
 
+  /**
+   * Get the index of the lock which serializes a player's money operations
+   * @param p Target player
+   */
+  private int moneyStripe(OfflinePlayer p) {
+    return Math.floorMod(p.getUniqueId().hashCode(), moneyLocks.length);
+  }
+
+  /**
+   * Persist a delta of a player's money and apply it to the model afterwards,
+   * which has to be called while holding the player's money lock
+   * @param stats Stats of the player
+   * @param delta Delta of money
+   */
+  private void writeMoney(PlayerStatsModel stats, int delta) {
+    if (delta == 0)
+      return;
+
+    pers.addToProperty(stats, "money", delta);
+    stats.setMoney(stats.getMoney() + delta);
+  }
+
+  /**
+   * Update the scores of a player on all leaderboards
+   * @param stats Stats of the player
+   */
+  private void updateRanks(PlayerStatsModel stats) {
+    // Stats of deleted players cannot be ranked
+    if (stats.getOwner() == null)
+      return;
+
+    updateRanks(stats.getOwner().getUniqueId(), statistic -> switch (statistic) {
+      case KILLS -> stats.getKills();
+      case DEATHS -> stats.getDeaths();
+      case MONEY -> stats.getMoney();
+      case PLAYTIME -> stats.getPlaytimeSeconds();
+      case CURRENT_KILLSTREAK -> stats.getCurrentKillstreak();
+      case HIGHEST_KILLSTREAK -> stats.getHighestKillstreak();
+    });
+  }
+
+  /**
+   * Update the scores of a player on all leaderboards
+   * @param id ID of the player
+   * @param score Resolves the player's score of a statistic
+   */
+  private void updateRanks(UUID id, ToLongFunction<PlayerStatistic> score) {
+    for (Map.Entry<PlayerStatistic, Leaderboard> board : leaderboards.entrySet())
+      board.getValue().update(id, score.applyAsLong(board.getKey()));
+  }
+
+  /**
+   * Get the name of the model's property which holds the score of a statistic
+   * @param statistic Target statistic
+   */
+  private static String scoreProperty(PlayerStatistic statistic) {
+    return switch (statistic) {
+      case KILLS -> "kills";
+      case DEATHS -> "deaths";
+      case MONEY -> "money";
+      case PLAYTIME -> "playtimeSeconds";
+      case CURRENT_KILLSTREAK -> "currentKillstreak";
+      case HIGHEST_KILLSTREAK -> "highestKillstreak";
+    };
+  }
+
   /**
    * Call all registered interests for a specific statistic on a given player
    * @param statistic Changed statistic
@@ -360,8 +533,9 @@ public class PlayerStatsHandler implements IPlayerStatsHandler, IAutoConstructed
       // This might add a few extra seconds in special cases, but that's
       // neglectable and not worth the extra computing effort
       PlayerStatsModel stats = getStats(t);
+      pers.addToProperty(stats, "playtimeSeconds", TICKER_PERIOD_S);
       stats.setPlaytimeSeconds(stats.getPlaytimeSeconds() + TICKER_PERIOD_S);
-      pers.store(stats);
+      updateRanks(stats);
     }
 
     // After updating all playtimes in a separate thread, call all interests synchronously
@@ -15,8 +15,8 @@ import me.blvckbytes.blvcksys.packets.communicators.team.TeamAction;
 import me.blvckbytes.blvcksys.packets.communicators.team.TeamGroup;
 import me.blvckbytes.blvcksys.util.MCReflect;
 import net.minecraft.network.chat.ChatComponentText;
-import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.PacketPlayOutPlayerListHeaderFooter;
+import net.minecraft.util.Tuple;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
@@ -61,6 +61,9 @@ public class TeamHandler implements Listener, IAutoConstructed, ITeamHandler {
   // Created groups per player (each group has to be created once per client)
   private final Map<Player, List<TeamGroup>> createdGroups;
 
+  // Last sent tablist header and footer per player, used to skip unchanged updates
+  private final Map<Player, Tuple<String, String>> sentHeaderFooters;
+
   // Handle of the repeating task that takes care of periodically
   // sending out tablist header and footers (for live variables)
   private int taskHandle;
@@ -78,6 +81,7 @@ public class TeamHandler implements Listener, IAutoConstructed, ITeamHandler {
 
     this.members = new HashMap<>();
     this.createdGroups = new HashMap<>();
+    this.sentHeaderFooters = new HashMap<>();
     this.groups = new ArrayList<>();
 
     this.loadGroups();
@@ -92,23 +96,27 @@ public class TeamHandler implements Listener, IAutoConstructed, ITeamHandler {
     // Remove all groups to start over from a known state on next load
     for (Player t : Bukkit.getOnlinePlayers()) {
       // Reset the tab header and footer
-      refl.sendPacket(t, generateTabHeaderFooter(t, true));
+      refl.sendPacket(t, new PacketPlayOutPlayerListHeaderFooter(
+        new ChatComponentText(""), new ChatComponentText("")
+      ));
 
       // Remove all previously created groups
       removeAllGroups(t);
     }
 
+    sentHeaderFooters.clear();
+
     // Kill the repeating task
     Bukkit.getScheduler().cancelTask(taskHandle);
   }
 
   @Override
   public void initialize() {
-    // Send out header and footer packets every second to keep variables up to date
+    // Render header and footers every second to keep variables up to date
     taskHandle = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, () -> {
       // Send the tab header and footer to all players
       for (Player t : Bukkit.getOnlinePlayers())
-        refl.sendPacket(t, generateTabHeaderFooter(t, false));
+        sendTabHeaderFooter(t);
     }, 0L, 20L);
   }
 
@@ -145,11 +153,13 @@ public class TeamHandler implements Listener, IAutoConstructed, ITeamHandler {
     createGroups(e.getPlayer());
 
     // Send out the header and footer packet
-    refl.sendPacket(e.getPlayer(), generateTabHeaderFooter(e.getPlayer(), false));
+    sendTabHeaderFooter(e.getPlayer());
   }
 
   @EventHandler
   public void onQuit(PlayerQuitEvent e) {
+    sentHeaderFooters.remove(e.getPlayer());
+
     // Remove offline players from their group
     resetPlayerGroup(e.getPlayer(), null);
   }
@@ -464,18 +474,11 @@ public class TeamHandler implements Listener, IAutoConstructed, ITeamHandler {
   //=========================================================================//
 
   /**
-   * Generate a player-specific tablist header and footer packet
+   * Render the player-specific tablist header and footer and send it
+   * out, if it differs from what the player has last received
    * @param p Receiving player
-   * @param clear Whether or not to return a cleared packet
-   * @return Custom generated packet
    */
-  private Packet<?> generateTabHeaderFooter(Player p, boolean clear) {
-    // Return a cleared packet for resetting the header and footer
-    if (clear)
-      return new PacketPlayOutPlayerListHeaderFooter(
-        new ChatComponentText(""), new ChatComponentText("")
-      );
-
+  private void sendTabHeaderFooter(Player p) {
     Map<String, String> vars = ConfigValue.makeEmpty()
       .withVariable("player", p.getName())
       .withVariable("num_online", Bukkit.getOnlinePlayers().size())
@@ -484,17 +487,24 @@ public class TeamHandler implements Listener, IAutoConstructed, ITeamHandler {
       .withVariable("time", df.format(new Date()))
       .exportVariables();
 
-    return new PacketPlayOutPlayerListHeaderFooter(
-      new ChatComponentText(
-        cfg.get(ConfigKey.TABLIST_HEADER)
-          .withVariables(vars)
-          .asScalar()
-      ),
-      new ChatComponentText(
-        cfg.get(ConfigKey.TABLIST_FOOTER)
-          .withVariables(vars)
-          .asScalar()
-      )
+    Tuple<String, String> headerFooter = new Tuple<>(
+      cfg.get(ConfigKey.TABLIST_HEADER)
+        .withVariables(vars)
+        .asScalar(),
+      cfg.get(ConfigKey.TABLIST_FOOTER)
+        .withVariables(vars)
+        .asScalar()
     );
+
+    // Content didn't change, the client still displays the last packet
+    Tuple<String, String> sent = sentHeaderFooters.get(p);
+    if (sent != null && sent.a().equals(headerFooter.a()) && sent.b().equals(headerFooter.b()))
+      return;
+
+    if (refl.sendPacket(p, new PacketPlayOutPlayerListHeaderFooter(
+      new ChatComponentText(headerFooter.a()),
+      new ChatComponentText(headerFooter.b())
+    )))
+      sentHeaderFooters.put(p, headerFooter);
   }
 }
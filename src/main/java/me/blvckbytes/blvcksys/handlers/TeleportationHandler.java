@@ -113,8 +113,8 @@ public class TeleportationHandler implements ITeleportationHandler, Listener {
         .asScalar()
     );
 
-    // Listen for moves and cancel accordingly
-    Runnable moveL = move.subscribe(p, () -> cancelTeleportation(p, true));
+    // Listen for moves into another block and cancel accordingly
+    Runnable moveL = move.subscribeBlockCrossing(p, () -> cancelTeleportation(p, true));
     tasks.put(p, new TeleportRequest(handle, cancelled, moveL));
   }
 
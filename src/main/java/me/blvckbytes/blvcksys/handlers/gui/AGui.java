@@ -6,6 +6,7 @@ import lombok.Setter;
 import me.blvckbytes.blvcksys.config.ConfigKey;
 import me.blvckbytes.blvcksys.config.ConfigValue;
 import me.blvckbytes.blvcksys.config.IConfig;
+import me.blvckbytes.blvcksys.di.AutoInjectLate;
 import me.blvckbytes.blvcksys.di.IAutoConstructed;
 import me.blvckbytes.blvcksys.events.InventoryManipulationEvent;
 import org.apache.commons.lang.WordUtils;
@@ -22,13 +23,13 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.IntStream;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 05/21/2022
 
-  The base of all GUIs which implements basic functionality.
+  The base of all GUIs which implements basic functionality. Instances are
+  ticked by the shared GUI ticker, which only visits items that are due.
 */
 public abstract class AGui<T> implements IAutoConstructed, Listener {
 
@@ -39,7 +40,10 @@ public abstract class AGui<T> implements IAutoConstructed, Listener {
   @Getter
   private final Map<Player, Set<GuiInstance<T>>> activeInstances;
 
-  private int tickerHandle;
+  // Shared ticker of all GUI instances
+  @AutoInjectLate
+  @Getter(AccessLevel.PACKAGE)
+  private IGuiTicker ticker;
 
   // Inventory title supplier
   @Getter
@@ -54,7 +58,12 @@ public abstract class AGui<T> implements IAutoConstructed, Listener {
 
   // Set of slots which are reserved for pages (items may differ for every session)
   @Getter
-  private final List<Integer> pageSlots;
+  private final SlotMask pageSlots;
+
+  // Compiled slot expressions, keyed by their expression and number of rows
+  private final Map<SlotExprKey, SlotMask> slotMasks;
+
+  private record SlotExprKey(String slotExpr, int rows) {}
 
   /**
    * Create a new GUI template base
@@ -94,9 +103,9 @@ public abstract class AGui<T> implements IAutoConstructed, Listener {
     this.cfg = cfg;
     this.type = type;
 
-    this.pageSlots = slotExprToSlots(pageSlotExpr, rows);
+    this.slotMasks = new HashMap<>();
+    this.pageSlots = compileSlots(pageSlotExpr, rows);
     this.activeInstances = new HashMap<>();
-    this.tickerHandle = -1;
   }
 
   //=========================================================================//
@@ -132,6 +141,7 @@ public abstract class AGui<T> implements IAutoConstructed, Listener {
     inst.refreshPageContents();
     inst.redraw("*");
     inst.open(animation, animateFrom);
+    inst.syncSchedule();
 
     opened(inst);
   }
@@ -148,9 +158,6 @@ public abstract class AGui<T> implements IAutoConstructed, Listener {
 
   @Override
   public void cleanup() {
-    if (tickerHandle > 0)
-      Bukkit.getScheduler().cancelTask(tickerHandle);
-
     // Destroy all instances of all players
     for (Set<GuiInstance<T>> instances : activeInstances.values()) {
       for (Iterator<GuiInstance<T>> instI = instances.iterator(); instI.hasNext();) {
@@ -163,27 +170,7 @@ public abstract class AGui<T> implements IAutoConstructed, Listener {
   }
 
   @Override
-  public void initialize() {
-    tickerHandle = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, new Runnable() {
-
-      long time = 0;
-
-      @Override
-      public void run() {
-
-        // Tick all instances of all players
-        for (Set<GuiInstance<T>> instances : activeInstances.values()) {
-          for (GuiInstance<T> instance : instances) {
-            // Don't tick animating GUIs
-            if (!instance.getAnimating().get())
-              instance.tick(time);
-          }
-        }
-
-        time++;
-      }
-    }, 0L, 1L);
-  }
+  public void initialize() {}
 
   //=========================================================================//
   //                                Internals                                //
@@ -294,40 +281,23 @@ public abstract class AGui<T> implements IAutoConstructed, Listener {
   }
 
   /**
-   * Convert a slot expression to a set of slot indices
+   * Compile a slot expression into a mask, which is only parsed once per
+   * expression and number of rows and then served from the cache
    * @param slotExpr Slot expression
    * @param rows Number of rows of the GUI
    */
-  public List<Integer> slotExprToSlots(String slotExpr, int rows) {
-    if (slotExpr.isBlank())
-      return new ArrayList<>();
-
-    List<Integer> slots = new ArrayList<>();
-
-    for (String range : slotExpr.split(",")) {
-      String[] rangeData = range.split("-");
-
-      if (rangeData[0].equals("*")) {
-        IntStream.range(0, rows * 9).forEach(slots::add);
-        break;
-      }
-
-      int from = Integer.parseInt(rangeData[0]);
-
-      if (rangeData.length == 1) {
-        slots.add(from);
-        continue;
-      }
-
-      int to = Integer.parseInt(rangeData[1]);
-
-      for (int i = from; from > to ? (i >= to) : (i <= to); i += (from > to ? -1 : 1)) {
-        if (i >= 0 && i < rows * 9)
-          slots.add(i);
-      }
-    }
+  public SlotMask compileSlots(String slotExpr, int rows) {
+    return slotMasks.computeIfAbsent(new SlotExprKey(slotExpr, rows), key -> SlotMask.compile(slotExpr, rows));
+  }
 
-    return slots;
+  /**
+   * Convert a slot expression to a list of slot indices
+   * @param slotExpr Slot expression
+   * @param rows Number of rows of the GUI
+   * @return Unmodifiable list of slots
+   */
+  public List<Integer> slotExprToSlots(String slotExpr, int rows) {
+    return compileSlots(slotExpr, rows).toList();
   }
 
   /**
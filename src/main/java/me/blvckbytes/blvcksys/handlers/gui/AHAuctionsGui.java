@@ -18,9 +18,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -81,25 +79,12 @@ public class AHAuctionsGui extends AGui<Object> {
 
     inst.addBack("36", stdGuiItemProvider, e -> back.run());
 
-    inst.setPageContents(() -> {
+    inst.setPageSource(new ListDataSource<>(
       // List all auctions that are either active or require final interaction
-      List<AHAuctionModel> auctions = ahHandler.listPendingAuctions(p);
+      () -> ahHandler.listPendingAuctions(p),
 
-      // No active auctions available
-      if (auctions.size() == 0) {
-        return List.of(
-          new GuiItem(
-            s -> (
-              new ItemStackBuilder(Material.BARRIER)
-                .withName(cfg.get(ConfigKey.GUI_AUCTIONS_AH_NONE_NAME))
-                .withLore(cfg.get(ConfigKey.GUI_AUCTIONS_AH_NONE_LORE))
-                .build()
-            ), null, null
-          )
-        );
-      }
-
-      return auctions.stream().map(auction -> (
+      // Only the items of displayed pages are built
+      auction -> (
         new GuiItem(
           s -> {
             AHBidModel lastBid = ahHandler.lastBid(auction, null).b();
@@ -201,9 +186,20 @@ public class AHAuctionsGui extends AGui<Object> {
           },
           10 // Redraw every 1s/2 to guarantee proper synchronicity
         )
-      ))
-      .collect(Collectors.toList());
-    });
+      ),
+
+      // No active auctions available
+      () -> (
+        new GuiItem(
+          s -> (
+            new ItemStackBuilder(Material.BARRIER)
+              .withName(cfg.get(ConfigKey.GUI_AUCTIONS_AH_NONE_NAME))
+              .withLore(cfg.get(ConfigKey.GUI_AUCTIONS_AH_NONE_LORE))
+              .build()
+          ), null, null
+        )
+      )
+    ));
 
     return true;
   }
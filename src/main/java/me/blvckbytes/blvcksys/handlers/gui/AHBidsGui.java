@@ -6,16 +6,11 @@ import me.blvckbytes.blvcksys.di.AutoConstruct;
 import me.blvckbytes.blvcksys.di.AutoInject;
 import me.blvckbytes.blvcksys.di.AutoInjectLate;
 import me.blvckbytes.blvcksys.handlers.IAHHandler;
-import me.blvckbytes.blvcksys.persistence.models.AHAuctionModel;
 import me.blvckbytes.blvcksys.persistence.models.AHBidModel;
-import net.minecraft.util.Tuple;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
   Created On: 06/12/2022
@@ -70,24 +65,11 @@ public class AHBidsGui extends AGui<Object> {
 
     inst.addBack("36", stdGuiItemProvider, e -> back.run());
 
-    inst.setPageContents(() -> {
-      List<Tuple<AHAuctionModel, AHBidModel>> auctions = ahHandler.listParticipatingOrRetrievableBidAuctions(p);
+    inst.setPageSource(new ListDataSource<>(
+      () -> ahHandler.listParticipatingOrRetrievableBidAuctions(p),
 
-      // No active bids available
-      if (auctions.size() == 0) {
-        return List.of(
-          new GuiItem(
-            s -> (
-              new ItemStackBuilder(Material.BARRIER)
-                .withName(cfg.get(ConfigKey.GUI_BIDS_AH_NONE_NAME))
-                .withLore(cfg.get(ConfigKey.GUI_BIDS_AH_NONE_LORE))
-                .build()
-            ), null, null
-          )
-        );
-      }
-
-      return auctions.stream().map(t -> (
+      // Only the items of displayed pages are built
+      t -> (
         new GuiItem(
           s -> {
             // An auction just ended, refresh contents
@@ -115,9 +97,20 @@ public class AHBidsGui extends AGui<Object> {
           },
           10 // Redraw every 1s/2 to guarantee proper synchronicity
         )
-      ))
-      .collect(Collectors.toList());
-    });
+      ),
+
+      // No active bids available
+      () -> (
+        new GuiItem(
+          s -> (
+            new ItemStackBuilder(Material.BARRIER)
+              .withName(cfg.get(ConfigKey.GUI_BIDS_AH_NONE_NAME))
+              .withLore(cfg.get(ConfigKey.GUI_BIDS_AH_NONE_LORE))
+              .build()
+          ), null, null
+        )
+      )
+    ));
 
     return true;
   }
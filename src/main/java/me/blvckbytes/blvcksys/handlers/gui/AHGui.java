@@ -21,10 +21,8 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -113,30 +111,19 @@ public class AHGui extends AGui<Object> {
     // Paginator
     inst.addPagination("51", "52", "53", stdGuiItemProvider);
 
-    inst.setPageContents(() -> {
-      // List all auctions based on the currently applied filters
-      AHStateModel state = ahHandler.getState(inst.getViewer());
-
-      // List all auctions according to the state's filter
-      List<AHAuctionModel> auctions = ahHandler.listPublicAuctions(
-        state.getCategory(), state.getSort(), state.getSearch()
-      );
+    inst.setPageSource(new ListDataSource<>(
+      () -> {
+        // List all auctions based on the currently applied filters
+        AHStateModel state = ahHandler.getState(inst.getViewer());
 
-      // No active auctions available
-      if (auctions.size() == 0) {
-        return List.of(
-          new GuiItem(
-            s -> (
-              new ItemStackBuilder(Material.BARRIER)
-                .withName(cfg.get(ConfigKey.GUI_AH_NONE_NAME))
-                .withLore(cfg.get(ConfigKey.GUI_AH_NONE_LORE))
-                .build()
-            ), null, null
-          )
+        // List all auctions according to the state's filter
+        return ahHandler.listPublicAuctions(
+          state.getCategory(), state.getSort(), state.getSearch()
         );
-      }
+      },
 
-      return auctions.stream().map(auction -> (
+      // Only the items of displayed pages are built
+      auction -> (
         new GuiItem(
           s -> {
 
@@ -152,9 +139,20 @@ public class AHGui extends AGui<Object> {
           e -> inst.switchTo(AnimationType.SLIDE_LEFT, ahBidGui, auction),
           10 // Redraw every 1s/2 to guarantee proper synchronicity
         )
-      ))
-      .collect(Collectors.toList());
-    });
+      ),
+
+      // No active auctions available
+      () -> (
+        new GuiItem(
+          s -> (
+            new ItemStackBuilder(Material.BARRIER)
+              .withName(cfg.get(ConfigKey.GUI_AH_NONE_NAME))
+              .withLore(cfg.get(ConfigKey.GUI_AH_NONE_LORE))
+              .build()
+          ), null, null
+        )
+      )
+    ));
 
     return true;
   }
@@ -37,8 +37,10 @@ import java.util.*;
 
   Pages are directly mapped to the model's inventories, but only synced on either
   closing the gui (storing that page) or paging to another page (storing the page
-  which has been paged away from). When the inventory is closed, only then that model
-  is stored persistently, as serializing all the items is not cheap.
+  which has been paged away from). When the inventory is closed, only then the pages
+  which contain changed slots are stored persistently, as serializing all the items is
+  not cheap. Changed pages are snapshotted on the main thread, while serializing and
+  writing them happens asynchronously.
 */
 @AutoConstruct
 public class EnderchestGui extends AGui<OfflinePlayer> {
@@ -79,15 +81,14 @@ public class EnderchestGui extends AGui<OfflinePlayer> {
     }
 
     chestInst.unregisterAfterChanges(inst.getViewer());
-    EnderchestModel chest = chestInst.getModel();
 
     // Ensure there are no animations playing while saving
     inst.fastForwardAnimating();
 
-    // Store the model persistently if there are any changes
+    // Store the changed pages persistently if there are any changes
     if (chestInst.hasChanges()) {
-      pers.store(chest);
-      chestInst.stored();
+      storeChanges(inst.getArg(), chestInst);
+      return false;
     }
 
     // Don't keep offline players in cache if they're not used anymore
@@ -199,6 +200,53 @@ public class EnderchestGui extends AGui<OfflinePlayer> {
     return true;
   }
 
+  /**
+   * Store all changed pages of an enderchest persistently by taking a snapshot
+   * of them and then serializing as well as writing that snapshot asynchronously
+   * @param owner Owner of the enderchest
+   * @param chestInst Enderchest to store
+   */
+  private void storeChanges(OfflinePlayer owner, EnderchestInstance chestInst) {
+    EnderchestInstance.PendingChanges changes = chestInst.takeChanges();
+
+    // Tasks cannot be scheduled while the plugin is disabling, write synchronously
+    if (!plugin.isEnabled()) {
+      if (writeChanges(changes))
+        chestInst.changesStored(changes);
+      return;
+    }
+
+    chestInst.scheduleWrite(() -> {
+      boolean stored = writeChanges(changes);
+
+      Bukkit.getScheduler().runTask(plugin, () -> {
+        // Failed changes stay pending and are written again by the next store
+        if (stored)
+          chestInst.changesStored(changes);
+
+        // Don't keep offline players in cache if they're not used anymore, which is only
+        // decided after writing, as reading from persistence earlier could yield stale pages
+        if (!chestInst.isInUse() && !chestInst.hasChanges() && !owner.isOnline())
+          cache.remove(owner, chestInst);
+      });
+    }, r -> Bukkit.getScheduler().runTaskAsynchronously(plugin, r));
+  }
+
+  /**
+   * Write pending changes of an enderchest persistently
+   * @param changes Changes to write
+   * @return True if the changes have been written, false on errors
+   */
+  private boolean writeChanges(EnderchestInstance.PendingChanges changes) {
+    try {
+      pers.storeProperties(changes.snapshot(), changes.properties());
+      return true;
+    } catch (Exception e) {
+      logger.logError(e);
+      return false;
+    }
+  }
+
   /**
    * Get an item by a slot relative to a specified page
    * @param chest Enderchest to get from
@@ -207,7 +255,7 @@ public class EnderchestGui extends AGui<OfflinePlayer> {
    * @return Content of this slot
    */
   private ItemStack getPageItem(EnderchestModel chest, int page, int slot) {
-    return getEnderchestPage(chest, page).getItem(slot);
+    return chest.getPage(page).getItem(slot);
   }
 
   /**
@@ -238,29 +286,14 @@ public class EnderchestGui extends AGui<OfflinePlayer> {
     return new EnderchestInstance(model);
   }
 
-  /**
-   * Get an enderchest page by it's numeric (one-based) index.
-   * @param chest Enderchest to get from
-   * @param page Page requested
-   * @return Enderchest page, throws when indices are out of range
-   */
-  private Inventory getEnderchestPage(EnderchestModel chest, int page) {
-    return switch (page) {
-      case 1 -> chest.getPage1();
-      case 2 -> chest.getPage2();
-      case 3 -> chest.getPage3();
-      default -> throw new RuntimeException("Invalid page specified");
-    };
-  }
-
   /**
    * Syncs the current GUI page into the corresponding enderchest page
    * @param inst GUI instance to sync from
    * @param chestInst Enderchest to sync into
    */
   private void syncCurrentPage(GuiInstance<OfflinePlayer> inst, EnderchestInstance chestInst) {
-    syncInventories(inst.getInv(), getEnderchestPage(chestInst.getModel(), inst.getCurrentPage()));
-    chestInst.changed(inst.getViewer());
+    syncInventories(inst.getInv(), chestInst.getModel().getPage(inst.getCurrentPage()));
+    chestInst.changed(inst.getViewer(), inst.getCurrentPage());
   }
 
   /**
@@ -3,10 +3,12 @@ package me.blvckbytes.blvcksys.handlers.gui;
 import lombok.Getter;
 import me.blvckbytes.blvcksys.persistence.models.EnderchestModel;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /*
@@ -18,16 +20,45 @@ import java.util.function.Consumer;
   to this enderchest, they call changed(), which then broadcasts the change to
   all other viewers, so they can update their view and retrieve the latest state
   of the current page's inventory from the model, which is being synced into.
+
+  Changes are tracked per slot against the contents which have been stored last,
+  so that only pages which actually differ need to be serialized and written.
+  Written changes are only considered stored once their write succeeded, so that
+  failed writes are retried with the next store.
 */
 public class EnderchestInstance {
 
+  /**
+   * Represents changes which are about to be written
+   * @param snapshot Snapshot of the model to write
+   * @param pages Changed pages (one-based), which are deep-copied within the snapshot
+   * @param properties Names of all properties that changed
+   */
+  public record PendingChanges(
+    EnderchestModel snapshot,
+    int[] pages,
+    String[] properties
+  ) {}
+
+  private static final String MAX_SLOTS_PROPERTY = "lastMaxSlots";
+
   @Getter
   private final EnderchestModel model;
 
   // Mapping enderchest viewers to their after changes callback
   private final Map<Player, Consumer<Player>> afterChanges;
 
-  private final AtomicBoolean changes;
+  // Contents of all pages as they have been stored last, indexed by the zero-based page
+  private final ItemStack[][] storedContents;
+
+  // Absolute slots (across all pages) which differ from their stored contents
+  private final BitSet dirtySlots;
+
+  // Number of max slots as it has been stored last
+  private int storedMaxSlots;
+
+  // Completes as soon as the last scheduled write of this enderchest finished
+  private CompletableFuture<Void> lastWrite;
 
   /**
    * Create a new instance based on a loaded model
@@ -35,16 +66,24 @@ public class EnderchestInstance {
    */
   public EnderchestInstance(EnderchestModel model) {
     this.model = model;
-    this.changes = new AtomicBoolean(false);
     this.afterChanges = new HashMap<>();
+    this.dirtySlots = new BitSet();
+    this.lastWrite = CompletableFuture.completedFuture(null);
+    this.storedMaxSlots = model.getLastMaxSlots();
+
+    this.storedContents = new ItemStack[EnderchestModel.NUM_PAGES][];
+    for (int page = 1; page <= EnderchestModel.NUM_PAGES; page++)
+      this.storedContents[page - 1] = copyContents(model.getPage(page));
   }
 
   /**
    * To be invoked after changes have been applied and synced into the model
    * @param viewer Viewer that caused the changes
+   * @param page Page that has been changed (one-based)
    */
-  public void changed(Player viewer) {
-    this.changes.set(true);
+  public void changed(Player viewer, int page) {
+    // Re-evaluate all slots of this page, as they might also have been changed back
+    evaluatePage(page);
 
     for (Map.Entry<Player, Consumer<Player>> e : afterChanges.entrySet()) {
       // Don't call change callbacks on self
@@ -56,10 +95,59 @@ public class EnderchestInstance {
   }
 
   /**
-   * To be invoked after changes have been stored persistently
+   * Take a snapshot of all pages which contain changed slots as well as of the
+   * max slots, which is about to be written. The changes stay pending until
+   * they have been marked as stored.
+   * @return Pending changes to write
+   */
+  public PendingChanges takeChanges() {
+    List<Integer> pages = new ArrayList<>();
+
+    for (int page = 1; page <= EnderchestModel.NUM_PAGES; page++) {
+      int offset = (page - 1) * storedContents[page - 1].length;
+      int firstDirty = dirtySlots.nextSetBit(offset);
+
+      // No dirty slots within the bounds of this page
+      if (firstDirty < 0 || firstDirty >= offset + storedContents[page - 1].length)
+        continue;
+
+      pages.add(page);
+    }
+
+    int[] pageIndices = pages.stream().mapToInt(Integer::intValue).toArray();
+    List<String> properties = new ArrayList<>(pages.stream().map(EnderchestModel::getPageProperty).toList());
+
+    if (model.getLastMaxSlots() != storedMaxSlots)
+      properties.add(MAX_SLOTS_PROPERTY);
+
+    return new PendingChanges(model.snapshot(pageIndices), pageIndices, properties.toArray(String[]::new));
+  }
+
+  /**
+   * Mark previously taken changes as stored after they have been written successfully
+   * @param changes Changes which have been written
+   */
+  public void changesStored(PendingChanges changes) {
+    for (int page : changes.pages()) {
+      storedContents[page - 1] = copyContents(changes.snapshot().getPage(page));
+
+      // The page may have changed again while it was being written
+      evaluatePage(page);
+    }
+
+    storedMaxSlots = changes.snapshot().getLastMaxSlots();
+  }
+
+  /**
+   * Schedule a write of this enderchest to be executed after all previously
+   * scheduled writes completed, which keeps their order intact
+   * @param write Write to execute
+   * @param executor Executor to run the write on
+   * @return Future which completes as soon as the write has been executed
    */
-  public void stored() {
-    this.changes.set(false);
+  public CompletableFuture<Void> scheduleWrite(Runnable write, Executor executor) {
+    lastWrite = lastWrite.thenRunAsync(write, executor);
+    return lastWrite;
   }
 
   /**
@@ -91,6 +179,35 @@ public class EnderchestInstance {
    * Checks whether this enderchest has any unsaved changes
    */
   public boolean hasChanges() {
-    return changes.get();
+    return !dirtySlots.isEmpty() || model.getLastMaxSlots() != storedMaxSlots;
+  }
+
+  /**
+   * Re-evaluate which slots of a page differ from their stored contents
+   * @param page Page to evaluate (one-based)
+   */
+  private void evaluatePage(int page) {
+    Inventory inv = model.getPage(page);
+    ItemStack[] stored = storedContents[page - 1];
+    int offset = (page - 1) * stored.length;
+
+    for (int i = 0; i < stored.length; i++)
+      dirtySlots.set(offset + i, !Objects.equals(inv.getItem(i), stored[i]));
+  }
+
+  /**
+   * Copy the contents of an inventory into a detached array of items
+   * @param inv Inventory to copy
+   * @return Array of copied items, null for vacant slots
+   */
+  private ItemStack[] copyContents(Inventory inv) {
+    ItemStack[] contents = new ItemStack[inv.getSize()];
+
+    for (int i = 0; i < contents.length; i++) {
+      ItemStack item = inv.getItem(i);
+      contents[i] = item == null ? null : item.clone();
+    }
+
+    return contents;
   }
 }
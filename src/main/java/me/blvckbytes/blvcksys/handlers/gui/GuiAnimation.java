@@ -6,7 +6,6 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /*
@@ -19,6 +18,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
   inventory to another, but if the destination is null, the source becomes the
   destination and the source becomes a null-filled array. This way, both cases can
   be animated using the same routines.
+
+  All slots of a frame are written within a single batch, so that frames which
+  move many items are sent to the viewer as a whole window at once.
 */
 public class GuiAnimation {
 
@@ -29,10 +31,11 @@ public class GuiAnimation {
   private final JavaPlugin plugin;
   private final int numFrames, numRows;
   private final Inventory inv;
+  private final SlotRenderer renderer;
   private final Runnable done, ready;
   private final ItemStack[] fromContents, toContents;
   private final AtomicBoolean fastForwarded;
-  private final List<Integer> mask;
+  private final SlotMask mask;
   private final ItemStack filler;
 
   private int currFrame;
@@ -44,7 +47,8 @@ public class GuiAnimation {
    * @param fromContents Items to animate from
    * @param toContents Items to animate to
    * @param inv Inventory to animate from and to contents into
-   * @param mask List of slots to animate, leave at null to animate all slots
+   * @param renderer Renderer which writes into the inventory
+   * @param mask Slots to animate, leave at null to animate all slots
    * @param filler Filler item used when the inventories are unequal in size
    * @param ready Ready callback, signals that the GUI may be presented by now
    * @param done Completion callback, signals that the animation is complete
@@ -55,7 +59,8 @@ public class GuiAnimation {
     @Nullable ItemStack[] fromContents,
     ItemStack[] toContents,
     Inventory inv,
-    @Nullable List<Integer> mask,
+    SlotRenderer renderer,
+    @Nullable SlotMask mask,
     @Nullable ItemStack filler,
     Runnable ready,
     Runnable done
@@ -67,6 +72,7 @@ public class GuiAnimation {
     this.fromContents = fromContents == null ? new ItemStack[inv.getSize()] : fromContents;
     this.toContents = toContents;
     this.inv = inv;
+    this.renderer = renderer;
     this.mask = mask;
     this.filler = filler;
 
@@ -98,7 +104,7 @@ public class GuiAnimation {
       ready.run();
     }
 
-    animate();
+    renderer.batch(this::animate);
     nextFrame();
   }
 
@@ -213,10 +219,12 @@ public class GuiAnimation {
       return;
 
     // Directly copy the contents (last frame in all cases)
-    for (int i = 0; i < Math.min(fromContents.length, toContents.length); i++) {
-      if (mask == null || mask.contains(i))
-        setItem(i, getItem(toContents, i));
-    }
+    renderer.batch(() -> {
+      for (int i = 0; i < Math.min(fromContents.length, toContents.length); i++) {
+        if (mask == null || mask.contains(i))
+          setItem(i, getItem(toContents, i));
+      }
+    });
 
     done.run();
   }
@@ -241,7 +249,6 @@ public class GuiAnimation {
    * @param item Item to set
    */
   private void setItem(int slot, ItemStack item) {
-    if (slot < inv.getSize())
-      inv.setItem(slot, item);
+    renderer.setItem(slot, item);
   }
 }
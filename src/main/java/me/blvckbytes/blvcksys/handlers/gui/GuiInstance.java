@@ -26,15 +26,29 @@ import java.util.function.Supplier;
   Created On: 05/21/2022
 
   A personalized, live instance of a GUI template.
+
+  Page items are requested from a paged data source, where only the current
+  page and it's adjacent pages are ever built. Pages of asynchronous sources
+  are fetched off the main thread and drawn as soon as they arrive.
 */
 public class GuiInstance<T> {
 
   // Items which are on fixed slots
   private final Map<Integer, GuiItem> fixedItems;
 
-  // A list of pages, where each page maps a used page slot to an item
-  private final List<Map<Integer, GuiItem>> pages;
+  // Slots of periodically updated fixed items by their update period
+  private final Map<Integer, List<Integer>> fixedSlotsByPeriod;
+
+  // Update periods which are currently scheduled on the ticker
+  private final Set<Integer> scheduledPeriods;
+
+  // Loaded pages by their index, where each page maps a used page slot to an item
+  private final Map<Integer, Map<Integer, GuiItem>> pages;
+
+  // Indices of pages which are currently being fetched
+  private final Set<Integer> pendingPages;
   private final Map<Integer, List<Runnable>> redrawListeners;
+  private final SlotRenderer renderer;
   private final JavaPlugin plugin;
   private final IConfig cfg;
 
@@ -43,11 +57,18 @@ public class GuiInstance<T> {
   private ItemStack spacer;
   private Runnable beforePaging;
   private String currTitle;
+  private SlotMask paginationSlots;
 
-  @Setter private Supplier<List<GuiItem>> pageContents;
-  @Setter private Consumer<Long> tickReceiver;
+  // Total number of page items as of the last refresh
+  private int totalItems;
+
+  // Incremented on every refresh to discard fetches of outdated contents
+  private int pageGeneration;
+
+  @Setter private IPagedDataSource pageSource;
+  private Consumer<Long> tickReceiver;
   @Setter private boolean animationsEnabled;
-  @Setter private List<Integer> pageSlots;
+  @Setter private SlotMask pageSlots;
   @Getter private int rows;
   @Getter private final AGui<T> template;
   @Getter private final AtomicBoolean animating;
@@ -71,9 +92,12 @@ public class GuiInstance<T> {
     this.cfg = cfg;
 
     this.fixedItems = new HashMap<>();
+    this.fixedSlotsByPeriod = new HashMap<>();
+    this.scheduledPeriods = new HashSet<>();
     this.redrawListeners = new HashMap<>();
-    this.pages = new ArrayList<>();
-    this.pageSlots = new ArrayList<>(template.getPageSlots());
+    this.pages = new HashMap<>();
+    this.pendingPages = new HashSet<>();
+    this.pageSlots = template.getPageSlots();
     this.animating = new AtomicBoolean(false);
     this.animationsEnabled = true;
     this.rows = template.getRows();
@@ -85,6 +109,8 @@ public class GuiInstance<T> {
       this.inv = Bukkit.createInventory(null, template.getRows() * 9, currTitle);
     else
       this.inv = Bukkit.createInventory(null, template.getType(), currTitle);
+
+    this.renderer = new SlotRenderer(viewer, inv);
   }
 
   //=========================================================================//
@@ -129,6 +155,7 @@ public class GuiInstance<T> {
     Bukkit.getScheduler().runTask(plugin, () -> {
       redraw("*");
       open(animation, previous == null ? null : previous.getInv());
+      syncSchedule();
     });
   }
 
@@ -173,6 +200,7 @@ public class GuiInstance<T> {
       newInv.setItem(i, this.inv.getItem(i));
 
     this.inv = newInv;
+    this.renderer.setInventory(newInv);
 
     if (update)
       this.viewer.openInventory(this.inv);
@@ -210,37 +238,56 @@ public class GuiInstance<T> {
   }
 
   /**
-   * Refresh the page contents by requesting from the page content supplier
+   * Set the page contents by a supplier of all page items, which is
+   * only suitable for small lists, see {@link #setPageSource(IPagedDataSource)}
+   * @param pageContents Supplier of all page items
+   */
+  public void setPageContents(Supplier<List<GuiItem>> pageContents) {
+    setPageSource(new ListDataSource<>(pageContents, item -> item, null));
+  }
+
+  /**
+   * Refresh the page contents by requesting the total number of items and
+   * the current page from the page source and prefetch the adjacent pages
    */
   public void refreshPageContents() {
-    // Cannot fetch page contents as there is no supplier set
-    if (this.pageContents == null)
+    // Cannot fetch page contents as there is no source set
+    if (this.pageSource == null)
       return;
 
     // Got no pages to display on
     if (this.pageSlots.size() == 0)
       return;
 
-    // Clear pages
-    pages.clear();
+    IPagedDataSource source = pageSource;
+    SlotMask slots = pageSlots;
+    int requestedPage = currPage;
 
-    for (GuiItem item : this.pageContents.get()) {
-      // Create a new page either initially or if the last page is already fully used
-      if (pages.isEmpty() || pages.get(pages.size() - 1).size() >= pageSlots.size())
-        pages.add(new HashMap<>());
+    fetchPaged(++pageGeneration, () -> {
+      int total = source.count();
 
-      // Add the new item to the last page and determine it's slot
-      Map<Integer, GuiItem> targetPage = pages.get(pages.size() - 1);
-      int slot = pageSlots.get(targetPage.size());
-      targetPage.put(slot, item);
-    }
+      // Move back as many pages as necessary to not be out of bounds
+      // after re-fetching the pages (results might have shrunken)
+      int page = Math.min(requestedPage, countPages(total, slots.size()) - 1);
+      Map<Integer, GuiItem> items = fetchPage(source, slots, page, total);
+
+      return () -> {
+        pages.clear();
+        pendingPages.clear();
+
+        totalItems = total;
+        currPage = page;
+        pages.put(page, items);
+
+        redrawPaging();
+        syncSchedule();
 
-    // Move back as many pages as necessary to not be out of bounds
-    // after re-fetching the pages (results might have shrunken)
-    if (currPage >= pages.size())
-      currPage = pages.size() == 0 ? 0 : pages.size() - 1;
+        if (paginationSlots != null)
+          redraw(paginationSlots);
 
-    redrawPaging();
+        prefetchAdjacentPages();
+      };
+    });
   }
 
   /**
@@ -257,8 +304,20 @@ public class GuiInstance<T> {
     @Nullable Consumer<InventoryManipulationEvent> onClick,
     Integer updatePeriod
   ) {
-    for (int slotNumber : template.slotExprToSlots(slotExpr, rows))
-      fixedItems.put(slotNumber, new GuiItem(s -> item.get(), onClick, updatePeriod));
+    SlotMask slots = template.compileSlots(slotExpr, rows);
+    for (int i = 0; i < slots.size(); i++) {
+      int slotNumber = slots.get(i);
+      GuiItem previous = fixedItems.put(slotNumber, new GuiItem(s -> item.get(), onClick, updatePeriod));
+
+      // Move the slot to the index of it's new period
+      if (previous != null && previous.updatePeriod() != null)
+        fixedSlotsByPeriod.getOrDefault(previous.updatePeriod(), new ArrayList<>()).remove((Integer) slotNumber);
+
+      if (updatePeriod != null && updatePeriod > 0)
+        fixedSlotsByPeriod.computeIfAbsent(updatePeriod, k -> new ArrayList<>()).add(slotNumber);
+    }
+
+    syncSchedule();
   }
 
   /**
@@ -275,8 +334,10 @@ public class GuiInstance<T> {
     String nextSlotExpr,
     IStdGuiItemProvider itemProvider
   ) {
+    SlotMask slots = template.compileSlots(indicatorSlotExpr + "," + nextSlotExpr + "," + prevSlotExpr, rows);
+    paginationSlots = slots;
     beforePaging = () -> Bukkit.getScheduler().runTaskLater(plugin, () -> {
-      redraw(indicatorSlotExpr + "," + nextSlotExpr + "," + prevSlotExpr);
+      redraw(slots);
     }, 10);
 
     fixedItem(
@@ -292,7 +353,7 @@ public class GuiInstance<T> {
           return;
 
         previousPage(AnimationType.SLIDE_RIGHT, e.getClick().isShiftClick());
-        redraw(indicatorSlotExpr + "," + nextSlotExpr + "," + prevSlotExpr);
+        redraw(slots);
       },
       null
     );
@@ -315,7 +376,7 @@ public class GuiInstance<T> {
       nextSlotExpr,
       () -> (
         itemProvider.getItem(
-          currPage == pages.size() - 1 ?
+          !hasNextPage() ?
             StdGuiItem.NEXT_PAGE_DISABLED :
             StdGuiItem.NEXT_PAGE, null)
       ),
@@ -324,7 +385,7 @@ public class GuiInstance<T> {
           return;
 
         nextPage(AnimationType.SLIDE_LEFT, e.getClick().isShiftClick());
-        redraw(indicatorSlotExpr + "," + nextSlotExpr + "," + prevSlotExpr);
+        redraw(slots);
       },
       null
     );
@@ -338,6 +399,8 @@ public class GuiInstance<T> {
    * @param onClick Click event, providing the current state and the player
    */
   protected void addStateToggle(String slotExpr, @Nullable String updateSlotExpr, Supplier<Boolean> state, Consumer<Boolean> onClick) {
+    String redrawSlotExpr = slotExpr + "," + (updateSlotExpr == null ? "" : updateSlotExpr);
+
     fixedItem(slotExpr, () -> {
       boolean s = state.get();
 
@@ -347,7 +410,7 @@ public class GuiInstance<T> {
         .build();
     }, e -> {
       onClick.accept(state.get());
-      redraw(slotExpr + "," + (updateSlotExpr == null ? "" : updateSlotExpr));
+      redraw(redrawSlotExpr);
     }, null);
   }
 
@@ -441,17 +504,28 @@ public class GuiInstance<T> {
    * @param slotExpr Slots to redraw
    */
   public void redraw(String slotExpr) {
-    // Iterate all slots which should be redrawn
-    for (int slot : template.slotExprToSlots(slotExpr, rows)) {
+    redraw(template.compileSlots(slotExpr, rows));
+  }
 
-      // Vacant slot, skip
-      GuiItem target = getItem(slot).orElse(null);
-      if (target == null)
-        continue;
+  /**
+   * Redraw a specified set of slots for a given player
+   * @param slots Compiled slots to redraw
+   */
+  public void redraw(SlotMask slots) {
+    renderer.batch(() -> {
+      // Iterate all slots which should be redrawn
+      for (int i = 0; i < slots.size(); i++) {
+        int slot = slots.get(i);
 
-      // Update the item by re-calling it's supplier
-      setItem(slot, target.item().apply(slot));
-    }
+        // Vacant slot, skip
+        GuiItem target = getItem(slot).orElse(null);
+        if (target == null)
+          continue;
+
+        // Update the item by re-calling it's supplier
+        setItem(slot, target.item().apply(slot));
+      }
+    });
   }
 
   /**
@@ -460,11 +534,9 @@ public class GuiInstance<T> {
    * @param callback Event listener
    */
   public void onRedrawing(String slotExpr, Runnable callback) {
-    template.slotExprToSlots(slotExpr, rows).forEach(slot -> {
-      if (!this.redrawListeners.containsKey(slot))
-        this.redrawListeners.put(slot, new ArrayList<>());
-      this.redrawListeners.get(slot).add(callback);
-    });
+    SlotMask slots = template.compileSlots(slotExpr, rows);
+    for (int i = 0; i < slots.size(); i++)
+      this.redrawListeners.computeIfAbsent(slots.get(i), k -> new ArrayList<>()).add(callback);
   }
 
   /**
@@ -478,12 +550,13 @@ public class GuiInstance<T> {
     if (fixed != null)
       return Optional.of(fixed);
 
-    // Got no page items
-    if (pages.size() == 0)
+    // Current page has not been loaded yet
+    Map<Integer, GuiItem> page = pages.get(currPage);
+    if (page == null)
       return Optional.empty();
 
     // Check for page items
-    GuiItem pageItem = pages.get(currPage).get(slot);
+    GuiItem pageItem = page.get(slot);
     if (pageItem != null)
       return Optional.of(pageItem);
 
@@ -497,7 +570,7 @@ public class GuiInstance<T> {
    * Checks whether there is a next page to navigate to
    */
   public boolean hasNextPage() {
-    return pages.size() > currPage + 1;
+    return getNumPages() > currPage + 1;
   }
 
   /**
@@ -514,8 +587,8 @@ public class GuiInstance<T> {
     ItemStack[] before = inv.getContents().clone();
 
     // Advance to the next page (or last page) and force an update
-    currPage = last ? pages.size() - 1 : currPage + 1;
-    updatePage(null);
+    currPage = last ? getNumPages() - 1 : currPage + 1;
+    enterPage();
     playAnimation(animation, before, pageSlots, null);
     return true;
   }
@@ -542,7 +615,7 @@ public class GuiInstance<T> {
 
     // Advance to the previous page and force an update
     currPage = first ? 0 : currPage - 1;
-    updatePage(null);
+    enterPage();
     playAnimation(animation, before, pageSlots, null);
     return true;
   }
@@ -551,7 +624,7 @@ public class GuiInstance<T> {
    * Get the number of available pages
    */
   public int getNumPages() {
-    return Math.max(1, pages.size());
+    return countPages(totalItems, pageSlots.size());
   }
 
   /**
@@ -572,71 +645,148 @@ public class GuiInstance<T> {
    * Get the added number of items of all pages
    */
   public int getTotalNumItems() {
-    return pages.stream().reduce(0, (acc, curr) -> acc + curr.size(), Integer::sum);
+    return totalItems;
   }
 
   /**
    * Get the number of items on the current page
    */
   public int getCurrPageNumItems() {
-    if (pages.size() == 0)
-      return 0;
-    return pages.get(currPage).size();
+    Map<Integer, GuiItem> page = pages.get(currPage);
+    return page == null ? 0 : page.size();
   }
 
   /**
    * Update the current page's items within the GUI inventory
-   * @param time Current relative time, null to force an update upon all items
+   * @param period Update period of the items to redraw, null to force an update upon all items
    */
-  public void updatePage(@Nullable Long time) {
-    // There are no pages yet, clear all page slots
-    if (pages.size() == 0) {
-      for (int pageSlot : pageSlots)
-        setItem(pageSlot, null);
-      return;
-    }
+  public void updatePage(@Nullable Integer period) {
+    renderer.batch(() -> drawPage(period));
+  }
 
-    // Start out with all available page slots and remove used slots one at a time
-    List<Integer> remaining = new ArrayList<>(this.pageSlots);
+  /**
+   * Draw the current page's items into the GUI inventory
+   * @param period Update period of the items to update, null to force an update upon all items
+   * @return Number of item supplier invocations
+   */
+  private int drawPage(@Nullable Integer period) {
+    int invocations = 0;
+    // The current page has not been loaded yet, clear all page slots
+    Map<Integer, GuiItem> page = pages.get(currPage);
+    if (page == null) {
+      for (int i = 0; i < pageSlots.size(); i++) {
+        if (inv.getItem(pageSlots.get(i)) != null)
+          setItem(pageSlots.get(i), null);
+      }
+      return invocations;
+    }
 
     // Loop all items of the current page
-    for (Map.Entry<Integer, GuiItem> pageItem : pages.get(currPage).entrySet()) {
+    for (Map.Entry<Integer, GuiItem> pageItem : page.entrySet()) {
       GuiItem item = pageItem.getValue();
-      remaining.remove(pageItem.getKey());
 
-      // Only update on force updates or if the time is a multiple of the item's period
-      if (time == null || (item.updatePeriod() != null && item.updatePeriod() > 0 && time % item.updatePeriod() == 0))
+      // Only update on force updates or if the item has the ticked period
+      if (period == null || period.equals(item.updatePeriod())) {
         setItem(pageItem.getKey(), item.item().apply(pageItem.getKey()));
+        invocations++;
+      }
     }
 
     // Clear unused page slots if they're not already vacant
-    for (Integer vacantPageSlot : remaining) {
-      if (inv.getItem(vacantPageSlot) != null)
-        setItem(vacantPageSlot, null);
+    for (int i = 0; i < pageSlots.size(); i++) {
+      int pageSlot = pageSlots.get(i);
+      if (!page.containsKey(pageSlot) && inv.getItem(pageSlot) != null)
+        setItem(pageSlot, null);
     }
+
+    return invocations;
   }
 
   //////////////////////////////// Updating //////////////////////////////////
 
   /**
-   * Called whenever the template ticks all of it's instances
-   * @param time Relative time in ticks
+   * Set a receiver which is called on every tick while this instance is open
+   * @param tickReceiver Receiver of the relative time in ticks
    */
-  public void tick(long time) {
+  public void setTickReceiver(Consumer<Long> tickReceiver) {
+    this.tickReceiver = tickReceiver;
+    syncSchedule();
+  }
+
+  /**
+   * Schedule all update periods of the current fixed and page items on
+   * the template's ticker, which are not yet scheduled
+   */
+  public void syncSchedule() {
+    IGuiTicker ticker = template.getTicker();
+    if (ticker == null)
+      return;
+
+    Set<Integer> periods = new HashSet<>(fixedSlotsByPeriod.keySet());
+
+    // The tick receiver is called on every tick
     if (tickReceiver != null)
-      tickReceiver.accept(time);
+      periods.add(1);
+
+    Map<Integer, GuiItem> page = pages.get(currPage);
+    if (page != null) {
+      for (GuiItem item : page.values()) {
+        if (item.updatePeriod() != null && item.updatePeriod() > 0)
+          periods.add(item.updatePeriod());
+      }
+    }
+
+    for (int period : periods) {
+      if (scheduledPeriods.add(period))
+        ticker.schedule(this, period);
+    }
+  }
 
-    // Tick all fixed items
-    for (Map.Entry<Integer, GuiItem> itemE : fixedItems.entrySet()) {
-      GuiItem item = itemE.getValue();
+  /**
+   * Called by the ticker whenever a scheduled update period of this instance is due
+   * @param time Relative time in ticks
+   * @param period Update period which is due
+   * @return Number of item supplier invocations, negative if the period should be unscheduled
+   */
+  int tickPeriod(long time, int period) {
+    // Closed instances are not ticked anymore
+    if (!template.getActiveInstances().getOrDefault(viewer, Collections.emptySet()).contains(this)) {
+      scheduledPeriods.remove(period);
+      return -1;
+    }
+
+    // Don't tick animating GUIs, but keep the schedule
+    if (animating.get())
+      return 0;
+
+    List<Integer> fixedSlots = fixedSlotsByPeriod.get(period);
+    boolean receives = period == 1 && tickReceiver != null;
+    int[] invocations = { 0 };
+
+    // All changes of a tick are sent within the same batch
+    renderer.batch(() -> {
+      if (receives)
+        tickReceiver.accept(time);
+
+      // Tick all fixed items of this period
+      if (fixedSlots != null) {
+        for (int slot : fixedSlots) {
+          setItem(slot, fixedItems.get(slot).item().apply(slot));
+          invocations[0]++;
+        }
+      }
 
-      // Only tick this item if it has a period which has elapsed
-      if (item.updatePeriod() != null && time % item.updatePeriod() == 0)
-        setItem(itemE.getKey(), item.item().apply(itemE.getKey()));
+      // Tick all page items of this period
+      invocations[0] += drawPage(period);
+    });
+
+    // Nothing has this period anymore
+    if (invocations[0] == 0 && !receives && (fixedSlots == null || fixedSlots.isEmpty())) {
+      scheduledPeriods.remove(period);
+      return -1;
     }
 
-    // Tick all page items
-    updatePage(time);
+    return invocations[0];
   }
 
   /**
@@ -657,23 +807,145 @@ public class GuiInstance<T> {
     else if (layout.isBorder())
       addBorder(itemProvider);
 
-    setPageSlots(template.slotExprToSlots(layout.getPaginated(), rows));
+    setPageSlots(template.compileSlots(layout.getPaginated(), rows));
     return true;
   }
 
+  /**
+   * Called after the current page index has been changed, draws the page if it's
+   * already loaded or starts loading it, while adjacent pages are prefetched
+   */
+  private void enterPage() {
+    // Drop pages which are not adjacent anymore
+    pages.keySet().removeIf(page -> Math.abs(page - currPage) > 1);
+
+    if (!pages.containsKey(currPage))
+      loadPage(currPage);
+
+    updatePage(null);
+    syncSchedule();
+    prefetchAdjacentPages();
+  }
+
+  /**
+   * Prefetch the pages next to the current page, if they exist and are not loaded yet
+   */
+  private void prefetchAdjacentPages() {
+    if (currPage > 0)
+      loadPage(currPage - 1);
+
+    if (currPage + 1 < getNumPages())
+      loadPage(currPage + 1);
+  }
+
+  /**
+   * Load a page from the page source, if it's neither loaded nor pending yet
+   * @param page Index of the page to load
+   */
+  private void loadPage(int page) {
+    if (pageSource == null || pages.containsKey(page) || !pendingPages.add(page))
+      return;
+
+    IPagedDataSource source = pageSource;
+    SlotMask slots = pageSlots;
+    int total = totalItems;
+
+    fetchPaged(pageGeneration, () -> {
+      Map<Integer, GuiItem> items = fetchPage(source, slots, page, total);
+
+      return () -> {
+        pendingPages.remove(page);
+
+        // Has been navigated away from in the meantime
+        if (Math.abs(page - currPage) > 1)
+          return;
+
+        pages.put(page, items);
+
+        if (page == currPage) {
+          updatePage(null);
+          syncSchedule();
+
+          if (paginationSlots != null)
+            redraw(paginationSlots);
+        }
+      };
+    });
+  }
+
+  /**
+   * Run a fetch from the page source, which is performed on a worker thread for asynchronous
+   * sources, and apply it's result on the main thread, if the contents are still up to date
+   * @param generation Generation of the page contents this fetch belongs to
+   * @param fetch Fetch to perform, producing the routine which applies it's result
+   */
+  private void fetchPaged(int generation, Supplier<Runnable> fetch) {
+    if (!pageSource.isAsync()) {
+      fetch.get().run();
+      return;
+    }
+
+    Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+      Runnable apply = fetch.get();
+
+      // Plugin has been disabled in the meantime
+      if (!plugin.isEnabled())
+        return;
+
+      Bukkit.getScheduler().runTask(plugin, () -> {
+        if (generation == pageGeneration)
+          apply.run();
+      });
+    });
+  }
+
+  /**
+   * Fetch a page's items from a page source and assign them to their slots
+   * @param source Source to fetch from
+   * @param slots Available page slots
+   * @param page Index of the page
+   * @param total Total number of items
+   * @return Page, mapping used page slots to their items
+   */
+  private Map<Integer, GuiItem> fetchPage(IPagedDataSource source, SlotMask slots, int page, int total) {
+    Map<Integer, GuiItem> res = new HashMap<>();
+    int offset = page * slots.size();
+
+    if (offset >= total)
+      return res;
+
+    List<GuiItem> items = source.window(offset, Math.min(slots.size(), total - offset));
+    for (int i = 0; i < Math.min(items.size(), slots.size()); i++)
+      res.put(slots.get(i), items.get(i));
+
+    return res;
+  }
+
+  /**
+   * Count the number of pages needed to display a number of items, which is at least one
+   * @param total Total number of items
+   * @param pageSize Number of items per page
+   */
+  private int countPages(int total, int pageSize) {
+    if (pageSize == 0)
+      return 1;
+
+    return Math.max(1, (total + pageSize - 1) / pageSize);
+  }
+
   /**
    * Play a given animation on the GUI and manage entering
    * and leaving the animation lock state
    * @param animation Animation to play
    * @param from Items to animate from
-   * @param mask List of slots to animate, leave at null to animate all slots
+   * @param mask Slots to animate, leave at null to animate all slots
    * @param ready Ready callback, signals that the GUI may be presented by now
    * @return Whether the animation has been initialized
    */
   private boolean playAnimation(
     @Nullable AnimationType animation,
     @Nullable ItemStack[] from,
-    @Nullable List<Integer> mask,
+    @Nullable SlotMask mask,
     @Nullable Runnable ready
   ) {
     if (animation == null || !animationsEnabled)
@@ -688,7 +960,7 @@ public class GuiInstance<T> {
     currAnimation = new GuiAnimation(
       plugin, animation,
       from, inv.getContents(),
-      inv, mask, spacer,
+      inv, renderer, mask, spacer,
       ready == null ? () -> {} : ready,
       () -> {
         // Leave animating lock
@@ -701,15 +973,13 @@ public class GuiInstance<T> {
   }
 
   /**
-   * Sets an item to a specified slot in the current inventory and
-   * protects against index out of range calls
+   * Sets an item to a specified slot in the current inventory, where writes
+   * which wouldn't change the slot as well as out of range slots are skipped
    * @param slot Slot to set at
    * @param item Item to set
    */
   private void setItem(int slot, ItemStack item) {
-    if (slot < inv.getSize()) {
-      inv.setItem(slot, item);
+    if (renderer.setItem(slot, item))
       redrawListeners.getOrDefault(slot, new ArrayList<>()).forEach(Runnable::run);
-    }
   }
 }
@@ -0,0 +1,145 @@
+package me.blvckbytes.blvcksys.handlers.gui;
+
+import lombok.Getter;
+import me.blvckbytes.blvcksys.di.AutoConstruct;
+import me.blvckbytes.blvcksys.di.AutoInject;
+import me.blvckbytes.blvcksys.di.IAutoConstructed;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Ticks all GUI instances of all templates through a hashed timing wheel. Every
+  (instance, period) pair is scheduled into the bucket of it's next due tick, so
+  that each tick only visits the pairs which are due within that bucket, instead
+  of checking every item of every open GUI against the current time.
+*/
+@AutoConstruct
+public class GuiTicker implements IGuiTicker, IAutoConstructed {
+
+  /**
+   * Represents a scheduled period of an instance
+   * @param instance Instance to tick
+   * @param period Update period in ticks
+   * @param due Absolute tick at which this task is due
+   */
+  private record Task(
+    GuiInstance<?> instance,
+    int period,
+    long due
+  ) {}
+
+  // Number of buckets, tasks which are due further out remain in their bucket for multiple rounds
+  private static final int WHEEL_SIZE = 256;
+
+  // Weight of the latest tick within the moving average of invocations
+  private static final double AVERAGE_WEIGHT = 0.05;
+
+  private final JavaPlugin plugin;
+  private final List<List<Task>> wheel;
+
+  private int tickerHandle;
+  private long time;
+
+  @Getter
+  private int lastTickInvocations, numScheduled;
+
+  @Getter
+  private double averageTickInvocations;
+
+  public GuiTicker(
+    @AutoInject JavaPlugin plugin
+  ) {
+    this.plugin = plugin;
+    this.tickerHandle = -1;
+    this.wheel = new ArrayList<>();
+
+    for (int i = 0; i < WHEEL_SIZE; i++)
+      this.wheel.add(new ArrayList<>());
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  @Override
+  public void schedule(GuiInstance<?> instance, int period) {
+    period = Math.max(1, period);
+
+    // Align to the next multiple of the period which has not yet been processed
+    long due = ((time + period - 1) / period) * period;
+    enqueue(new Task(instance, period, due));
+    numScheduled++;
+  }
+
+  @Override
+  public void cleanup() {
+    if (tickerHandle > 0)
+      Bukkit.getScheduler().cancelTask(tickerHandle);
+
+    wheel.forEach(List::clear);
+    numScheduled = 0;
+  }
+
+  @Override
+  public void initialize() {
+    tickerHandle = Bukkit.getScheduler().scheduleSyncRepeatingTask(plugin, this::tick, 0L, 1L);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Process all tasks which are due within the current tick's bucket
+   */
+  private void tick() {
+    long now = time++;
+    List<Task> bucket = wheel.get((int) (now % WHEEL_SIZE));
+
+    // Take out all due tasks first, as they may be re-enqueued into this very bucket
+    List<Task> due = new ArrayList<>();
+    for (int i = bucket.size() - 1; i >= 0; i--) {
+      Task task = bucket.get(i);
+      if (task.due() > now)
+        continue;
+
+      // Swap-remove, as the order within a bucket is irrelevant
+      Task last = bucket.remove(bucket.size() - 1);
+      if (i < bucket.size())
+        bucket.set(i, last);
+
+      due.add(task);
+    }
+
+    int invocations = 0;
+    for (Task task : due) {
+      int res = task.instance().tickPeriod(now, task.period());
+
+      // Closed or no more items with this period, drop the task
+      if (res < 0) {
+        numScheduled--;
+        continue;
+      }
+
+      invocations += res;
+      enqueue(new Task(task.instance(), task.period(), task.due() + task.period()));
+    }
+
+    lastTickInvocations = invocations;
+    averageTickInvocations += (invocations - averageTickInvocations) * AVERAGE_WEIGHT;
+  }
+
+  /**
+   * Put a task into the bucket of it's due tick
+   * @param task Task to enqueue
+   */
+  private void enqueue(Task task) {
+    wheel.get((int) (task.due() % WHEEL_SIZE)).add(task);
+  }
+}
@@ -15,7 +15,6 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -66,73 +65,69 @@ public class HomesGui extends AGui<OfflinePlayer> {
     // Paginator
     inst.addPagination("37", "40", "43", stdGuiItemProvider);
 
-    inst.setPageContents(() -> {
-      List<HomeModel> homes = homeHandler.listHomes(inst.getArg());
+    inst.setPageSource(new ListDataSource<>(
+      () -> homeHandler.listHomes(inst.getArg()),
 
-      // No homes available
-      if (homes.size() == 0) {
-        return List.of(
-          new GuiItem(s -> (
-            new ItemStackBuilder(Material.BARRIER)
-              .withName(cfg.get(ConfigKey.GUI_HOMES_NONE_NAME))
+      // Only the items of displayed pages are built
+      home -> {
+        Location l = home.getLoc();
+        World w = l.getWorld();
+
+        return new GuiItem(
+          s -> (
+            new ItemStackBuilder(home.getIcon())
+              .withName(
+                cfg.get(ConfigKey.GUI_HOMES_HOME_NAME)
+                  .withVariable("name", home.getName())
+              )
               .withLore(
-                cfg.get(isSelf ? ConfigKey.GUI_HOMES_NONE_LORE_SELF : ConfigKey.GUI_HOMES_NONE_LORE_OTHERS)
-                  .withVariable("name", inst.getArg().getName())
+                cfg.get(ConfigKey.GUI_HOMES_HOME_LORE)
+                  .withVariable("color", home.getColor())
+                  .withVariable("created_at", home.getCreatedAtStr())
+                  .withVariable("updated_at", home.getUpdatedAtStr())
+                  .withVariable("world", w == null ? "/" : w.getName())
+                  .withVariable("location", "(" + l.getBlockX() + " | " + l.getBlockY() + " | " + l.getBlockZ() + ")")
               )
+              .hideAttributes()
               .build()
-            ), null, null
-          )
-        );
-      }
-
-      return homes.stream()
-        .map(home -> {
-
-          Location l = home.getLoc();
-          World w = l.getWorld();
-
-          return new GuiItem(
-            s -> (
-              new ItemStackBuilder(home.getIcon())
-                .withName(
-                  cfg.get(ConfigKey.GUI_HOMES_HOME_NAME)
-                    .withVariable("name", home.getName())
-                )
-                .withLore(
-                  cfg.get(ConfigKey.GUI_HOMES_HOME_LORE)
-                    .withVariable("color", home.getColor())
-                    .withVariable("created_at", home.getCreatedAtStr())
-                    .withVariable("updated_at", home.getUpdatedAtStr())
-                    .withVariable("world", w == null ? "/" : w.getName())
-                    .withVariable("location", "(" + l.getBlockX() + " | " + l.getBlockY() + " | " + l.getBlockZ() + ")")
-                )
-                .hideAttributes()
-                .build()
-            ),
-            e -> {
-
-              if (e.getClick().isLeftClick() && !e.getClick().isShiftClick()) {
-                // Teleport to the home
-                inst.close();
-                p.performCommand(
-                  "home " + home.getName() + (isSelf ? "" : " " + inst.getArg().getName())
-                );
-
-                return;
+          ),
+          e -> {
+
+            if (e.getClick().isLeftClick() && !e.getClick().isShiftClick()) {
+              // Teleport to the home
+              inst.close();
+              p.performCommand(
+                "home " + home.getName() + (isSelf ? "" : " " + inst.getArg().getName())
+              );
+
+              return;
+            }
+
+            e.getHotbarKey().ifPresent(key -> {
+              switch (key) {
+                case 1 -> chooseIcon(inst, home);
+                case 2 -> moveHome(inst, home);
+                case 3 -> chooseColor(inst, home);
+                case 4 -> deleteHome(inst, home);
               }
+            });
+          }, null);
+      },
 
-              e.getHotbarKey().ifPresent(key -> {
-                switch (key) {
-                  case 1 -> chooseIcon(inst, home);
-                  case 2 -> moveHome(inst, home);
-                  case 3 -> chooseColor(inst, home);
-                  case 4 -> deleteHome(inst, home);
-                }
-              });
-            }, null);
-        })
-        .collect(Collectors.toList());
-    });
+      // No homes available
+      () -> (
+        new GuiItem(s -> (
+          new ItemStackBuilder(Material.BARRIER)
+            .withName(cfg.get(ConfigKey.GUI_HOMES_NONE_NAME))
+            .withLore(
+              cfg.get(isSelf ? ConfigKey.GUI_HOMES_NONE_LORE_SELF : ConfigKey.GUI_HOMES_NONE_LORE_OTHERS)
+                .withVariable("name", inst.getArg().getName())
+            )
+            .build()
+          ), null, null
+        )
+      )
+    ));
 
     return true;
   }
@@ -0,0 +1,35 @@
+package me.blvckbytes.blvcksys.handlers.gui;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Ticks the periodically updated items of all GUI instances on a single
+  shared schedule and exposes metrics about the work done per tick.
+*/
+public interface IGuiTicker {
+
+  /**
+   * Schedule the items of an instance which share a given update period
+   * to be ticked on every multiple of that period, until the instance
+   * reports that it has no more items with this period or it has been closed
+   * @param instance Instance to tick
+   * @param period Update period in ticks
+   */
+  void schedule(GuiInstance<?> instance, int period);
+
+  /**
+   * Get the number of item supplier invocations of the last tick
+   */
+  int getLastTickInvocations();
+
+  /**
+   * Get the moving average of item supplier invocations per tick
+   */
+  double getAverageTickInvocations();
+
+  /**
+   * Get the number of currently scheduled instance periods
+   */
+  int getNumScheduled();
+}
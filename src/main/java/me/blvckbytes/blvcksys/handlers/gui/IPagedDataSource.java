@@ -0,0 +1,36 @@
+package me.blvckbytes.blvcksys.handlers.gui;
+
+import java.util.List;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  A source of paged GUI items which only builds the items of a requested
+  window, so that an instance never materializes more than the page it
+  displays and it's adjacent pages. Asynchronous sources are only ever
+  queried off the main thread and may thus block on I/O.
+*/
+public interface IPagedDataSource {
+
+  /**
+   * Get the total number of items this source provides, which
+   * is called on every refresh before any windows are requested
+   */
+  int count();
+
+  /**
+   * Build the items of a window of this source
+   * @param offset Index of the first item
+   * @param limit Maximum number of items
+   * @return Items within the requested window
+   */
+  List<GuiItem> window(int offset, int limit);
+
+  /**
+   * Whether this source has to be queried asynchronously
+   */
+  default boolean isAsync() {
+    return false;
+  }
+}
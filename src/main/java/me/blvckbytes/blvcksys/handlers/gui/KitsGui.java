@@ -10,6 +10,7 @@ import me.blvckbytes.blvcksys.events.NpcInteractEvent;
 import me.blvckbytes.blvcksys.events.NpcInteraction;
 import me.blvckbytes.blvcksys.persistence.IPersistence;
 import me.blvckbytes.blvcksys.persistence.models.KitModel;
+import me.blvckbytes.blvcksys.persistence.query.QueryBuilder;
 import me.blvckbytes.blvcksys.util.TimeUtil;
 import net.minecraft.util.Tuple;
 import org.bukkit.entity.Player;
@@ -36,8 +37,8 @@ public class KitsGui extends AGui<Object> implements Listener {
   // Name of the NPC that will trigger opening this GUI
   private final static String NPC_NAME = "kits_gui";
 
-  // Mapping players to a map of their kits and a tuple of <cacheCreation, remainingSeconds>
-  private final Map<Player, Map<KitModel, Tuple<Long, Long>>> cooldownCaches;
+  // Mapping players to a map of their kit names and a tuple of <cacheCreation, remainingSeconds>
+  private final Map<Player, Map<String, Tuple<Long, Long>>> cooldownCaches;
 
   private final IPersistence pers;
   private final TimeUtil time;
@@ -68,7 +69,7 @@ public class KitsGui extends AGui<Object> implements Listener {
     // Invalidate the cooldown cache whenever a kit has been requested
     kits.registerRequestInterest((p, kit) -> {
       if (cooldownCaches.containsKey(p))
-        cooldownCaches.get(p).remove(kit);
+        cooldownCaches.get(p).remove(kit.getName().toLowerCase());
     });
   }
 
@@ -86,55 +87,37 @@ public class KitsGui extends AGui<Object> implements Listener {
     // Paginator
     inst.addPagination("37", "40", "43", stdGuiItemProvider);
 
-    List<KitModel> kits = pers.list(KitModel.class);
-
     // Create the cooldown map initially
     if (!cooldownCaches.containsKey(p))
       cooldownCaches.put(p, new HashMap<>());
-    Map<KitModel, Tuple<Long, Long>> cooldownCache = cooldownCaches.get(p);
-
-    // Add all kits by their representative item
-    inst.setPageContents(() -> (
-      kits.stream()
-        .map(kit -> new GuiItem(
-          s -> {
-            // Cache this kit's cooldown, if absent
-            if (!cooldownCache.containsKey(kit)) {
-              cooldownCache.put(kit, new Tuple<>(
-                System.currentTimeMillis(),
-                kit.getCooldownRemaining(p, pers)
-              ));
-            }
-
-            // Calculate the remaining time from the cache's information
-            Tuple<Long, Long> remInfo = cooldownCache.get(kit);
-            long rem = remInfo.b() - ((System.currentTimeMillis() - remInfo.a()) / 1000);
-
-            return new ItemStackBuilder(kit.getRepresentativeItem(), 1)
-              .withName(
-                cfg.get(ConfigKey.GUI_KITS_KIT_NAME)
-                  .withVariable("name", kit.getName())
-              )
-              .withLore(
-                cfg.get(ConfigKey.GUI_KITS_KIT_LORE)
-                  .withVariable("num_items", kit.getNumItems())
-                  .withVariable("cooldown", rem < 0 ? "/" : time.formatDuration(rem))
-              )
-              .build();
-          }, e -> {
-            ClickType click = e.getClick();
-
-            // Left click performs a kit request
-            if (click == ClickType.LEFT || click == ClickType.SHIFT_LEFT)
-              p.performCommand("kit " + kit.getName());
-
-              // Right click performs a switch to the kit content preview
-            else if (click == ClickType.RIGHT || click == ClickType.SHIFT_RIGHT)
-              inst.switchTo(AnimationType.SLIDE_LEFT, kitContentGui, kit);
-          }, 10
-        ))
-        .collect(Collectors.toList())
-    ));
+    Map<String, Tuple<Long, Long>> cooldownCache = cooldownCaches.get(p);
+
+    // Add all kits by their representative item, only fetching the kits of displayed pages
+    inst.setPageSource(new IPagedDataSource() {
+
+      @Override
+      public int count() {
+        return pers.count(KitModel.class);
+      }
+
+      @Override
+      public List<GuiItem> window(int offset, int limit) {
+        return pers.find(
+          new QueryBuilder<>(KitModel.class)
+            .orderBy("createdAt", true)
+            .skip(offset)
+            .limit(limit)
+        )
+          .stream()
+          .map(kit -> buildKitItem(inst, kit, cooldownCache))
+          .collect(Collectors.toList());
+      }
+
+      @Override
+      public boolean isAsync() {
+        return true;
+      }
+    });
 
     return true;
   }
@@ -158,4 +141,58 @@ public class KitsGui extends AGui<Object> implements Listener {
 
     show(e.getPlayer(), null, AnimationType.SLIDE_DOWN);
   }
+
+  //=========================================================================//
+  //                                 Utilities                               //
+  //=========================================================================//
+
+  /**
+   * Build the GUI item which represents a kit
+   * @param inst GUI instance to build for
+   * @param kit Kit to represent
+   * @param cooldownCache Cooldown cache of the viewer
+   * @return Item to display
+   */
+  private GuiItem buildKitItem(GuiInstance<Object> inst, KitModel kit, Map<String, Tuple<Long, Long>> cooldownCache) {
+    Player p = inst.getViewer();
+    String key = kit.getName().toLowerCase();
+
+    return new GuiItem(
+      s -> {
+        // Cache this kit's cooldown, if absent
+        if (!cooldownCache.containsKey(key)) {
+          cooldownCache.put(key, new Tuple<>(
+            System.currentTimeMillis(),
+            kit.getCooldownRemaining(p, pers)
+          ));
+        }
+
+        // Calculate the remaining time from the cache's information
+        Tuple<Long, Long> remInfo = cooldownCache.get(key);
+        long rem = remInfo.b() - ((System.currentTimeMillis() - remInfo.a()) / 1000);
+
+        return new ItemStackBuilder(kit.getRepresentativeItem(), 1)
+          .withName(
+            cfg.get(ConfigKey.GUI_KITS_KIT_NAME)
+              .withVariable("name", kit.getName())
+          )
+          .withLore(
+            cfg.get(ConfigKey.GUI_KITS_KIT_LORE)
+              .withVariable("num_items", kit.getNumItems())
+              .withVariable("cooldown", rem < 0 ? "/" : time.formatDuration(rem))
+          )
+          .build();
+      }, e -> {
+        ClickType click = e.getClick();
+
+        // Left click performs a kit request
+        if (click == ClickType.LEFT || click == ClickType.SHIFT_LEFT)
+          p.performCommand("kit " + kit.getName());
+
+          // Right click performs a switch to the kit content preview
+        else if (click == ClickType.RIGHT || click == ClickType.SHIFT_RIGHT)
+          inst.switchTo(AnimationType.SLIDE_LEFT, kitContentGui, kit);
+      }, 10
+    );
+  }
 }
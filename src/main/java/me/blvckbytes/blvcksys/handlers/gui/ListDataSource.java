@@ -0,0 +1,65 @@
+package me.blvckbytes.blvcksys.handlers.gui;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  A paged data source backed by an in-memory list of entries, which is
+  snapshotted on every count and only maps the entries of a requested
+  window into GUI items.
+*/
+public class ListDataSource<E> implements IPagedDataSource {
+
+  private final Supplier<List<E>> entries;
+  private final Function<E, GuiItem> mapper;
+  private final @Nullable Supplier<GuiItem> placeholder;
+
+  private volatile List<E> snapshot;
+
+  /**
+   * Create a new list backed data source
+   * @param entries Supplier of all entries
+   * @param mapper Mapper which builds the GUI item of an entry
+   * @param placeholder Item to display if there are no entries, null to keep the page empty
+   */
+  public ListDataSource(
+    Supplier<List<E>> entries,
+    Function<E, GuiItem> mapper,
+    @Nullable Supplier<GuiItem> placeholder
+  ) {
+    this.entries = entries;
+    this.mapper = mapper;
+    this.placeholder = placeholder;
+    this.snapshot = List.of();
+  }
+
+  @Override
+  public int count() {
+    snapshot = entries.get();
+
+    if (snapshot.isEmpty() && placeholder != null)
+      return 1;
+
+    return snapshot.size();
+  }
+
+  @Override
+  public List<GuiItem> window(int offset, int limit) {
+    List<E> snapshot = this.snapshot;
+
+    if (snapshot.isEmpty())
+      return (placeholder == null || offset > 0) ? List.of() : List.of(placeholder.get());
+
+    return snapshot.subList(Math.min(offset, snapshot.size()), Math.min(offset + limit, snapshot.size()))
+      .stream()
+      .map(mapper)
+      .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,107 @@
+package me.blvckbytes.blvcksys.handlers.gui;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  An immutable, compiled slot expression like "10-16,19-25", which holds it's
+  slots in expression order as well as a bitset for constant time lookups.
+  Masks are compiled once per expression and number of rows and then cached
+  by their template, so that no strings are parsed while drawing.
+*/
+public class SlotMask {
+
+  private final int[] slots;
+  private final BitSet members;
+  private final List<Integer> list;
+
+  private SlotMask(List<Integer> slots) {
+    this.slots = slots.stream().mapToInt(Integer::intValue).toArray();
+    this.members = new BitSet();
+    this.list = Collections.unmodifiableList(slots);
+
+    for (int slot : this.slots) {
+      if (slot >= 0)
+        this.members.set(slot);
+    }
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the number of slots within this mask
+   */
+  public int size() {
+    return slots.length;
+  }
+
+  /**
+   * Get a slot by it's index within the expression's order
+   * @param index Index of the slot
+   */
+  public int get(int index) {
+    return slots[index];
+  }
+
+  /**
+   * Check whether a slot is part of this mask
+   * @param slot Slot to check
+   */
+  public boolean contains(int slot) {
+    return slot >= 0 && members.get(slot);
+  }
+
+  /**
+   * Get all slots as an unmodifiable list in expression order
+   */
+  public List<Integer> toList() {
+    return list;
+  }
+
+  /**
+   * Compile a slot expression into a mask
+   * @param slotExpr Slot expression
+   * @param rows Number of rows of the GUI
+   * @return Compiled mask
+   */
+  public static SlotMask compile(String slotExpr, int rows) {
+    List<Integer> slots = new ArrayList<>();
+
+    if (slotExpr.isBlank())
+      return new SlotMask(slots);
+
+    for (String range : slotExpr.split(",")) {
+      // Skip empty ranges caused by joined expressions with vacant parts
+      if (range.isBlank())
+        continue;
+
+      String[] rangeData = range.split("-");
+
+      if (rangeData[0].equals("*")) {
+        for (int i = 0; i < rows * 9; i++)
+          slots.add(i);
+        break;
+      }
+
+      int from = Integer.parseInt(rangeData[0]);
+
+      if (rangeData.length == 1) {
+        slots.add(from);
+        continue;
+      }
+
+      int to = Integer.parseInt(rangeData[1]);
+
+      for (int i = from; from > to ? (i >= to) : (i <= to); i += (from > to ? -1 : 1)) {
+        if (i >= 0 && i < rows * 9)
+          slots.add(i);
+      }
+    }
+
+    return new SlotMask(slots);
+  }
+}
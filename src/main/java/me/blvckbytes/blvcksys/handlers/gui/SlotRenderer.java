@@ -0,0 +1,132 @@
+package me.blvckbytes.blvcksys.handlers.gui;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Writes items into a GUI's inventory while skipping writes which wouldn't change
+  the slot. The hash of every written item is cached, so that most changed items
+  are detected without comparing them against the inventory's contents. Unchanged
+  hashes are still verified against the slot's actual item, as players or GUIs may
+  alter the inventory directly.
+
+  Writes are grouped into batches. If many slots changed within a batch, the whole
+  window is sent within a single packet, which also brings the client's known state
+  up to date, so that the per-slot synchronization at the end of the tick finds
+  nothing left to send.
+*/
+public class SlotRenderer {
+
+  // Number of changed slots within a batch from which on the whole window is sent at once
+  private static final int COALESCE_THRESHOLD = 9;
+
+  private final Player viewer;
+  private Inventory inv;
+
+  // Hashes of the last written items, only valid where known is set
+  private int[] hashes;
+  private boolean[] known;
+
+  private int batchDepth, batchChanges;
+
+  /**
+   * Create a new slot renderer for a viewer's inventory
+   * @param viewer Viewer of the inventory
+   * @param inv Inventory to write into
+   */
+  public SlotRenderer(Player viewer, Inventory inv) {
+    this.viewer = viewer;
+    setInventory(inv);
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Change the inventory to write into, which resets all cached hashes
+   * @param inv New inventory
+   */
+  public void setInventory(Inventory inv) {
+    this.inv = inv;
+    this.hashes = new int[inv.getSize()];
+    this.known = new boolean[inv.getSize()];
+  }
+
+  /**
+   * Set an item into a slot, if it differs from the slot's current item
+   * @param slot Slot to set at, out of range slots are ignored
+   * @param item Item to set, null to clear
+   * @return True if the slot has been changed, false if the write has been skipped
+   */
+  public boolean setItem(int slot, @Nullable ItemStack item) {
+    if (slot < 0 || slot >= known.length)
+      return false;
+
+    // Air is stored as an empty slot
+    if (item != null && item.getType() == Material.AIR)
+      item = null;
+
+    int hash = item == null ? 0 : item.hashCode();
+
+    // Same hash as the last write, verify that the slot still holds this item
+    if (known[slot] && hashes[slot] == hash) {
+      ItemStack current = inv.getItem(slot);
+      if (item == null ? current == null : item.equals(current))
+        return false;
+    }
+
+    inv.setItem(slot, item);
+    hashes[slot] = hash;
+    known[slot] = true;
+
+    // Writes outside of batches are synchronized one by one
+    if (batchDepth > 0)
+      batchChanges++;
+
+    return true;
+  }
+
+  /**
+   * Perform multiple writes within a single batch, where nested batches join the outer batch
+   * @param writes Routine which performs all writes
+   */
+  public void batch(Runnable writes) {
+    batchDepth++;
+
+    try {
+      writes.run();
+    } finally {
+      if (--batchDepth == 0)
+        flush();
+    }
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Called when the outermost batch completed, sends the whole
+   * window to the viewer if enough slots changed
+   */
+  private void flush() {
+    int changes = batchChanges;
+    batchChanges = 0;
+
+    if (changes < COALESCE_THRESHOLD)
+      return;
+
+    // Only the window the viewer has open can be sent
+    if (!viewer.getOpenInventory().getTopInventory().equals(inv))
+      return;
+
+    viewer.updateInventory();
+  }
+}
@@ -1,5 +1,6 @@
 package me.blvckbytes.blvcksys.handlers.quests;
 
+import me.blvckbytes.blvcksys.config.sections.QuestAction;
 import me.blvckbytes.blvcksys.config.sections.QuestSection;
 import me.blvckbytes.blvcksys.config.sections.QuestStageSection;
 import me.blvckbytes.blvcksys.config.sections.QuestTaskSection;
@@ -57,6 +58,14 @@ public interface IQuestHandler {
    */
   TriResult fireTask(Player p, String token);
 
+  /**
+   * Get all tasks of an action which a player can currently reach and has not yet completed
+   * @param p Target player
+   * @param action Target action
+   * @return List of tasks in the order of their declaration, empty if the player was unloaded
+   */
+  List<QuestTaskSection> getActiveTasks(Player p, QuestAction action);
+
   /**
    * Register an interest for the progress being made on quests
    * @param target Player that made progress
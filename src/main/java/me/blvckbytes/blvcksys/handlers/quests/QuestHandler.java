@@ -4,6 +4,7 @@ import lombok.Getter;
 import me.blvckbytes.blvcksys.config.ConfigKey;
 import me.blvckbytes.blvcksys.config.ConfigValue;
 import me.blvckbytes.blvcksys.config.IConfig;
+import me.blvckbytes.blvcksys.config.sections.QuestAction;
 import me.blvckbytes.blvcksys.config.sections.QuestSection;
 import me.blvckbytes.blvcksys.config.sections.QuestStageSection;
 import me.blvckbytes.blvcksys.config.sections.QuestTaskSection;
@@ -25,6 +26,7 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
@@ -48,6 +50,13 @@ public class QuestHandler implements IQuestHandler, IAutoConstructed, Listener {
   // Separator string of unique tokens, injected between section names
   private static final String TOKEN_SEP = "__";
 
+  // Interval in seconds at which buffered task progress is persisted
+  private static final long FLUSH_INTERVAL_S = 30;
+
+  // Maximum number of progress increments per player which may remain unflushed
+  // and would thus be lost on a crash, a flush is forced when reaching this limit
+  private static final int MAX_UNFLUSHED = 50;
+
   @Getter
   private final Map<String, QuestTaskSection> tasks;
   private final Map<String, QuestStageSection> stages;
@@ -60,6 +69,8 @@ public class QuestHandler implements IQuestHandler, IAutoConstructed, Listener {
   private final IPersistence pers;
   private final ILogger logger;
 
+  private BukkitTask flushHandle;
+
   public QuestHandler(
     @AutoInject JavaPlugin plugin,
     @AutoInject IConfig cfg,
@@ -139,6 +150,14 @@ public class QuestHandler implements IQuestHandler, IAutoConstructed, Listener {
     return TriResult.ERR;
   }
 
+  @Override
+  public List<QuestTaskSection> getActiveTasks(Player p, QuestAction action) {
+    QuestProfile profile = playerdata.get(p);
+    if (profile == null)
+      return Collections.emptyList();
+    return profile.getActiveTasks(action);
+  }
+
   @Override
   public void registerProgressInterest(Consumer<Player> target) {
     this.progressInterests.add(target);
@@ -214,12 +233,19 @@ public class QuestHandler implements IQuestHandler, IAutoConstructed, Listener {
 
   @Override
   public void initialize() {
+    this.flushHandle = Bukkit.getScheduler().runTaskTimer(plugin, () -> flushProfiles(false), 0L, FLUSH_INTERVAL_S * 20);
+
     for (Player t : Bukkit.getOnlinePlayers())
       loadPlayerData(t);
   }
 
   @Override
-  public void cleanup() {}
+  public void cleanup() {
+    if (this.flushHandle != null)
+      flushHandle.cancel();
+
+    flushProfiles(false);
+  }
 
   //=========================================================================//
   //                                 Listener                                //
@@ -227,18 +253,56 @@ public class QuestHandler implements IQuestHandler, IAutoConstructed, Listener {
 
   @EventHandler
   public void onJoin(PlayerJoinEvent e) {
+    // Retry to flush profiles which failed to flush on quit, as the progress
+    // of a previous session would otherwise be missing from the loaded data
+    flushProfiles(true);
     loadPlayerData(e.getPlayer());
   }
 
   @EventHandler
   public void onQuit(PlayerQuitEvent e) {
-    playerdata.remove(e.getPlayer());
+    QuestProfile profile = playerdata.get(e.getPlayer());
+    if (profile == null)
+      return;
+
+    try {
+      profile.flush();
+      playerdata.remove(e.getPlayer());
+    } catch (Exception ex) {
+      // The profile is kept, so that the next flush retries it's progress
+      logger.logError(ex);
+    }
   }
 
   //=========================================================================//
   //                                Utilities                                //
   //=========================================================================//
 
+  /**
+   * Persist the buffered task progress of all loaded players and drop
+   * the profiles of players which left as soon as they've been flushed
+   * @param leftOnly Whether to only flush the profiles of players which left
+   */
+  private void flushProfiles(boolean leftOnly) {
+    Iterator<Map.Entry<Player, QuestProfile>> entries = playerdata.entrySet().iterator();
+
+    while (entries.hasNext()) {
+      Map.Entry<Player, QuestProfile> entry = entries.next();
+
+      if (leftOnly && entry.getKey().isOnline())
+        continue;
+
+      try {
+        entry.getValue().flush();
+
+        if (!entry.getKey().isOnline())
+          entries.remove();
+      } catch (Exception e) {
+        logger.logError(e);
+      }
+    }
+  }
+
   /**
    * Load all task data of a given player into memory
    * @param p Target player
@@ -246,7 +310,7 @@ public class QuestHandler implements IQuestHandler, IAutoConstructed, Listener {
   private void loadPlayerData(Player p) {
     Map<String, QuestTaskModel> data = pers.find(buildQuery(p)).stream()
       .collect(Collectors.toMap(QuestTaskModel::getToken, task -> task));
-    playerdata.put(p, new QuestProfile(p, pers, this, data));
+    playerdata.put(p, new QuestProfile(p, pers, this, data, MAX_UNFLUSHED));
   }
 
   /**
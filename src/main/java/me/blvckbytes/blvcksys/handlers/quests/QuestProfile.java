@@ -1,9 +1,11 @@
 package me.blvckbytes.blvcksys.handlers.quests;
 
+import me.blvckbytes.blvcksys.config.sections.QuestAction;
 import me.blvckbytes.blvcksys.config.sections.QuestSection;
 import me.blvckbytes.blvcksys.config.sections.QuestStageSection;
 import me.blvckbytes.blvcksys.config.sections.QuestTaskSection;
 import me.blvckbytes.blvcksys.persistence.IPersistence;
+import me.blvckbytes.blvcksys.persistence.exceptions.PersistenceException;
 import me.blvckbytes.blvcksys.persistence.models.QuestTaskModel;
 import org.bukkit.entity.Player;
 
@@ -14,7 +16,13 @@ import java.util.*;
   Created On: 06/26/2022
 
   Stores all available task data for it's player and checks if tasks are
-  still fireable before advancing the state and persisting it.
+  still fireable before advancing the state and persisting it. The tasks which
+  are currently reachable and not yet completed are kept in an index, which is
+  only updated for the affected quest whenever progress has been made.
+
+  Progress is only advanced in memory and marked as dirty, while the dirty models
+  are written in batches whenever the profile is flushed. A flush is forced as soon
+  as a stage has been completed or too much progress remained unflushed.
 */
 public class QuestProfile {
 
@@ -22,23 +30,53 @@ public class QuestProfile {
   private final IPersistence pers;
   private final IQuestHandler qh;
 
+  // Maximum number of progress increments which may remain unflushed
+  private final int maxUnflushed;
+
   // Local data cache, as stored in persistence
   private final Map<String, QuestTaskModel> data;
 
   // Cache for stage completion computation
   private final Set<QuestStageSection> completedStages;
 
+  // Currently active tasks by their parent quest, in the order of their declaration
+  private final Map<QuestSection, List<QuestTaskSection>> activeTasksByQuest;
+
+  // Currently active tasks by their action, derived from the per-quest index
+  private final Map<QuestAction, List<QuestTaskSection>> activeTasksByAction;
+  private final Set<QuestTaskSection> activeTasks;
+
+  // Models with progress which has not yet been persisted, by their token
+  private final Map<String, QuestTaskModel> dirty;
+  private int unflushed;
+
   public QuestProfile(
     Player player,
     IPersistence pers,
     IQuestHandler qh,
-    Map<String, QuestTaskModel> data
+    Map<String, QuestTaskModel> data,
+    int maxUnflushed
   ) {
     this.player = player;
     this.pers = pers;
     this.data = data;
     this.qh = qh;
+    this.maxUnflushed = maxUnflushed;
+    this.dirty = new LinkedHashMap<>();
     this.completedStages = new HashSet<>();
+    this.activeTasksByQuest = new LinkedHashMap<>();
+    this.activeTasksByAction = new EnumMap<>(QuestAction.class);
+    this.activeTasks = new HashSet<>();
+
+    // Walk all tasks in their order of declaration to initially index all quests
+    for (QuestTaskSection task : qh.getTasks().values()) {
+      qh.getParentStage(task)
+        .flatMap(qh::getParentQuest)
+        .filter(quest -> !activeTasksByQuest.containsKey(quest))
+        .ifPresent(quest -> activeTasksByQuest.put(quest, findActiveTasks(quest)));
+    }
+
+    rebuildActionIndex();
   }
 
   //=========================================================================//
@@ -47,15 +85,15 @@ public class QuestProfile {
 
   /**
    * Fire a task which the player just completed and check if it still
-   * has counts left. If so, advance the state persistently.
+   * has counts left. If so, advance the state and mark it for the next flush.
    * @param task Target task
-   * @return The new persistent task data model on delta, empty if this task is not fireable for this player
+   * @return The new task data model on delta, empty if this task is not fireable for this player
    */
   public Optional<QuestTaskModel> fireTask(QuestTaskSection task) {
     QuestTaskModel model = data.get(task.getToken());
 
     // This task is not applicable to this player (anymore)
-    if (hasCompletedTask(task) || !canReach(task))
+    if (!activeTasks.contains(task))
       return Optional.empty();
 
     // Has never fired this task before, create initial model
@@ -68,10 +106,55 @@ public class QuestProfile {
     else
       model.setCount(model.getCount() + 1);
 
-    pers.store(model);
+    dirty.put(task.getToken(), model);
+    unflushed++;
+
+    QuestStageSection stage = qh.getParentStage(task).orElse(null);
+
+    // Progress may have completed the task or made further tasks reachable
+    if (stage != null)
+      qh.getParentQuest(stage).ifPresent(this::reindexQuest);
+
+    // Completed stages are persisted right away, as is too much unflushed progress
+    if (
+      unflushed >= maxUnflushed ||
+      (model.getCount() >= task.getCount() && stage != null && isStageComplete(stage))
+    )
+      flush();
+
     return Optional.of(model);
   }
 
+  /**
+   * Persist all progress which has been made since the last flush
+   */
+  public void flush() {
+    if (dirty.isEmpty())
+      return;
+
+    List<QuestTaskModel> models = new ArrayList<>(dirty.values());
+    dirty.clear();
+    unflushed = 0;
+
+    try {
+      pers.storeAll(models);
+    } catch (PersistenceException e) {
+      // Keep the progress marked, so that the next flush retries it
+      for (QuestTaskModel model : models)
+        dirty.putIfAbsent(model.getToken(), model);
+      throw e;
+    }
+  }
+
+  /**
+   * Get all tasks of an action which are currently reachable and not yet completed
+   * @param action Target action
+   * @return List of tasks in the order of their declaration
+   */
+  public List<QuestTaskSection> getActiveTasks(QuestAction action) {
+    return activeTasksByAction.getOrDefault(action, Collections.emptyList());
+  }
+
   /**
    * Get the zero-based index of the currently active stage
    * within a quest's list of stages
@@ -132,6 +215,57 @@ public class QuestProfile {
   //                                Utilities                                //
   //=========================================================================//
 
+  /**
+   * Update the active tasks of a quest after progress has been made on it
+   * @param quest Target quest
+   */
+  private void reindexQuest(QuestSection quest) {
+    activeTasksByQuest.put(quest, findActiveTasks(quest));
+    rebuildActionIndex();
+  }
+
+  /**
+   * Find all tasks of a quest which are currently reachable and not yet completed
+   * @param quest Target quest
+   * @return List of tasks in the order of their declaration
+   */
+  private List<QuestTaskSection> findActiveTasks(QuestSection quest) {
+    List<QuestTaskSection> res = new ArrayList<>();
+
+    if (quest.getStages() == null)
+      return res;
+
+    for (QuestStageSection stage : quest.getStages()) {
+      for (QuestTaskSection task : stage.getTasks()) {
+        // Skip tasks which have not been registered, as they cannot be fired
+        if (task.getToken() == null || qh.getTasks().get(task.getToken()) != task)
+          continue;
+
+        if (!hasCompletedTask(task) && canReach(task))
+          res.add(task);
+      }
+    }
+
+    return res;
+  }
+
+  /**
+   * Rebuild the index of active tasks by their action from the per-quest index
+   */
+  private void rebuildActionIndex() {
+    activeTasksByAction.clear();
+    activeTasks.clear();
+
+    for (List<QuestTaskSection> tasks : activeTasksByQuest.values()) {
+      for (QuestTaskSection task : tasks) {
+        activeTasks.add(task);
+
+        if (task.getAction() != null)
+          activeTasksByAction.computeIfAbsent(task.getAction(), k -> new ArrayList<>()).add(task);
+      }
+    }
+  }
+
   /**
    * Checks whether the player can reach a certain task, which means that the
    * task's parent stage is reachable (all previous stages have been completed)
@@ -5,12 +5,12 @@ import me.blvckbytes.blvcksys.config.sections.QuestAction;
 import me.blvckbytes.blvcksys.config.sections.QuestTaskSection;
 import me.blvckbytes.blvcksys.di.IAutoConstructed;
 import me.blvckbytes.blvcksys.handlers.quests.IQuestHandler;
+import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.*;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -24,10 +24,17 @@ public abstract class AQuestAction<T extends AConfigSection> implements Listener
   protected final JavaPlugin plugin;
   protected final Map<String, T> tasks;
 
+  private final QuestAction action;
+
+  // Keys (like materials or entity types) which a task can match, tasks without an entry match any key
+  private final Map<String, Set<?>> dispatchKeys;
+
   @SuppressWarnings("unchecked")
   protected AQuestAction(IQuestHandler questHandler, JavaPlugin plugin, QuestAction action) {
     this.questHandler = questHandler;
     this.plugin = plugin;
+    this.action = action;
+    this.dispatchKeys = new HashMap<>();
 
     // Only cache tasks which match this handler's action to reduce time complexity
     this.tasks = new LinkedHashMap<>();
@@ -48,8 +55,49 @@ public abstract class AQuestAction<T extends AConfigSection> implements Listener
     }
   }
 
+  /**
+   * Get the keys an event has to match in order for the task's parameter to be
+   * able to match, which allows to skip all tasks that don't concern the event
+   * @param parameter Parameter of the task
+   * @return Set of matchable keys, null if the parameter may match any key
+   */
+  protected @Nullable Set<?> getDispatchKeys(T parameter) {
+    return null;
+  }
+
+  /**
+   * Get all tasks which the player can currently reach and which can match the event's key
+   * @param p Target player
+   * @param key Key of the event, null to not filter by keys
+   * @return List of candidate tasks in the order of their declaration
+   */
+  protected List<Map.Entry<String, T>> candidates(Player p, @Nullable Object key) {
+    List<Map.Entry<String, T>> res = new ArrayList<>();
+
+    for (QuestTaskSection task : questHandler.getActiveTasks(p, action)) {
+      T parameter = tasks.get(task.getToken());
+      if (parameter == null)
+        continue;
+
+      // This task cannot match the event's key
+      Set<?> keys = dispatchKeys.get(task.getToken());
+      if (key != null && keys != null && !keys.contains(key))
+        continue;
+
+      res.add(Map.entry(task.getToken(), parameter));
+    }
+
+    return res;
+  }
+
   @Override
-  public void initialize() {}
+  public void initialize() {
+    for (Map.Entry<String, T> task : tasks.entrySet()) {
+      Set<?> keys = getDispatchKeys(task.getValue());
+      if (keys != null)
+        dispatchKeys.put(task.getKey(), keys);
+    }
+  }
 
   @Override
   public void cleanup() {}
@@ -11,10 +11,12 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -35,35 +37,53 @@ public class BreakAction extends AQuestAction<QuestBreakParameterSecton> {
 
   @EventHandler
   public void onBreak(BlockBreakEvent e) {
-    for (Map.Entry<String, QuestBreakParameterSecton> task : tasks.entrySet()) {
+    Player p = e.getPlayer();
+    Block block = e.getBlock();
+    ItemStack hand = p.getInventory().getItemInMainHand();
+
+    // Drops are only computed once a candidate requires them
+    Collection<ItemStack> drops = null;
+
+    for (Map.Entry<String, QuestBreakParameterSecton> task : candidates(p, block.getType())) {
+      if (drops == null && task.getValue().getYield().length > 0)
+        drops = block.getDrops(hand, p);
+
       // Not matching this task's parameter requirements
-      if (!compareBreak(e.getPlayer(), e.getBlock(), task.getValue()))
+      if (!compareBreak(hand, block, drops, task.getValue()))
         continue;
 
       // Fire this task and only stop looping if it was successful
-      if (questHandler.fireTask(e.getPlayer(), task.getKey()) == TriResult.SUCC)
+      if (questHandler.fireTask(p, task.getKey()) == TriResult.SUCC)
         break;
     }
   }
 
+  @Override
+  protected @Nullable Set<?> getDispatchKeys(QuestBreakParameterSecton parameter) {
+    // Parameters without blocks match any block
+    if (parameter.getBlocks().length == 0)
+      return null;
+
+    return BlockSection.getTypes(parameter.getBlocks());
+  }
+
   /**
    * Compares the provided block against all specified items within the parameter
    * and checks if it matches all properties of any entry.
+   * @param hand Item held in the main hand
    * @param block Block to compare
+   * @param drops Drops of the block, only required if the parameter specifies a yield
    * @param bps Parameter to compare against
    * @return True if any entry matches the block, false otherwise
    */
-  private boolean compareBreak(Player p, Block block, QuestBreakParameterSecton bps) {
+  private boolean compareBreak(ItemStack hand, Block block, @Nullable Collection<ItemStack> drops, QuestBreakParameterSecton bps) {
 
     // Validate the item held in the main hand
-    ItemStack hand = p.getInventory().getItemInMainHand();
     if (bps.getHand() != null && !bps.getHand().describesItem(hand))
       return false;
 
     // Validate that the block dropped at least what's required
-    if (bps.getYield().length > 0) {
-      Collection<ItemStack> drops = block.getDrops(hand, p);
-
+    if (bps.getYield().length > 0 && drops != null) {
       for (ItemStackSection dropSect : bps.getYield()) {
         // Current drop section didn't describe any of the available drops
         if (drops.stream().noneMatch(dropSect::describesItem))
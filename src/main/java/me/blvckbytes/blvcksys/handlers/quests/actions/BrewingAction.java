@@ -174,7 +174,7 @@ public class BrewingAction extends AQuestAction<QuestPotionParameterSection> {
    * @param item Brewed item
    */
   private void playerBrewed(Player p, ItemStack item) {
-    for (Map.Entry<String, QuestPotionParameterSection> task : tasks.entrySet()) {
+    for (Map.Entry<String, QuestPotionParameterSection> task : candidates(p, null)) {
       // Not matching this task's parameter requirements
       if (!compareResult(item, task.getValue()))
         continue;
@@ -11,8 +11,10 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.player.PlayerItemConsumeEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
+import java.util.Set;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -33,9 +35,17 @@ public class ConsumeAction extends AQuestAction<QuestItemParameterSection> {
 
   @EventHandler
   public void onConsume(PlayerItemConsumeEvent e) {
-    for (Map.Entry<String, QuestItemParameterSection> task : tasks.entrySet()) {
+    // Consumed items will always be consumed one at a time, copy once for all tasks
+    ItemStack item = null;
+
+    for (Map.Entry<String, QuestItemParameterSection> task : candidates(e.getPlayer(), e.getItem().getType())) {
+      if (item == null) {
+        item = e.getItem().clone();
+        item.setAmount(1);
+      }
+
       // Not matching this task's parameter requirements
-      if (!compareItems(e.getItem(), task.getValue()))
+      if (!compareItems(item, task.getValue()))
         continue;
 
       // Fire this task and only stop looping if it was successful
@@ -44,18 +54,19 @@ public class ConsumeAction extends AQuestAction<QuestItemParameterSection> {
     }
   }
 
+  @Override
+  protected @Nullable Set<?> getDispatchKeys(QuestItemParameterSection parameter) {
+    return ItemStackSection.getTypes(parameter.getItems());
+  }
+
   /**
    * Compares the provided item against all specified items within the parameter
    * and checks if it matches all properties of any entry.
-   * @param item Item to compare
+   * @param item Item to compare, with an amount of one
    * @param isp Parameter to compare against
    * @return True if any entry matches the item, false otherwise
    */
   private boolean compareItems(ItemStack item, QuestItemParameterSection isp) {
-    // Consumed items will always be consumed one at a time
-    item = item.clone();
-    item.setAmount(1);
-
     for (ItemStackSection paramItem : isp.getItems()) {
       // Check if this section describes the item in question
       if (paramItem.describesItem(item))
@@ -41,7 +41,7 @@ public class ExpAction extends AQuestAction<QuestExpParameterSecton> {
    * @param p Target player
    */
   private void experienceChanged(Player p) {
-    for (Map.Entry<String, QuestExpParameterSecton> task : tasks.entrySet()) {
+    for (Map.Entry<String, QuestExpParameterSecton> task : candidates(p, null)) {
 
       // Not enough level for this task yet
       if (p.getLevel() < task.getValue().getMaxLevel())
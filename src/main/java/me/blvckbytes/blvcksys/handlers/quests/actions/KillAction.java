@@ -11,9 +11,11 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Set;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -55,7 +57,7 @@ public class KillAction extends AQuestAction<QuestKillParameterSecton> {
    * @param victim Killed entity
    */
   private void playerHasKilled(Player p, LivingEntity victim) {
-    for (Map.Entry<String, QuestKillParameterSecton> task : tasks.entrySet()) {
+    for (Map.Entry<String, QuestKillParameterSecton> task : candidates(p, victim.getType())) {
       // Not matching this task's parameter requirements
       if (!compareKill(p, victim, task.getValue()))
         continue;
@@ -66,6 +68,11 @@ public class KillAction extends AQuestAction<QuestKillParameterSecton> {
     }
   }
 
+  @Override
+  protected @Nullable Set<?> getDispatchKeys(QuestKillParameterSecton parameter) {
+    return LivingEntitySection.getTypes(parameter.getEntities());
+  }
+
   /**
    * Compares the provided entity against all specified entities within the parameter
    * and checks if it matches all properties of any entry, also checks the hand item.
@@ -50,7 +50,7 @@ public class MilkAction extends AQuestAction<QuestMilkParameterSecton> {
    * @param cow Cow that has been milked
    */
   private void playerMilked(Player p, Cow cow) {
-    for (Map.Entry<String, QuestMilkParameterSecton> task : tasks.entrySet()) {
+    for (Map.Entry<String, QuestMilkParameterSecton> task : candidates(p, null)) {
       QuestMilkParameterSecton sps = task.getValue();
 
       // Cow is at the wrong location
@@ -1,5 +1,6 @@
 package me.blvckbytes.blvcksys.handlers.quests.actions;
 
+import me.blvckbytes.blvcksys.config.sections.BlockSection;
 import me.blvckbytes.blvcksys.config.sections.QuestAction;
 import me.blvckbytes.blvcksys.config.sections.QuestPlaceParameterSecton;
 import me.blvckbytes.blvcksys.di.AutoConstruct;
@@ -12,9 +13,11 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Set;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -35,7 +38,7 @@ public class PlaceAction extends AQuestAction<QuestPlaceParameterSecton> {
 
   @EventHandler
   public void onPlace(BlockPlaceEvent e) {
-    for (Map.Entry<String, QuestPlaceParameterSecton> task : tasks.entrySet()) {
+    for (Map.Entry<String, QuestPlaceParameterSecton> task : candidates(e.getPlayer(), e.getBlockPlaced().getType())) {
       // Not matching this task's parameter requirements
       if (!comparePlace(e.getPlayer(), e.getBlockPlaced(), task.getValue()))
         continue;
@@ -46,6 +49,15 @@ public class PlaceAction extends AQuestAction<QuestPlaceParameterSecton> {
     }
   }
 
+  @Override
+  protected @Nullable Set<?> getDispatchKeys(QuestPlaceParameterSecton parameter) {
+    // Parameters without blocks match any block
+    if (parameter.getBlocks().length == 0)
+      return null;
+
+    return BlockSection.getTypes(parameter.getBlocks());
+  }
+
   /**
    * Compares the provided block against all specified items within the parameter
    * and checks if it matches all properties of any entry.
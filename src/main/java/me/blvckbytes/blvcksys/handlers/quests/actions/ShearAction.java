@@ -52,7 +52,7 @@ public class ShearAction extends AQuestAction<QuestShearParameterSecton> {
    * @param sheep Sheep that has been sheared
    */
   private void playerSheared(Player p, Sheep sheep) {
-    for (Map.Entry<String, QuestShearParameterSecton> task : tasks.entrySet()) {
+    for (Map.Entry<String, QuestShearParameterSecton> task : candidates(p, null)) {
       QuestShearParameterSecton sps = task.getValue();
 
       // Sheep is at the wrong location
@@ -4,6 +4,7 @@ import com.mojang.datafixers.util.Pair;
 import me.blvckbytes.blvcksys.di.AutoConstruct;
 import me.blvckbytes.blvcksys.di.AutoInject;
 import me.blvckbytes.blvcksys.util.MCReflect;
+import me.blvckbytes.blvcksys.util.PacketFactory;
 import me.blvckbytes.blvcksys.util.logging.ILogger;
 import net.minecraft.network.protocol.game.*;
 import net.minecraft.network.syncher.DataWatcher;
@@ -39,13 +40,32 @@ public class ArmorStandCommunicator implements IArmorStandCommunicator {
   // the entity was small the last time
   private final Map<Entity, Tuple<Location, Boolean>> lastLocations;
 
+  private final PacketFactory teleportFactory;
+  private final PacketFactory.PacketField teleportId, teleportX, teleportY, teleportZ, teleportYaw, teleportPitch, teleportOnGround;
+
+  // Mapping lowercase slot names to their slot
+  private final Map<String, EnumItemSlot> slotsByName;
+
   public ArmorStandCommunicator(
     @AutoInject MCReflect refl,
     @AutoInject ILogger logger
-  ) {
+  ) throws Exception {
     this.refl = refl;
     this.logger = logger;
     this.lastLocations = new HashMap<>();
+
+    this.teleportFactory = new PacketFactory(refl, PacketPlayOutEntityTeleport.class);
+    this.teleportId = teleportFactory.field(int.class, 0);
+    this.teleportX = teleportFactory.field(double.class, 0);
+    this.teleportY = teleportFactory.field(double.class, 1);
+    this.teleportZ = teleportFactory.field(double.class, 2);
+    this.teleportYaw = teleportFactory.field(byte.class, 0);
+    this.teleportPitch = teleportFactory.field(byte.class, 1);
+    this.teleportOnGround = teleportFactory.field(boolean.class, 0);
+
+    this.slotsByName = new HashMap<>();
+    for (EnumItemSlot slot : EnumItemSlot.values())
+      this.slotsByName.put(refl.getFieldByType(slot, String.class, 0).toLowerCase(), slot);
   }
 
   @Override
@@ -69,8 +89,7 @@ public class ArmorStandCommunicator implements IArmorStandCommunicator {
       PacketPlayOutSpawnEntity spawnP = new PacketPlayOutSpawnEntity(eas);
       PacketPlayOutEntityMetadata metaP = new PacketPlayOutEntityMetadata(entityId, watcher, true);
 
-      refl.sendPacket(p, spawnP);
-      refl.sendPacket(p, metaP);
+      refl.sendPackets(p, spawnP, metaP);
 
       Entity ret = eas.getBukkitEntity();
       lastLocations.put(ret, new Tuple<>(loc.clone(), properties.isSmall()));
@@ -122,15 +141,15 @@ public class ArmorStandCommunicator implements IArmorStandCommunicator {
     try {
       Location shifted = properties.isShifted() ? shiftLocation(loc, properties.isSmall()) : loc;
 
-      Object teleportP = refl.createPacket(PacketPlayOutEntityTeleport.class);
+      Object teleportP = teleportFactory.create();
 
-      refl.setFieldByType(teleportP, int.class, handle.getEntityId(), 0);
-      refl.setFieldByType(teleportP, double.class, shifted.getX(), 0);
-      refl.setFieldByType(teleportP, double.class, shifted.getY(), 1);
-      refl.setFieldByType(teleportP, double.class, shifted.getZ(), 2);
-      refl.setFieldByType(teleportP, byte.class, (byte)((int)(shifted.getYaw() * 256.0F / 360.0F)), 0);
-      refl.setFieldByType(teleportP, byte.class, (byte)((int)(shifted.getPitch() * 256.0F / 360.0F)), 1);
-      refl.setFieldByType(teleportP, boolean.class, handle.isOnGround(), 0);
+      teleportId.set(teleportP, handle.getEntityId());
+      teleportX.set(teleportP, shifted.getX());
+      teleportY.set(teleportP, shifted.getY());
+      teleportZ.set(teleportP, shifted.getZ());
+      teleportYaw.set(teleportP, (byte)((int)(shifted.getYaw() * 256.0F / 360.0F)));
+      teleportPitch.set(teleportP, (byte)((int)(shifted.getPitch() * 256.0F / 360.0F)));
+      teleportOnGround.set(teleportP, handle.isOnGround());
 
       refl.sendPacket(p, teleportP);
 
@@ -218,12 +237,8 @@ public class ArmorStandCommunicator implements IArmorStandCommunicator {
    * Get a slot by it's representing name within the enum
    * @param name Name of the target slot
    */
-  private Optional<EnumItemSlot> getSlotByName(String name) throws Exception {
-    for (EnumItemSlot slot : EnumItemSlot.values()) {
-      if (refl.getFieldByType(slot, String.class, 0).equalsIgnoreCase(name))
-        return Optional.of(slot);
-    }
-    return Optional.empty();
+  private Optional<EnumItemSlot> getSlotByName(String name) {
+    return Optional.ofNullable(slotsByName.get(name.toLowerCase()));
   }
 
   /**
@@ -3,6 +3,7 @@ package me.blvckbytes.blvcksys.packets.communicators.blockspoof;
 import me.blvckbytes.blvcksys.util.MCReflect;
 import me.blvckbytes.blvcksys.di.AutoConstruct;
 import me.blvckbytes.blvcksys.di.AutoInject;
+import me.blvckbytes.blvcksys.util.PacketFactory;
 import me.blvckbytes.blvcksys.util.logging.ILogger;
 import net.minecraft.core.BlockPosition;
 import net.minecraft.network.protocol.game.PacketPlayOutBlockChange;
@@ -23,22 +24,29 @@ public class BlockSpoofCommunicator implements IBlockSpoofCommunicator {
   private final MCReflect refl;
   private final ILogger logger;
 
+  private final PacketFactory blockChangeFactory;
+  private final PacketFactory.PacketField position, blockData;
+
   public BlockSpoofCommunicator(
     @AutoInject MCReflect refl,
     @AutoInject ILogger logger
-  ) {
+  ) throws Exception {
     this.refl = refl;
     this.logger = logger;
+
+    this.blockChangeFactory = new PacketFactory(refl, PacketPlayOutBlockChange.class);
+    this.position = blockChangeFactory.field(BlockPosition.class, 0);
+    this.blockData = blockChangeFactory.field(IBlockData.class, 0);
   }
 
   @Override
   public boolean spoofBlock(Player p, Location loc, Material mat) {
     try {
-      Object pbc = refl.createPacket(PacketPlayOutBlockChange.class);
+      Object pbc = blockChangeFactory.create();
 
       // Set the position to the provided location
       BlockPosition pos = new BlockPosition(loc.getX(), loc.getY(), loc.getZ());
-      refl.setFieldByType(pbc, BlockPosition.class, pos, 0);
+      position.set(pbc, pos);
 
       // Create a new block from scratch using the specified material
       Class<?> cmnC = refl.getClassBKT("util.CraftMagicNumbers");
@@ -46,7 +54,7 @@ public class BlockSpoofCommunicator implements IBlockSpoofCommunicator {
 
       // Get block data
       Object bd = refl.getFieldByType(b, IBlockData.class, 0);
-      refl.setFieldByType(pbc, IBlockData.class, bd, 0);
+      blockData.set(pbc, bd);
 
       return refl.sendPacket(p, pbc);
     } catch (Exception e) {
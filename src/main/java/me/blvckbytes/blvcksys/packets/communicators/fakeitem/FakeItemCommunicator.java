@@ -3,6 +3,7 @@ package me.blvckbytes.blvcksys.packets.communicators.fakeitem;
 import me.blvckbytes.blvcksys.di.AutoConstruct;
 import me.blvckbytes.blvcksys.di.AutoInject;
 import me.blvckbytes.blvcksys.util.MCReflect;
+import me.blvckbytes.blvcksys.util.PacketFactory;
 import me.blvckbytes.blvcksys.util.logging.ILogger;
 import net.minecraft.network.protocol.game.PacketPlayOutSetSlot;
 import org.bukkit.Material;
@@ -22,12 +23,21 @@ public class FakeItemCommunicator implements IFakeItemCommunicator {
   private final MCReflect refl;
   private final ILogger logger;
 
+  private final PacketFactory setSlotFactory;
+  private final PacketFactory.PacketField windowId, stateId, slotId, item;
+
   public FakeItemCommunicator(
     @AutoInject MCReflect refl,
     @AutoInject ILogger logger
-  ) {
+  ) throws Exception {
     this.refl = refl;
     this.logger = logger;
+
+    this.setSlotFactory = new PacketFactory(refl, PacketPlayOutSetSlot.class);
+    this.windowId = setSlotFactory.field(int.class, 0);
+    this.stateId = setSlotFactory.field(int.class, 1);
+    this.slotId = setSlotFactory.field(int.class, 2);
+    this.item = setSlotFactory.field(net.minecraft.world.item.ItemStack.class, 0);
   }
 
   @Override
@@ -38,11 +48,11 @@ public class FakeItemCommunicator implements IFakeItemCommunicator {
 
     // Create slot setting packet to move this fake book into the inventory
     try {
-      Object poss = refl.createPacket(PacketPlayOutSetSlot.class);
+      Object poss = setSlotFactory.create();
 
-      refl.setFieldByType(poss, int.class, -2, 0); // Window ID (-2=inv)
-      refl.setFieldByType(poss, int.class, 0, 1); // State ID (leave at zero for now)
-      refl.setFieldByType(poss, int.class, slot, 2); // Slot
+      windowId.set(poss, -2); // Window ID (-2=inv)
+      stateId.set(poss, 0); // State ID (leave at zero for now)
+      slotId.set(poss, slot); // Slot
 
       if (is == null)
         is = new ItemStack(Material.AIR);
@@ -50,7 +60,7 @@ public class FakeItemCommunicator implements IFakeItemCommunicator {
       // Convert the bukkit item stack to a craft item stack and set the corresponding field
       Class<?> cisC = refl.getClassBKT("inventory.CraftItemStack");
       Object cis = refl.findMethodByName(cisC, "asNMSCopy", ItemStack.class).invoke(null, is);
-      refl.setFieldByType(poss, net.minecraft.world.item.ItemStack.class, cis, 0);
+      item.set(poss, cis);
 
       return refl.sendPacket(p, poss);
     } catch (Exception e) {
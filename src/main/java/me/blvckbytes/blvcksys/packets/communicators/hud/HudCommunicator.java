@@ -45,9 +45,12 @@ public class HudCommunicator implements IHudCommunicator {
     int fadeIn, int stay, int fadeOut
   ) {
     try {
-      refl.sendPacket(p, new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut));
-      refl.sendPacket(p, new ClientboundSetTitleTextPacket(new ChatComponentText(line1)));
-      refl.sendPacket(p, new ClientboundSetSubtitleTextPacket(new ChatComponentText(line2)));
+      refl.sendPackets(
+        p,
+        new ClientboundSetTitlesAnimationPacket(fadeIn, stay, fadeOut),
+        new ClientboundSetTitleTextPacket(new ChatComponentText(line1)),
+        new ClientboundSetSubtitleTextPacket(new ChatComponentText(line2))
+      );
     } catch (Exception e) {
       logger.logError(e);
     }
@@ -4,6 +4,7 @@ import com.mojang.authlib.GameProfile;
 import me.blvckbytes.blvcksys.di.AutoConstruct;
 import me.blvckbytes.blvcksys.di.AutoInject;
 import me.blvckbytes.blvcksys.util.MCReflect;
+import me.blvckbytes.blvcksys.util.PacketFactory;
 import me.blvckbytes.blvcksys.util.logging.ILogger;
 import net.minecraft.network.chat.ChatMessage;
 import net.minecraft.network.protocol.game.*;
@@ -38,12 +39,45 @@ public class NpcCommunicator implements INpcCommunicator {
   private final MCReflect refl;
   private final ILogger logger;
 
+  private final PacketFactory spawnFactory;
+  private final PacketFactory.PacketField spawnId, spawnUuid, spawnX, spawnY, spawnZ, spawnYaw, spawnPitch;
+
+  private final PacketFactory headRotationFactory;
+  private final PacketFactory.PacketField headRotationId, headRotationYaw;
+
+  private final PacketFactory mountFactory;
+  private final PacketFactory.PacketField mountVehicle, mountPassengers;
+
+  private final PacketFactory infoFactory;
+  private final PacketFactory.PacketField infoAction, infoData;
+
   public NpcCommunicator(
     @AutoInject MCReflect refl,
     @AutoInject ILogger logger
-  ) {
+  ) throws Exception {
     this.refl = refl;
     this.logger = logger;
+
+    this.spawnFactory = new PacketFactory(refl, PacketPlayOutNamedEntitySpawn.class);
+    this.spawnId = spawnFactory.field(int.class, 0);
+    this.spawnUuid = spawnFactory.field(UUID.class, 0);
+    this.spawnX = spawnFactory.field(double.class, 0);
+    this.spawnY = spawnFactory.field(double.class, 1);
+    this.spawnZ = spawnFactory.field(double.class, 2);
+    this.spawnYaw = spawnFactory.field(byte.class, 0);
+    this.spawnPitch = spawnFactory.field(byte.class, 1);
+
+    this.headRotationFactory = new PacketFactory(refl, PacketPlayOutEntityHeadRotation.class);
+    this.headRotationId = headRotationFactory.field(int.class, 0);
+    this.headRotationYaw = headRotationFactory.field(byte.class, 0);
+
+    this.mountFactory = new PacketFactory(refl, PacketPlayOutMount.class);
+    this.mountVehicle = mountFactory.field(int.class, 0);
+    this.mountPassengers = mountFactory.genericField(int[].class, int.class, 0);
+
+    this.infoFactory = new PacketFactory(refl, PacketPlayOutPlayerInfo.class);
+    this.infoAction = infoFactory.field(PacketPlayOutPlayerInfo.EnumPlayerInfoAction.class, 0);
+    this.infoData = infoFactory.genericField(List.class, PacketPlayOutPlayerInfo.PlayerInfoData.class, 0);
   }
 
   //=========================================================================//
@@ -54,22 +88,22 @@ public class NpcCommunicator implements INpcCommunicator {
   public void spawnNpc(int entityId, Player receiver, Location loc, GameProfile profile) {
     try {
       // Spawn the named entity
-      Object spawn = refl.createPacket(PacketPlayOutNamedEntitySpawn.class);
+      Object spawn = spawnFactory.create();
 
       // EntityID and UUID
-      refl.setFieldByType(spawn, int.class, entityId, 0);
-      refl.setFieldByType(spawn, UUID.class, profile.getId(), 0);
+      spawnId.set(spawn, entityId);
+      spawnUuid.set(spawn, profile.getId());
 
       // X, Y, Z
-      refl.setFieldByType(spawn, double.class, loc.getX(), 0);
-      refl.setFieldByType(spawn, double.class, loc.getY(), 1);
-      refl.setFieldByType(spawn, double.class, loc.getZ(), 2);
+      spawnX.set(spawn, loc.getX());
+      spawnY.set(spawn, loc.getY());
+      spawnZ.set(spawn, loc.getZ());
 
       // Rotation angle in bytes: A rotation angle in steps of 1/256 of a full turn
       byte yawB = (byte) ((int) (loc.getYaw() / 360.0F * 256.0F));
       byte pitchB = (byte) ((int) (loc.getPitch() / 360.0F * 256.0F));
-      refl.setFieldByType(spawn, byte.class, yawB, 0);
-      refl.setFieldByType(spawn, byte.class, pitchB, 1);
+      spawnYaw.set(spawn, yawB);
+      spawnPitch.set(spawn, pitchB);
 
       // Sets it's metadata (skin and such)
       Tuple<Object, Runnable> fpD = createFakeEntityPlayer(receiver, entityId, loc, profile);
@@ -84,8 +118,7 @@ public class NpcCommunicator implements INpcCommunicator {
 
       Object meta = new PacketPlayOutEntityMetadata(entityId, watcher, true);
 
-      refl.sendPacket(receiver, spawn);
-      refl.sendPacket(receiver, meta);
+      refl.sendPackets(receiver, spawn, meta);
 
       setRotation(entityId, receiver, loc.getYaw(), loc.getPitch());
 
@@ -127,9 +160,9 @@ public class NpcCommunicator implements INpcCommunicator {
       byte pitchB = (byte) ((int) (pitch / 360.0F * 256.0F));
 
       // Rotate the head to the proper yaw value
-      Object headRot = refl.createPacket(PacketPlayOutEntityHeadRotation.class);
-      refl.setFieldByType(headRot, int.class, entityId, 0);
-      refl.setFieldByType(headRot, byte.class, yawB, 0);
+      Object headRot = headRotationFactory.create();
+      headRotationId.set(headRot, entityId);
+      headRotationYaw.set(headRot, yawB);
 
       // Rotate the body
       Object look = new PacketPlayOutEntity.PacketPlayOutEntityLook(
@@ -137,8 +170,7 @@ public class NpcCommunicator implements INpcCommunicator {
         true // onGround
       );
 
-      refl.sendPacket(receiver, headRot);
-      refl.sendPacket(receiver, look);
+      refl.sendPackets(receiver, headRot, look);
     } catch (Exception e) {
       logger.logError(e);
     }
@@ -189,15 +221,13 @@ public class NpcCommunicator implements INpcCommunicator {
     PacketPlayOutEntityMetadata metaAS = new PacketPlayOutEntityMetadata(asID, watcher, true);
 
     // Create a packet to mount the armorstand on the fake player
-    Object mountAS = refl.createPacket(PacketPlayOutMount.class);
-    refl.setFieldByType(mountAS, int.class, entityId, 0);
-    refl.setGenericFieldByType(mountAS, int[].class, int.class, new int[]{ asID }, 0);
+    Object mountAS = mountFactory.create();
+    mountVehicle.set(mountAS, entityId);
+    mountPassengers.set(mountAS, new int[]{ asID });
 
     // Provide a routine to spawn and mount this hidden armorstand
     return new Tuple<>(ep, () -> {
-      refl.sendPacket(p, spawnAS);
-      refl.sendPacket(p, metaAS);
-      refl.sendPacket(p, mountAS);
+      refl.sendPackets(p, spawnAS, metaAS, mountAS);
     });
   }
 
@@ -212,7 +242,7 @@ public class NpcCommunicator implements INpcCommunicator {
     GameProfile profile,
     boolean remove
   ) throws Exception {
-    Object info = refl.createPacket(PacketPlayOutPlayerInfo.class);
+    Object info = infoFactory.create();
 
     PacketPlayOutPlayerInfo.EnumPlayerInfoAction action = PacketPlayOutPlayerInfo.EnumPlayerInfoAction.a;
     List<PacketPlayOutPlayerInfo.PlayerInfoData> dataList = new ArrayList<>();
@@ -227,8 +257,8 @@ public class NpcCommunicator implements INpcCommunicator {
       )
     );
 
-    refl.setFieldByType(info, PacketPlayOutPlayerInfo.EnumPlayerInfoAction.class, action, 0);
-    refl.setGenericFieldByType(info, List.class, PacketPlayOutPlayerInfo.PlayerInfoData.class, dataList, 0);
+    infoAction.set(info, action);
+    infoData.set(info, dataList);
 
     return info;
   }
@@ -3,6 +3,7 @@ package me.blvckbytes.blvcksys.packets.communicators.objective;
 import me.blvckbytes.blvcksys.util.MCReflect;
 import me.blvckbytes.blvcksys.di.AutoConstruct;
 import me.blvckbytes.blvcksys.di.AutoInject;
+import me.blvckbytes.blvcksys.util.PacketFactory;
 import me.blvckbytes.blvcksys.util.logging.ILogger;
 import net.minecraft.network.chat.ChatComponentText;
 import net.minecraft.network.chat.IChatBaseComponent;
@@ -26,12 +27,40 @@ public class ObjectiveCommunicator implements IObjectiveCommunicator {
   private final MCReflect refl;
   private final ILogger logger;
 
+  private final PacketFactory objectiveFactory;
+  private final PacketFactory.PacketField objectiveIdentifier, objectiveDisplay, objectiveUnit, objectiveMode;
+
+  private final PacketFactory displayFactory;
+  private final PacketFactory.PacketField displayIdentifier, displayPosition;
+
+  private final PacketFactory scoreFactory;
+  private final PacketFactory.PacketField scoreName, scoreIdentifier, scoreValue, scoreAction;
+  private final ScoreboardServer.Action changeAction, removeAction;
+
   public ObjectiveCommunicator(
     @AutoInject MCReflect refl,
     @AutoInject ILogger logger
-  ) {
+  ) throws Exception {
     this.refl = refl;
     this.logger = logger;
+
+    this.objectiveFactory = new PacketFactory(refl, PacketPlayOutScoreboardObjective.class);
+    this.objectiveIdentifier = objectiveFactory.field(String.class, 0);
+    this.objectiveDisplay = objectiveFactory.field(IChatBaseComponent.class, 0);
+    this.objectiveUnit = objectiveFactory.field(IScoreboardCriteria.EnumScoreboardHealthDisplay.class, 0);
+    this.objectiveMode = objectiveFactory.field(int.class, 0);
+
+    this.displayFactory = new PacketFactory(refl, PacketPlayOutScoreboardDisplayObjective.class);
+    this.displayIdentifier = displayFactory.field(String.class, 0);
+    this.displayPosition = displayFactory.field(int.class, 0);
+
+    this.scoreFactory = new PacketFactory(refl, PacketPlayOutScoreboardScore.class);
+    this.scoreName = scoreFactory.field(String.class, 0);
+    this.scoreIdentifier = scoreFactory.field(String.class, 1);
+    this.scoreValue = scoreFactory.field(int.class, 0);
+    this.scoreAction = scoreFactory.field(ScoreboardServer.Action.class, 0);
+    this.changeAction = refl.getEnumNth(ScoreboardServer.Action.class, 0);
+    this.removeAction = refl.getEnumNth(ScoreboardServer.Action.class, 1);
   }
 
   @Override
@@ -43,18 +72,14 @@ public class ObjectiveCommunicator implements IObjectiveCommunicator {
     @Nullable ObjectiveUnit unit
   ) {
     try {
-      Object sop = refl.createPacket(PacketPlayOutScoreboardObjective.class);
+      Object sop = objectiveFactory.create();
 
       // Unique identifier for this objective
-      refl.setFieldByType(sop, String.class, identifier, 0);
+      objectiveIdentifier.set(sop, identifier);
 
       // Objective's display-name
-      if (display != null) {
-        refl.setFieldByType(
-          sop, IChatBaseComponent.class,
-          new ChatComponentText(display), 0
-        );
-      }
+      if (display != null)
+        objectiveDisplay.set(sop, new ChatComponentText(display));
 
       // Get the target's enum class (what a mouth-full)
       Class<IScoreboardCriteria.EnumScoreboardHealthDisplay> ehdC = IScoreboardCriteria.EnumScoreboardHealthDisplay.class;
@@ -63,11 +88,11 @@ public class ObjectiveCommunicator implements IObjectiveCommunicator {
       if (unit != null) {
         IScoreboardCriteria.EnumScoreboardHealthDisplay eC = refl.getEnumByField(ehdC, String.class, unit.getUnit(), 0);
         // Scoreboard health display type (integer/hearts)
-        refl.setFieldByType(sop, ehdC, eC, 0);
+        objectiveUnit.set(sop, eC);
       }
 
       // Packet mode (0=create, 1=remove, 2=update text)
-      refl.setFieldByType(sop, int.class, mode.getMode(), 0);
+      objectiveMode.set(sop, mode.getMode());
 
       return refl.sendPacket(p, sop);
     } catch (Exception e) {
@@ -79,13 +104,13 @@ public class ObjectiveCommunicator implements IObjectiveCommunicator {
   @Override
   public boolean displayObjective(Player p, String identifier, ObjectivePosition pos) {
     try {
-      Object dop = refl.createPacket(PacketPlayOutScoreboardDisplayObjective.class);
+      Object dop = displayFactory.create();
 
       // Unique identifier for the objective
-      refl.setFieldByType(dop, String.class, identifier, 0);
+      displayIdentifier.set(dop, identifier);
 
       // Position within the HUD
-      refl.setFieldByType(dop, int.class, pos.getPosition(), 0);
+      displayPosition.set(dop, pos.getPosition());
 
       return refl.sendPacket(p, dop);
     } catch (Exception e) {
@@ -103,22 +128,20 @@ public class ObjectiveCommunicator implements IObjectiveCommunicator {
     @Nullable Integer score
   ) {
     try {
-      Object ssp = refl.createPacket(PacketPlayOutScoreboardScore.class);
+      Object ssp = scoreFactory.create();
 
       // Name of the objective's member (score holder)
-      refl.setFieldByType(ssp, String.class, name, 0);
+      scoreName.set(ssp, name);
 
       // Unique identifier for the objective
-      refl.setFieldByType(ssp, String.class, identifier, 1);
+      scoreIdentifier.set(ssp, identifier);
 
       // Score value
       if (score != null)
-        refl.setFieldByType(ssp, int.class, score, 0);
+        scoreValue.set(ssp, score);
 
       // Packet action
-      Class<ScoreboardServer.Action> ssaC = ScoreboardServer.Action.class;
-      ScoreboardServer.Action action = refl.getEnumNth(ssaC, delete ? 1 : 0);
-      refl.setFieldByType(ssp, ssaC, action, 0);
+      scoreAction.set(ssp, delete ? removeAction : changeAction);
 
       return refl.sendPacket(p, ssp);
     } catch (Exception e) {
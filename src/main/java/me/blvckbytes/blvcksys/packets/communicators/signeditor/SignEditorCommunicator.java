@@ -8,6 +8,7 @@ import me.blvckbytes.blvcksys.packets.ModificationPriority;
 import me.blvckbytes.blvcksys.packets.PacketSource;
 import me.blvckbytes.blvcksys.packets.communicators.blockspoof.IBlockSpoofCommunicator;
 import me.blvckbytes.blvcksys.util.MCReflect;
+import me.blvckbytes.blvcksys.util.PacketFactory;
 import me.blvckbytes.blvcksys.di.AutoConstruct;
 import me.blvckbytes.blvcksys.di.AutoInject;
 import me.blvckbytes.blvcksys.di.IAutoConstructed;
@@ -55,6 +56,15 @@ public class SignEditorCommunicator implements ISignEditorCommunicator, IPacketM
   // Map of a player to their signedit request (tuple of a callback and fake sign location)
   private final Map<UUID, Tuple<Consumer<String[]>, Location>> signeditRequests;
 
+  private final PacketFactory tileDataFactory;
+  private final PacketFactory.PacketField tileDataPosition, tileDataNbt, tileDataType;
+
+  private final PacketFactory openEditorFactory;
+  private final PacketFactory.PacketField openEditorPosition;
+
+  private final PacketFactory closeWindowFactory;
+  private final PacketFactory.PacketField closeWindowId;
+
   public SignEditorCommunicator(
     @AutoInject MCReflect refl,
     @AutoInject IBlockSpoofCommunicator spoof,
@@ -62,7 +72,7 @@ public class SignEditorCommunicator implements ISignEditorCommunicator, IPacketM
     @AutoInject IPacketInterceptor interceptor,
     @AutoInject IConfig cfg,
     @AutoInject ILogger logger
-  ) {
+  ) throws Exception {
     this.refl = refl;
     this.spoof = spoof;
     this.plugin = plugin;
@@ -70,6 +80,18 @@ public class SignEditorCommunicator implements ISignEditorCommunicator, IPacketM
     this.logger = logger;
 
     this.signeditRequests = new HashMap<>();
+
+    this.tileDataFactory = new PacketFactory(refl, PacketPlayOutTileEntityData.class);
+    this.tileDataPosition = tileDataFactory.field(BlockPosition.class, 0);
+    this.tileDataNbt = tileDataFactory.field(NBTTagCompound.class, 0);
+    this.tileDataType = tileDataFactory.field(TileEntityTypes.class, 0);
+
+    this.openEditorFactory = new PacketFactory(refl, PacketPlayOutOpenSignEditor.class);
+    this.openEditorPosition = openEditorFactory.field(BlockPosition.class, 0);
+
+    this.closeWindowFactory = new PacketFactory(refl, PacketPlayOutCloseWindow.class);
+    this.closeWindowId = closeWindowFactory.field(int.class, 0);
+
     interceptor.register(this, ModificationPriority.HIGH);
   }
 
@@ -104,7 +126,7 @@ public class SignEditorCommunicator implements ISignEditorCommunicator, IPacketM
 
     try {
       // Send out a sign lines update packet for the fake sign
-      Object ped = refl.createPacket(PacketPlayOutTileEntityData.class);
+      Object ped = tileDataFactory.create();
       NBTTagCompound nbt = new NBTTagCompound();
 
       // Append all lines to this tag
@@ -122,17 +144,15 @@ public class SignEditorCommunicator implements ISignEditorCommunicator, IPacketM
       setDouble.invoke(nbt, "y", loc.getY());
       setDouble.invoke(nbt, "z", loc.getZ());
 
-      refl.setFieldByType(ped, BlockPosition.class, pos, 0);
-      refl.setFieldByType(ped, NBTTagCompound.class, nbt, 0);
-      refl.setFieldByType(ped, TileEntityTypes.class, TileEntityTypes.h, 0);
-
-      if (!refl.sendPacket(p, ped))
-        return false;
+      tileDataPosition.set(ped, pos);
+      tileDataNbt.set(ped, nbt);
+      tileDataType.set(ped, TileEntityTypes.h);
 
       // Send out a sign editor open packet for the fake block
-      Object pse =  refl.createPacket(PacketPlayOutOpenSignEditor.class);
-      refl.setFieldByType(pse, BlockPosition.class, pos, 0);
-      return refl.sendPacket(p, pse);
+      Object pse = openEditorFactory.create();
+      openEditorPosition.set(pse, pos);
+
+      return refl.sendPackets(p, ped, pse);
     } catch (Exception e) {
       logger.logError(e);
       return false;
@@ -197,8 +217,8 @@ public class SignEditorCommunicator implements ISignEditorCommunicator, IPacketM
 
     // Close the active window
     try {
-      Object pcw = refl.createPacket(PacketPlayOutCloseWindow.class);
-      refl.setFieldByType(pcw, int.class, 0, 0);
+      Object pcw = closeWindowFactory.create();
+      closeWindowId.set(pcw, 0);
       refl.sendPacket(p, pcw);
     } catch (Exception e) {
       logger.logError(e);
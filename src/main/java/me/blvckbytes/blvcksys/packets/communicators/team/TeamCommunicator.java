@@ -3,6 +3,7 @@ package me.blvckbytes.blvcksys.packets.communicators.team;
 import me.blvckbytes.blvcksys.util.MCReflect;
 import me.blvckbytes.blvcksys.di.AutoConstruct;
 import me.blvckbytes.blvcksys.di.AutoInject;
+import me.blvckbytes.blvcksys.util.PacketFactory;
 import me.blvckbytes.blvcksys.util.logging.ILogger;
 import net.minecraft.EnumChatFormat;
 import net.minecraft.network.chat.ChatMessage;
@@ -11,10 +12,10 @@ import net.minecraft.network.protocol.game.PacketPlayOutScoreboardTeam;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.util.*;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -28,12 +29,40 @@ public class TeamCommunicator implements ITeamCommunicator {
   private final MCReflect refl;
   private final ILogger logger;
 
+  private final PacketFactory parametersFactory;
+  private final PacketFactory.PacketField displayName, prefix, suffix, nameTagVisibility, collisionRule, color, options;
+
+  // Constructor of the team packet, taking the name, mode, parameters and members
+  private final MethodHandle teamConstructor;
+
+  // Mapping color characters to their chat format
+  private final Map<Character, EnumChatFormat> chatFormats;
+
   public TeamCommunicator(
     @AutoInject MCReflect refl,
     @AutoInject ILogger logger
-  ) {
+  ) throws Exception {
     this.refl = refl;
     this.logger = logger;
+
+    this.parametersFactory = new PacketFactory(refl, PacketPlayOutScoreboardTeam.b.class);
+    this.displayName = parametersFactory.field(IChatBaseComponent.class, 0);
+    this.prefix = parametersFactory.field(IChatBaseComponent.class, 1);
+    this.suffix = parametersFactory.field(IChatBaseComponent.class, 2);
+    this.nameTagVisibility = parametersFactory.field(String.class, 0);
+    this.collisionRule = parametersFactory.field(String.class, 1);
+    this.color = parametersFactory.field(EnumChatFormat.class, 0);
+    this.options = parametersFactory.field(int.class, 0);
+
+    Constructor<?> ctor = PacketPlayOutScoreboardTeam.class.getDeclaredConstructor(
+      String.class, int.class, Optional.class, Collection.class
+    );
+    ctor.setAccessible(true);
+    this.teamConstructor = MethodHandles.lookup().unreflectConstructor(ctor);
+
+    this.chatFormats = new HashMap<>();
+    for (EnumChatFormat cf : EnumChatFormat.values())
+      this.chatFormats.put(refl.getFieldByType(cf, char.class, 0), cf);
   }
 
   @Override
@@ -53,23 +82,22 @@ public class TeamCommunicator implements ITeamCommunicator {
 
     try {
       // Create the scoreboard team packet's inner data model
-      Object b = refl.createPacket(PacketPlayOutScoreboardTeam.b.class);
+      Object b = parametersFactory.create();
 
-      refl.setFieldByType(b, IChatBaseComponent.class, new ChatMessage(group.groupName()), 0);
-      refl.setFieldByType(b, IChatBaseComponent.class, new ChatMessage(group.prefix()), 1);
-      refl.setFieldByType(b, IChatBaseComponent.class, new ChatMessage(group.suffix()), 2);
-      refl.setFieldByType(b, String.class, "always", 0); // Name tag visibility: always, hideForOtherTeams, hideForOwnTeam, never
-      refl.setFieldByType(b, String.class, "never", 1); // Collision rule (physical collisions): always, pushOtherTeams, pushOwnTeam, never
+      displayName.set(b, new ChatMessage(group.groupName()));
+      prefix.set(b, new ChatMessage(group.prefix()));
+      suffix.set(b, new ChatMessage(group.suffix()));
+      nameTagVisibility.set(b, "always"); // Name tag visibility: always, hideForOtherTeams, hideForOwnTeam, never
+      collisionRule.set(b, "never"); // Collision rule (physical collisions): always, pushOtherTeams, pushOwnTeam, never
 
-      chatFormatFromColor(group.nameColor().getChar()).ifPresent(ecf -> {
-        refl.setFieldByType(b, EnumChatFormat.class, ecf, 0); // Player name color
-      });
+      EnumChatFormat ecf = chatFormats.get(group.nameColor().getChar());
+      if (ecf != null)
+        color.set(b, ecf); // Player name color
 
-      refl.setFieldByType(b, int.class, 0x00, 0); // Bit mask. 0x01: Allow friendly fire, 0x02: can see invisible players on same team.
+      options.set(b, 0x00); // Bit mask. 0x01: Allow friendly fire, 0x02: can see invisible players on same team.
 
       // Create the packet itself using all initialized parameters
-      Object pack =refl.invokeConstructor(
-        PacketPlayOutScoreboardTeam.class,
+      Object pack = createTeamPacket(
         group.priority() + group.groupName(), // Unique team name
         action.getMode(),     // Mode (0=create, 1=remove, 2=update, 3=add entites, 4=remove entities)
         Optional.of(b),       // Optional team (not needed for (1 | 3 | 4), I guess?)
@@ -84,26 +112,20 @@ public class TeamCommunicator implements ITeamCommunicator {
   }
 
   /**
-   * Get a EnumChatFormat by it's color character
-   * @param color Color character
-   * @return Result or empty on errors
+   * Create a new team packet through it's resolved constructor
+   * @param name Unique team name
+   * @param mode Packet mode
+   * @param parameters Optional team parameters
+   * @param members Names of all team members
+   * @return Packet instance
    */
-  private Optional<EnumChatFormat> chatFormatFromColor(char color) {
+  private Object createTeamPacket(String name, int mode, Optional<?> parameters, Collection<String> members) throws Exception {
     try {
-      // Loop all enum values
-      for (EnumChatFormat cf : EnumChatFormat.values()) {
-        Character colorCode = refl.getFieldByType(cf, char.class, 0);
-
-        // Color char matches
-        if (colorCode == color)
-          return Optional.of(cf);
-      }
-
-      // Not found
-      return Optional.empty();
+      return teamConstructor.invoke(name, mode, parameters, members);
     } catch (Exception e) {
-      logger.logError(e);
-      return Optional.empty();
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
     }
   }
 }
@@ -2,7 +2,10 @@ package me.blvckbytes.blvcksys.persistence;
 
 import me.blvckbytes.blvcksys.persistence.exceptions.PersistenceException;
 import me.blvckbytes.blvcksys.persistence.models.APersistentModel;
+import me.blvckbytes.blvcksys.persistence.query.FieldQueryGroup;
 import me.blvckbytes.blvcksys.persistence.query.QueryBuilder;
+import net.minecraft.util.Tuple;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Map;
@@ -23,6 +26,39 @@ public interface IPersistence {
    */
   void store(APersistentModel model) throws PersistenceException;
 
+  /**
+   * Store only a subset of a model's properties persistently, which is
+   * ignored for models that haven't yet been stored and are thus inserted as a whole
+   * @param model Model to store
+   * @param properties Names of the properties to store
+   */
+  void storeProperties(APersistentModel model, String... properties) throws PersistenceException;
+
+  /**
+   * Store multiple models persistently within a single transaction, which
+   * is rolled back as a whole if any of the writes fails
+   * @param models Models to store, in the order they should be written
+   */
+  void storeAll(List<? extends APersistentModel> models) throws PersistenceException;
+
+  /**
+   * Add a delta to a numeric property of a stored model, where the addition is carried
+   * out by the database itself, so that concurrent deltas cannot overwrite each other.
+   * The model's field is left untouched and thus has to be updated by the caller.
+   * @param model Model to alter
+   * @param property Name of the numeric property
+   * @param delta Delta to add
+   */
+  void addToProperty(APersistentModel model, String property, long delta) throws PersistenceException;
+
+  /**
+   * Add deltas to a numeric property of multiple stored models within a single
+   * transaction, which is rolled back as a whole if any of the writes fails
+   * @param property Name of the numeric property
+   * @param deltas Models and the delta to add to their property, in the order they should be written
+   */
+  void addToProperty(String property, List<Tuple<? extends APersistentModel, Long>> deltas) throws PersistenceException;
+
   /**
    * List all available models of a certain type
    * @param type Type of model to list
@@ -79,7 +115,7 @@ public interface IPersistence {
    * the specified query in their raw, unwrapped form
    * @param query Query to execute
    * @param properties Properties to receive within the map
-   * @return List of properties
+   * @return List of properties, keyed by their requested names
    */
   <T extends APersistentModel> List<Map<String, Object>> findRaw(QueryBuilder<T> query, String... properties);
 
@@ -87,7 +123,26 @@ public interface IPersistence {
    * Get a set of properties for all models that are available
    * @param type Type of model to list
    * @param properties Properties to receive within the map
-   * @return List of properties for all available items
+   * @return List of properties for all available items, keyed by their requested names
    */
   <T extends APersistentModel> List<Map<String, Object>> listRaw(Class<T> type, String... properties);
+
+  /**
+   * Suggest values of a model's field which contain the input, ignoring casing. Values
+   * are served from an in-memory index, which is loaded on it's first use and kept in sync
+   * on all writes, where values starting with the input are listed first.
+   * @param type Type of model to search in
+   * @param field Target field of the model
+   * @param input Typed out input
+   * @param limit Maximum number of suggestions
+   * @param additional Additional search constraint
+   * @return List of matching values
+   */
+  <T extends APersistentModel> List<String> suggest(
+    Class<T> type,
+    String field,
+    String input,
+    int limit,
+    @Nullable FieldQueryGroup additional
+  ) throws PersistenceException;
 }
@@ -0,0 +1,68 @@
+package me.blvckbytes.blvcksys.persistence;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Creates snapshots of property values, which can be compared against snapshots of
+  later values by equality in order to find out whether a property has been changed.
+  Snapshots are detached from mutable values, so that changes made in place are still
+  detected. Values of unknown types produce snapshots which never equal any other
+  snapshot, as their changes cannot be detected.
+
+  Transformed values (like locations, items or inventories) are not snapshotted here,
+  as they're compared in their serialized form, which avoids cloning them on every read.
+*/
+public final class PropertySnapshot {
+
+  private PropertySnapshot() {}
+
+  /**
+   * Create a snapshot of a property's value
+   * @param value Value to take a snapshot of
+   * @return Snapshot, comparable by equality
+   */
+  public static @Nullable Object of(@Nullable Object value) {
+    if (value == null)
+      return null;
+
+    // Immutable values can be compared directly
+    if (
+      value instanceof Number || value instanceof Boolean || value instanceof Character ||
+      value instanceof String || value instanceof UUID || value instanceof Enum<?>
+    )
+      return value;
+
+    if (value instanceof Date d)
+      return d.getTime();
+
+    // Unknown type, never equal to anything
+    return new Object();
+  }
+
+  /**
+   * Add a delta to a numeric snapshot while keeping it's type
+   * @param snapshot Numeric snapshot
+   * @param delta Delta to add
+   * @return Snapshot of the sum, empty if the snapshot is not numeric
+   */
+  public static Optional<Object> add(@Nullable Object snapshot, long delta) {
+    if (snapshot instanceof Integer i)
+      return Optional.of((int) (i + delta));
+
+    if (snapshot instanceof Long l)
+      return Optional.of(l + delta);
+
+    if (snapshot instanceof Double d)
+      return Optional.of(d + delta);
+
+    if (snapshot instanceof Float f)
+      return Optional.of(f + delta);
+
+    return Optional.empty();
+  }
+}
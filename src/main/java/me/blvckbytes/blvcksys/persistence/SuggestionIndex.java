@@ -0,0 +1,279 @@
+package me.blvckbytes.blvcksys.persistence;
+
+import lombok.Getter;
+import me.blvckbytes.blvcksys.persistence.query.FieldQuery;
+import me.blvckbytes.blvcksys.persistence.query.FieldQueryGroup;
+import me.blvckbytes.blvcksys.persistence.query.QueryConnection;
+import net.minecraft.util.Tuple;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Holds a subset of fields of all rows of a model in memory in order to answer
+  suggestion requests, which search for values containing the typed out input,
+  without querying the database. Values are lowercased once when they're indexed,
+  and additional constraints are evaluated against the held fields.
+*/
+public class SuggestionIndex {
+
+  // Tolerance used when comparing floating point numbers, just like the database queries do
+  private static final double COMMA_TOLERANCE = 0.01;
+
+  private record Row(Map<String, Object> values, Map<String, String> lowered) {}
+
+  // Fields which are held for every row
+  @Getter
+  private final Set<String> fields;
+
+  // Maps the name of a model's field to it's column name
+  private final Function<String, String> columnName;
+
+  // Rows by their ID
+  private final Map<UUID, Row> rows;
+
+  /**
+   * Create a new, empty suggestion index
+   * @param fields Fields which are held for every row
+   * @param columnName Maps the name of a model's field to it's column name
+   */
+  public SuggestionIndex(Set<String> fields, Function<String, String> columnName) {
+    this.fields = Collections.unmodifiableSet(fields);
+    this.columnName = columnName;
+    this.rows = new HashMap<>();
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Add a row to the index or replace it, if it already exists
+   * @param id ID of the row
+   * @param values Values of all held fields by their column name
+   */
+  public void put(UUID id, Map<String, Object> values) {
+    Map<String, String> lowered = new HashMap<>();
+
+    for (Map.Entry<String, Object> value : values.entrySet()) {
+      if (value.getValue() != null)
+        lowered.put(value.getKey(), value.getValue().toString().toLowerCase());
+    }
+
+    rows.put(id, new Row(values, lowered));
+  }
+
+  /**
+   * Get the values of a row
+   * @param id ID of the row
+   * @return Values of all held fields by their column name, null if the row is unknown
+   */
+  public @Nullable Map<String, Object> get(UUID id) {
+    Row row = rows.get(id);
+    return row == null ? null : row.values();
+  }
+
+  /**
+   * Remove a row from the index
+   * @param id ID of the row
+   */
+  public void remove(UUID id) {
+    rows.remove(id);
+  }
+
+  /**
+   * Suggest values of a field which contain the input, ignoring casing, where
+   * values starting with the input are listed before all other values
+   * @param field Name of the field to search in
+   * @param input Typed out input
+   * @param limit Maximum number of suggestions
+   * @param additional Additional search constraint
+   * @return List of matching values
+   */
+  public List<String> suggest(String field, String input, int limit, @Nullable FieldQueryGroup additional) {
+    String column = columnName.apply(field);
+    String typed = input.toLowerCase();
+
+    List<Tuple<String, String>> prefixed = new ArrayList<>(), contained = new ArrayList<>();
+
+    for (Row row : rows.values()) {
+      String value = row.lowered().get(column);
+      if (value == null)
+        continue;
+
+      int index = value.indexOf(typed);
+      if (index < 0)
+        continue;
+
+      if (additional != null && !matches(row, additional))
+        continue;
+
+      (index == 0 ? prefixed : contained).add(new Tuple<>(value, row.values().get(column).toString()));
+    }
+
+    List<String> res = new ArrayList<>();
+    collectSorted(prefixed, res, limit);
+    collectSorted(contained, res, limit);
+    return res;
+  }
+
+  /**
+   * Get all fields which an additional constraint requires to be evaluated in memory
+   * @param group Constraint to evaluate
+   * @return Set of field names, empty if the constraint cannot be evaluated in memory
+   */
+  public static Optional<Set<String>> requiredFields(FieldQueryGroup group) {
+    Set<String> res = new HashSet<>();
+
+    for (FieldQuery query : queriesOf(group)) {
+      // Operations on multiple fields are only supported by the database
+      if (query.getFieldOp() != null)
+        return Optional.empty();
+
+      res.add(query.getFieldA());
+    }
+
+    return Optional.of(res);
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Sort suggestions by their lowercase value and append them to the result
+   * @param suggestions Suggestions as tuples of lowercase and actual value
+   * @param res Result to append to
+   * @param limit Maximum size of the result
+   */
+  private void collectSorted(List<Tuple<String, String>> suggestions, List<String> res, int limit) {
+    suggestions.sort(Comparator.comparing(Tuple::a));
+
+    for (Tuple<String, String> suggestion : suggestions) {
+      if (res.size() >= limit)
+        return;
+
+      res.add(suggestion.b());
+    }
+  }
+
+  /**
+   * Get all queries of a group, starting with it's root
+   * @param group Group to list
+   */
+  private static List<FieldQuery> queriesOf(FieldQueryGroup group) {
+    List<FieldQuery> res = new ArrayList<>();
+    res.add(group.getRoot());
+
+    for (Tuple<QueryConnection, FieldQuery> additional : group.getAdditionals())
+      res.add(additional.b());
+
+    return res;
+  }
+
+  /**
+   * Check whether a row matches a query group, where AND binds
+   * stronger than OR, just like within the database
+   * @param row Row to check
+   * @param group Group to evaluate
+   */
+  private boolean matches(Row row, FieldQueryGroup group) {
+    boolean chain = matches(row, group.getRoot());
+
+    for (Tuple<QueryConnection, FieldQuery> additional : group.getAdditionals()) {
+      // The current chain of ANDs matched, which satisfies the whole group
+      if (additional.a() == QueryConnection.OR) {
+        if (chain)
+          return true;
+
+        chain = matches(row, additional.b());
+        continue;
+      }
+
+      chain = chain && matches(row, additional.b());
+    }
+
+    return chain;
+  }
+
+  /**
+   * Check whether a row matches a single field query
+   * @param row Row to check
+   * @param query Query to evaluate
+   */
+  private boolean matches(Row row, FieldQuery query) {
+    String column = columnName.apply(query.getFieldA());
+    Object value = row.values().get(column);
+    Object target = query.getValue();
+
+    if (target instanceof Enum<?> e)
+      target = e.name();
+
+    if (value == null || target == null) {
+      return switch (query.getEqOp()) {
+        case EQ -> value == target;
+        case NEQ -> value != target;
+        default -> false;
+      };
+    }
+
+    String lowered = row.lowered().get(column);
+    String typed = target.toString().toLowerCase();
+
+    return switch (query.getEqOp()) {
+      case EQ -> isEqual(value, target);
+      case NEQ -> !isEqual(value, target);
+      case EQ_IC -> lowered.equals(typed);
+      case NEQ_IC -> !lowered.equals(typed);
+      case CONT -> value.toString().contains(target.toString());
+      case CONT_IC -> lowered.contains(typed);
+      case STARTS -> value.toString().startsWith(target.toString());
+      case STARTS_IC -> lowered.startsWith(typed);
+      case ENDS -> value.toString().endsWith(target.toString());
+      case ENDS_IC -> lowered.endsWith(typed);
+      case GT -> compare(value, target) > 0;
+      case GTE -> compare(value, target) >= 0;
+      case LT -> compare(value, target) < 0;
+      case LTE -> compare(value, target) <= 0;
+    };
+  }
+
+  /**
+   * Check whether a column's value equals a query's value
+   * @param value Value of the column
+   * @param target Value of the query
+   */
+  private boolean isEqual(Object value, Object target) {
+    if (value instanceof Number a && target instanceof Number b) {
+      if (a instanceof Double || a instanceof Float || b instanceof Double || b instanceof Float)
+        return Math.abs(a.doubleValue() - b.doubleValue()) < COMMA_TOLERANCE;
+      return a.longValue() == b.longValue();
+    }
+
+    if (value.equals(target))
+      return true;
+
+    // UUIDs are compared by their string representation to allow for both types as a query value
+    return (value instanceof UUID || target instanceof UUID) && value.toString().equals(target.toString());
+  }
+
+  /**
+   * Compare a column's value to a query's value
+   * @param value Value of the column
+   * @param target Value of the query
+   * @return Negative if the value is smaller, zero if equal, positive if greater
+   */
+  private int compare(Object value, Object target) {
+    if (value instanceof Number a && target instanceof Number b)
+      return Double.compare(a.doubleValue(), b.doubleValue());
+
+    if (value instanceof Date a && target instanceof Date b)
+      return a.compareTo(b);
+
+    return value.toString().compareTo(target.toString());
+  }
+}
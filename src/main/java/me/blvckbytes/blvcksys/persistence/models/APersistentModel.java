@@ -1,11 +1,13 @@
 package me.blvckbytes.blvcksys.persistence.models;
 
 import lombok.Getter;
+import lombok.Setter;
 import me.blvckbytes.blvcksys.persistence.ModelProperty;
 import org.bukkit.OfflinePlayer;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
 import java.util.UUID;
 
 /*
@@ -29,6 +31,11 @@ public abstract class APersistentModel {
   @ModelProperty(isInlineable = false, isNullable = true)
   protected Date updatedAt;
 
+  // Snapshots of all property values as they were persisted by the last load or store,
+  // used to only write changed properties, null if the persisted state is unknown
+  @Setter
+  private transient Map<String, Object> persistedState;
+
   /**
    * Get the createdAt timestamp as a human readable string
    */
@@ -9,9 +9,7 @@ import me.blvckbytes.blvcksys.persistence.query.EqualityOperation;
 import me.blvckbytes.blvcksys.persistence.query.QueryBuilder;
 import net.minecraft.util.Tuple;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -47,30 +45,36 @@ public abstract class ASequencedModel extends APersistentModel {
    * @return Optional List of items in sequence
    */
   public static<T extends ASequencedModel> List<T> sequentize(List<T> unsorted) throws PersistenceException {
-    List<T> ret = new ArrayList<>();
+    List<T> ret = new ArrayList<>(unsorted.size());
 
     // Empty list provided
     if (unsorted.size() == 0)
       return ret;
 
-    // Find the head node (which has no previous line)
-    T head = unsorted
-      .stream()
-      .filter(line -> line.getPrevious() == null)
-      .findFirst()
-      .orElseThrow(() -> new PersistenceException("Invalid linked list encountered"));
+    // Index all items by their ID and find the head node (which has no previous line)
+    Map<UUID, T> byId = new HashMap<>(unsorted.size() * 2);
+    T head = null;
+
+    for (T item : unsorted) {
+      byId.put(item.getId(), item);
+
+      if (item.getPrevious() == null && head == null)
+        head = item;
+    }
+
+    if (head == null)
+      throw new PersistenceException("Invalid linked list encountered");
 
     // Add the head
     ret.add(head);
 
     // Just navigate the head till' the end
     while (head.getNext() != null) {
-      UUID next = head.getNext();
-      head = unsorted
-        .stream()
-        .filter(line -> line.getId().equals(next))
-        .findFirst()
-        .orElseThrow(() -> new PersistenceException("Invalid linked list encountered"));
+      head = byId.get(head.getNext());
+
+      // Dangling pointer or a cycle which would never terminate
+      if (head == null || ret.size() == unsorted.size())
+        throw new PersistenceException("Invalid linked list encountered");
 
       // Add the next entry
       ret.add(head);
@@ -86,21 +90,22 @@ public abstract class ASequencedModel extends APersistentModel {
    * @param pers Persistence ref
    */
   public static<T extends ASequencedModel> boolean deleteSequenceMember(T member, IPersistence pers) throws PersistenceException {
-    // Find the predecessor which points to the line by "next"
-    ASequencedModel predecessor = pers.findFirst(
-      new QueryBuilder<>(
-        member.getClass(),
-        "next", EqualityOperation.EQ, member.getId()
-      )
-    ).orElse(null);
+    ASequencedModel predecessor = null, successor = null;
 
-    // Find the successor which points to the line by "previous"
-    ASequencedModel successor = pers.findFirst(
+    // Find both direct neighbors at once, where the predecessor points
+    // to the member by "next" and the successor points to it by "previous"
+    for (ASequencedModel neighbor : pers.find(
       new QueryBuilder<>(
         member.getClass(),
-        "previous", EqualityOperation.EQ, member.getId()
+        "next", EqualityOperation.EQ, member.getId()
       )
-    ).orElse(null);
+        .or("previous", EqualityOperation.EQ, member.getId())
+    )) {
+      if (member.getId().equals(neighbor.getNext()))
+        predecessor = neighbor;
+      else
+        successor = neighbor;
+    }
 
     // Node inbetween two other elements
     if (predecessor != null && successor != null) {
@@ -110,8 +115,7 @@ public abstract class ASequencedModel extends APersistentModel {
       predecessor.setNext(successor.getId());
       successor.setPrevious(predecessor.getId());
 
-      pers.store(predecessor);
-      pers.store(successor);
+      pers.storeAll(List.of(predecessor, successor));
     }
 
     // No successor, is a tail node
@@ -171,7 +175,8 @@ public abstract class ASequencedModel extends APersistentModel {
   }
 
   /**
-   * Alter the sequence of a sequentized list to a given order
+   * Alter the sequence of a sequentized list to a given order. Only members whose
+   * pointers actually changed are written, all within a single transaction.
    * @param membersQuery Query that will yield all members of the target sequence
    * @param sequence Relative sequence (relative to the current state), ranging from 1..n, where
    *                 1 is the head and n is the tail. All numbers need to be present.
@@ -199,14 +204,24 @@ public abstract class ASequencedModel extends APersistentModel {
       sorted.add(members.get(sequenceId - 1));
     }
 
-    // Change linked list pointers accordingly
+    // Change linked list pointers accordingly and collect all members that changed
+    List<T> changed = new ArrayList<>();
     for (int i = 0; i < sorted.size(); i++) {
       T curr = sorted.get(i);
-      curr.setPrevious(i == 0 ? null : sorted.get(i - 1).getId());
-      curr.setNext(i == sorted.size() - 1 ? null : sorted.get(i + 1).getId());
-      pers.store(curr);
+      UUID previous = i == 0 ? null : sorted.get(i - 1).getId();
+      UUID next = i == sorted.size() - 1 ? null : sorted.get(i + 1).getId();
+
+      // Pointers remained the same, no need to write
+      if (Objects.equals(curr.getPrevious(), previous) && Objects.equals(curr.getNext(), next))
+        continue;
+
+      curr.setPrevious(previous);
+      curr.setNext(next);
+      changed.add(curr);
     }
 
+    pers.storeAll(changed);
+
     // Sorted successfully
     return new Tuple<>(SequenceSortResult.SORTED, 0);
   }
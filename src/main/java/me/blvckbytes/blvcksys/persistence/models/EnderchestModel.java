@@ -6,6 +6,7 @@ import me.blvckbytes.blvcksys.persistence.ModelProperty;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 
 /*
   Author: BlvckBytes <blvckbytes@gmail.com>
@@ -42,10 +43,77 @@ public class EnderchestModel extends APersistentModel {
     return new EnderchestModel(owner, createEmptyPage(), createEmptyPage(), createEmptyPage(), DEFAULT_MAX_SLOTS);
   }
 
+  /**
+   * Get a page by it's numeric (one-based) index
+   * @param page Page requested
+   * @return Enderchest page, throws when indices are out of range
+   */
+  public Inventory getPage(int page) {
+    return switch (page) {
+      case 1 -> page1;
+      case 2 -> page2;
+      case 3 -> page3;
+      default -> throw new IllegalArgumentException("Invalid page specified");
+    };
+  }
+
+  /**
+   * Get the name of the property which holds a page by it's numeric (one-based) index
+   * @param page Page requested
+   * @return Property name, throws when indices are out of range
+   */
+  public static String getPageProperty(int page) {
+    if (page < 1 || page > NUM_PAGES)
+      throw new IllegalArgumentException("Invalid page specified");
+
+    return "page" + page;
+  }
+
+  /**
+   * Create a detached copy of this enderchest, which deep-copies the requested
+   * pages so that they can be serialized safely while the original keeps changing
+   * @param pages Pages to copy (one-based), all other pages are only referenced
+   * @return Snapshot which refers to the same persistent record
+   */
+  public EnderchestModel snapshot(int... pages) {
+    EnderchestModel copy = new EnderchestModel(owner, page1, page2, page3, lastMaxSlots);
+
+    copy.id = id;
+    copy.createdAt = createdAt;
+    copy.updatedAt = updatedAt;
+
+    for (int page : pages) {
+      Inventory copiedPage = copyPage(getPage(page));
+
+      switch (page) {
+        case 1 -> copy.page1 = copiedPage;
+        case 2 -> copy.page2 = copiedPage;
+        case 3 -> copy.page3 = copiedPage;
+      }
+    }
+
+    return copy;
+  }
+
   /**
    * Create a new empty enderchest page inventory
    */
   private static Inventory createEmptyPage() {
     return Bukkit.createInventory(null, 9 * PAGE_ROWS);
   }
+
+  /**
+   * Create a deep copy of an enderchest page inventory
+   * @param page Page to copy
+   */
+  private static Inventory copyPage(Inventory page) {
+    Inventory copy = Bukkit.createInventory(null, page.getSize());
+
+    for (int i = 0; i < page.getSize(); i++) {
+      ItemStack item = page.getItem(i);
+      copy.setItem(i, item == null ? null : item.clone());
+    }
+
+    return copy;
+  }
 }
@@ -35,12 +35,20 @@ import java.util.stream.Collectors;
   Created On: 05/04/2022
 
   An implementation of the persistence API towards the MariaDB database.
+  All operations share a single connection and are thus synchronized on this
+  instance, so that statements of asynchronous callers never interleave with
+  an ongoing transaction.
 */
 @AutoConstruct(typeDependencies = { IDataTransformer.class })
 public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
   private final Map<Class<? extends APersistentModel>, MysqlTable> tables;
   private final List<IDataTransformer<?, ?>> transformers;
+
+  // In-memory suggestion indices of models, created on their first suggestion request
+  private final Map<Class<? extends APersistentModel>, SuggestionIndex> suggestionIndices;
+
+  // Only to be accessed while holding this instance's lock
   private Connection conn;
   private String database;
 
@@ -65,6 +73,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
     this.transformers = new ArrayList<>();
     this.tables = new HashMap<>();
+    this.suggestionIndices = new HashMap<>();
 
     connect();
     loadTransformers();
@@ -77,9 +86,86 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   //=========================================================================//
 
   @Override
-  public void store(APersistentModel model) throws PersistenceException {
+  public synchronized void store(APersistentModel model) throws PersistenceException {
+    try {
+      writeModel(model, null);
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public synchronized void storeProperties(APersistentModel model, String... properties) throws PersistenceException {
+    try {
+      writeModel(model, Set.of(properties));
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public synchronized void storeAll(List<? extends APersistentModel> models) throws PersistenceException {
+    // Nothing to write
+    if (models.size() == 0)
+      return;
+
+    // A single model doesn't need an explicit transaction
+    if (models.size() == 1) {
+      store(models.get(0));
+      return;
+    }
+
+    // Models which are inserted within this transaction
+    List<APersistentModel> inserted = new ArrayList<>();
+
+    try {
+      conn.setAutoCommit(false);
+
+      try {
+        for (APersistentModel model : models) {
+          if (model.getId() == null)
+            inserted.add(model);
+
+          writeModel(model, null);
+        }
+
+        conn.commit();
+      } catch (Exception e) {
+        conn.rollback();
+
+        // Indices may have picked up rows which have now been rolled back, and
+        // the persisted state of the models is no longer known
+        for (APersistentModel model : models) {
+          invalidateSuggestions(model.getClass());
+          model.setPersistedState(null);
+        }
+
+        // Inserted rows no longer exist, so these models have to be inserted again on retries
+        for (APersistentModel model : inserted)
+          refl.setFieldByName(model, "id", null);
+
+        throw e;
+      } finally {
+        conn.setAutoCommit(true);
+      }
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public synchronized void addToProperty(APersistentModel model, String property, long delta) throws PersistenceException {
     try {
-      writeModel(model);
+      writeDelta(model, property, delta);
     } catch (PersistenceException e) {
       throw e;
     } catch (Exception e) {
@@ -89,7 +175,49 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public<T extends APersistentModel> List<T> list(Class<T> type) throws PersistenceException {
+  public synchronized void addToProperty(String property, List<Tuple<? extends APersistentModel, Long>> deltas) throws PersistenceException {
+    // Nothing to write
+    if (deltas.size() == 0)
+      return;
+
+    // A single delta doesn't need an explicit transaction
+    if (deltas.size() == 1) {
+      addToProperty(deltas.get(0).a(), property, deltas.get(0).b());
+      return;
+    }
+
+    try {
+      conn.setAutoCommit(false);
+
+      try {
+        for (Tuple<? extends APersistentModel, Long> delta : deltas)
+          writeDelta(delta.a(), property, delta.b());
+
+        conn.commit();
+      } catch (Exception e) {
+        conn.rollback();
+
+        // Indices may have picked up values which have now been rolled back, and
+        // the persisted state of the models is no longer known
+        for (Tuple<? extends APersistentModel, Long> delta : deltas) {
+          invalidateSuggestions(delta.a().getClass());
+          delta.a().setPersistedState(null);
+        }
+
+        throw e;
+      } finally {
+        conn.setAutoCommit(true);
+      }
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public synchronized <T extends APersistentModel> List<T> list(Class<T> type) throws PersistenceException {
     try {
       PreparedStatement ps = buildQuery(type, null, false, false, false);
       logStatement(ps);
@@ -110,7 +238,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public <T extends APersistentModel>boolean delete(Class<T> type, UUID id) throws PersistenceException {
+  public synchronized <T extends APersistentModel>boolean delete(Class<T> type, UUID id) throws PersistenceException {
     try {
       return deleteModel(type, id);
     } catch (PersistenceException e) {
@@ -122,7 +250,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public <T extends APersistentModel> List<T> find(QueryBuilder<T> query) throws PersistenceException {
+  public synchronized <T extends APersistentModel> List<T> find(QueryBuilder<T> query) throws PersistenceException {
     try {
       PreparedStatement ps = buildQuery(query.getModel(), query, false, false, false);
       ResultSet rs = ps.executeQuery();
@@ -141,7 +269,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public <T extends APersistentModel> int count(QueryBuilder<T> query) throws PersistenceException {
+  public synchronized <T extends APersistentModel> int count(QueryBuilder<T> query) throws PersistenceException {
     try {
       PreparedStatement ps = buildQuery(query.getModel(), query, false, true, false);
       ResultSet rs = ps.executeQuery();
@@ -164,7 +292,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public <T extends APersistentModel> int count(Class<T> type) throws PersistenceException {
+  public synchronized <T extends APersistentModel> int count(Class<T> type) throws PersistenceException {
     try {
       PreparedStatement ps = buildQuery(type, null, false, true, false);
       ResultSet rs = ps.executeQuery();
@@ -187,7 +315,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public <T extends APersistentModel> Optional<T> findFirst(QueryBuilder<T> query) throws PersistenceException {
+  public synchronized <T extends APersistentModel> Optional<T> findFirst(QueryBuilder<T> query) throws PersistenceException {
     try {
       PreparedStatement ps = buildQuery(query.getModel(), query, true, false, false);
       ResultSet rs = ps.executeQuery();
@@ -210,9 +338,9 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public <T extends APersistentModel> List<Map<String, Object>> findRaw(QueryBuilder<T> query, String... properties) {
+  public synchronized <T extends APersistentModel> List<Map<String, Object>> findRaw(QueryBuilder<T> query, String... properties) {
     try {
-      return readRowsRaw(query.getModel(), query, properties);
+      return readRowsRaw(query.getModel(), query, properties, true);
     } catch (PersistenceException e) {
       throw e;
     } catch (Exception e) {
@@ -222,9 +350,9 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public <T extends APersistentModel> List<Map<String, Object>> listRaw(Class<T> type, String... properties) {
+  public synchronized <T extends APersistentModel> List<Map<String, Object>> listRaw(Class<T> type, String... properties) {
     try {
-      return readRowsRaw(type, null, properties);
+      return readRowsRaw(type, null, properties, true);
     } catch (PersistenceException e) {
       throw e;
     } catch (Exception e) {
@@ -234,19 +362,24 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public boolean delete(APersistentModel model) throws PersistenceException {
+  public synchronized boolean delete(APersistentModel model) throws PersistenceException {
     boolean res = delete(model.getClass(), model.getId());
     refl.setFieldByName(model, "id", null);
     return res;
   }
 
   @Override
-  public <T extends APersistentModel> int delete(QueryBuilder<T> query) throws PersistenceException {
+  public synchronized <T extends APersistentModel> int delete(QueryBuilder<T> query) throws PersistenceException {
     try {
       PreparedStatement ps = buildQuery(query.getModel(), query, false, false, true);
       int ret = ps.executeUpdate();
 
       ps.close();
+
+      // It's unknown which rows have been affected, reload the index on it's next use
+      if (ret > 0)
+        invalidateSuggestions(query.getModel());
+
       return ret;
     } catch (PersistenceException e) {
       throw e;
@@ -257,7 +390,40 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   }
 
   @Override
-  public void cleanup() {
+  public synchronized <T extends APersistentModel> List<String> suggest(
+    Class<T> type,
+    String field,
+    String input,
+    int limit,
+    @Nullable FieldQueryGroup additional
+  ) throws PersistenceException {
+    try {
+      Set<String> fields = new HashSet<>();
+      fields.add(field);
+
+      if (additional != null) {
+        Optional<Set<String>> additionalFields = SuggestionIndex.requiredFields(additional);
+
+        // The constraint cannot be evaluated in memory, query the database instead
+        if (additionalFields.isEmpty())
+          return suggestFromDatabase(type, field, input, limit, additional);
+
+        fields.addAll(additionalFields.get());
+      }
+
+      synchronized (suggestionIndices) {
+        return getSuggestionIndex(type, fields).suggest(field, input, limit, additional);
+      }
+    } catch (PersistenceException e) {
+      throw e;
+    } catch (Exception e) {
+      logger.logError(e);
+      throw new PersistenceException("An internal error occurred");
+    }
+  }
+
+  @Override
+  public synchronized void cleanup() {
     this.disconnect();
   }
 
@@ -1255,12 +1421,14 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
    * @param model Model used to represent the individual result rows
    * @param query Query builder to build from, leave at null to have no WHERE clause
    * @param properties Properties to select
+   * @param keyByProperty Whether to key values by their property name instead of their column name
    * @return List of raw k-v pairs, as many as available rows
    */
   private<T extends APersistentModel> List<Map<String, Object>> readRowsRaw(
     Class<T> model,
     @Nullable QueryBuilder<T> query,
-    String[] properties
+    String[] properties,
+    boolean keyByProperty
   ) throws Exception {
     List<Map<String, Object>> res = new ArrayList<>();
     MysqlTable table = getTableFromModel(model, false);
@@ -1272,8 +1440,10 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
       .map(this::modelNameToDBName)
       .toList();
 
+    List<String> keys = keyByProperty ? Arrays.asList(properties) : colNames;
+
     while(rs.next())
-      res.add(readRowRaw(table, rs, colNames));
+      res.add(readRowRaw(table, rs, colNames, keys));
 
     rs.close();
     ps.close();
@@ -1287,18 +1457,20 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
    * @param table Table of the model reading from
    * @param rs ResultSet containing the row to be mapped
    * @param columns Selected columns that this ResultSet contains
+   * @param keys Keys to store the values of the selected columns at, in the same order
    * @return Model with fields containing the row's data
    */
-  private Map<String, Object> readRowRaw(MysqlTable table, ResultSet rs, List<String> columns) throws SQLException {
+  private Map<String, Object> readRowRaw(MysqlTable table, ResultSet rs, List<String> columns, List<String> keys) throws SQLException {
    Map<String, Object> res = new HashMap<>();
 
-   for (String property : columns) {
+   for (int i = 0; i < columns.size(); i++) {
+     String property = columns.get(i);
      MysqlColumn matchingCol = table.columns().stream()
        .filter(col -> col.getName().equals(property))
        .findFirst()
        .orElseThrow(() -> new PersistenceException("Invalid column for reading raw: " + property));
 
-     res.put(property, translateValue(matchingCol.getType(), rs.getObject(property)));
+     res.put(keys.get(i), translateValue(matchingCol.getType(), rs.getObject(property)));
    }
 
    return res;
@@ -1374,6 +1546,9 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
     List<MysqlColumn> remainingColumns = new ArrayList<>(table.columns());
     T inst = newEmpty(model);
 
+    // Remember the loaded state to only write changed properties later on
+    Map<String, Object> persistedState = new HashMap<>();
+
     // Loop while there are still columns left to be mapped
     while (remainingColumns.size() > 0) {
       MysqlColumn col = remainingColumns.get(0);
@@ -1387,6 +1562,9 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
         Object knownInst = newEmpty(knownModel);
         boolean knownHasNullFields = false;
 
+        // Transformed fields are remembered in their serialized form, which is already at hand
+        Map<String, Object> serialized = new HashMap<>();
+
         // Loop all columns from the known table and set the known instance's fields accordingly
         for (MysqlColumn knownCol : knownTable.columns()) {
           MysqlColumn targRemCol = remainingColumns.stream()
@@ -1401,6 +1579,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
           // Directly set the known model's field value to the corresponding column's value
           Object value = translateValue(col.getType(), rs.getObject(targRemCol.getName()));
+          serialized.put(targRemCol.getName(), value);
 
           if (value == null)
             knownHasNullFields = true;
@@ -1420,6 +1599,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
           col.getModelField().set(inst, callTransformerRevive(dt, knownInst));
         }
 
+        persistedState.put(col.getModelField().getName(), serialized);
         continue;
       }
 
@@ -1431,7 +1611,11 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
         value = Enum.valueOf((Class<Enum>) fieldType, valS);
 
       // Directly set the model's field value to the corresponding column's value
-      col.getModelField().set(inst, translateValue(col.getType(), value));
+      value = translateValue(col.getType(), value);
+      col.getModelField().set(inst, value);
+
+      if (!isReservedColumn(col))
+        persistedState.put(col.getModelField().getName(), PropertySnapshot.of(value));
       remainingColumns.remove(col);
     }
 
@@ -1454,6 +1638,7 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
       }
     }
 
+    inst.setPersistedState(Collections.synchronizedMap(persistedState));
     return inst;
   }
 
@@ -1492,6 +1677,15 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
       return false;
 
     ps.close();
+
+    synchronized (suggestionIndices) {
+      SuggestionIndex index = suggestionIndices.get(type);
+      if (index != null)
+        index.remove(id);
+    }
+
+    // Rows referencing the deleted row may have been deleted by cascading
+    invalidateReferencingSuggestions(table, new HashSet<>());
     return true;
   }
 
@@ -1629,17 +1823,46 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
   /**
    * Write a model into the database and set it's auto-generated fields
    * @param model Model to write
+   * @param properties Names of the properties to write on updates, null to write all
+   *                   properties which changed since the model has last been loaded or stored
    */
-  private void writeModel(APersistentModel model) throws Exception {
+  private void writeModel(APersistentModel model, @Nullable Set<String> properties) throws Exception {
     MysqlTable table = getTableFromModel(model.getClass(), false);
 
-    // Ensure that there are no duplicate keys
-    Map<String, Object> replaceCache = new HashMap<>();
-    checkDuplicateKeys(model, table, replaceCache);
-
     boolean isInsert = model.getId() == null;
     List<MysqlColumn> columns = table.columns();
 
+    // Writeable cache used to store replace() results in, which are shared by the snapshots and the written columns
+    Map<String, Object> replaceCache = new HashMap<>();
+
+    // Only properties which are about to be written have to be snapshotted, unless they're yet to be determined
+    Map<String, Object> snapshot = snapshotProperties(
+      model, table, replaceCache,
+      isInsert || properties == null ? null : properties
+    );
+
+    // Only write changed properties, if the persisted state of this model is known
+    if (!isInsert && properties == null && model.getPersistedState() != null) {
+      properties = findChangedProperties(model.getPersistedState(), snapshot);
+
+      // Nothing changed, there's nothing to write
+      if (properties.isEmpty())
+        return;
+    }
+
+    // Only update the requested properties, while always keeping the update timestamp current
+    Set<String> written = isInsert ? null : properties;
+    if (written != null) {
+      columns = columns.stream()
+        .filter(c -> c.getName().equals("updated_at") || written.contains(c.getModelField().getName()))
+        .toList();
+    }
+
+    // Ensure that there are no duplicate keys, which only
+    // can occur if any of the written columns are unique
+    if (isInsert || columns.stream().anyMatch(c -> !c.isPrimaryKey() && c.isUnique()))
+      checkDuplicateKeys(model, table, replaceCache);
+
     StringBuilder stmt = new StringBuilder(
       isInsert ? "INSERT INTO `" + table.name() + "` (" : "UPDATE `" + table.name() + "` SET "
     );
@@ -1697,6 +1920,9 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
 
     PreparedStatement ps = conn.prepareStatement(stmt.toString());
 
+    // Written values by their column name, as they're read back raw
+    Map<String, Object> writtenValues = new HashMap<>();
+
     // Fill all placeholder values
     int i = 0;
     for (MysqlColumn column : columns) {
@@ -1732,19 +1958,308 @@ public class MysqlPersistence implements IPersistence, IAutoConstructed {
       else
         value = resolveColumnValue(column, model, replaceCache);
 
+      // Save enums as a string by writing their constant's name
+      if (value != null && column.getModelField().getType().isEnum())
+        value = ((Enum<?>) value).name();
+
+      writtenValues.put(column.getName(), value);
+
       // UUIDs always need to be stringified
       if (column.getType().equals(MysqlType.UUID) && value != null)
         value = value.toString();
 
-      // Save enums as a string by writing their constant's name
-      else if (value != null && column.getModelField().getType().isEnum())
-        value = ((Enum<?>) value).name();
-
       ps.setObject(++i, value);
     }
 
     logStatement(ps);
     ps.executeUpdate();
+    ps.close();
+
+    rememberPersistedState(model, snapshot, written);
+    syncSuggestions(model.getClass(), model.getId(), writtenValues);
+  }
+
+  /**
+   * Take snapshots of non-reserved properties of a model. Transformed properties are
+   * snapshotted in their serialized form, mapping their column names to column values,
+   * just like they're read from the database.
+   * @param model Model to take snapshots of
+   * @param table Table that corresponds to this model
+   * @param replaceCache Writeable cache used to store replace() results in
+   * @param properties Names of the properties to snapshot, null to snapshot all properties
+   * @return Snapshots by property name
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> snapshotProperties(
+    APersistentModel model,
+    MysqlTable table,
+    Map<String, Object> replaceCache,
+    @Nullable Set<String> properties
+  ) throws Exception {
+    Map<String, Object> res = new HashMap<>();
+
+    for (MysqlColumn column : table.columns()) {
+      Field field = column.getModelField();
+
+      if (isReservedColumn(column) || (properties != null && !properties.contains(field.getName())))
+        continue;
+
+      if (column.getKnownModelField() == null) {
+        res.put(field.getName(), PropertySnapshot.of(field.get(model)));
+        continue;
+      }
+
+      // Transformed fields span multiple columns
+      ((Map<String, Object>) res.computeIfAbsent(field.getName(), k -> new HashMap<>()))
+        .put(column.getName(), resolveColumnValue(column, model, replaceCache));
+    }
+
+    return res;
+  }
+
+  /**
+   * Checks whether a column is reserved, which means that it's managed by the persistence itself
+   * @param column Column to check
+   */
+  private boolean isReservedColumn(MysqlColumn column) {
+    return column.isPrimaryKey() || column.getName().equals("created_at") || column.getName().equals("updated_at");
+  }
+
+  /**
+   * Find all properties whose snapshots differ from their persisted snapshots
+   * @param persisted Snapshots as persisted
+   * @param current Current snapshots
+   * @return Names of all changed properties
+   */
+  private Set<String> findChangedProperties(Map<String, Object> persisted, Map<String, Object> current) {
+    Set<String> res = new HashSet<>();
+
+    for (Map.Entry<String, Object> property : current.entrySet()) {
+      if (!persisted.containsKey(property.getKey()) || !Objects.equals(persisted.get(property.getKey()), property.getValue()))
+        res.add(property.getKey());
+    }
+
+    return res;
+  }
+
+  /**
+   * Remember the persisted state of a model after it has been written
+   * @param model Written model
+   * @param snapshot Snapshots of all properties at the time of writing
+   * @param written Names of the written properties, null if all properties have been written
+   */
+  private void rememberPersistedState(APersistentModel model, Map<String, Object> snapshot, @Nullable Set<String> written) {
+    if (written == null) {
+      model.setPersistedState(Collections.synchronizedMap(snapshot));
+      return;
+    }
+
+    // The state of the remaining properties is still unknown
+    Map<String, Object> state = model.getPersistedState();
+    if (state == null)
+      return;
+
+    for (String property : written) {
+      if (snapshot.containsKey(property))
+        state.put(property, snapshot.get(property));
+    }
+  }
+
+  /**
+   * Add a delta to a numeric column of an existing row within the database, which
+   * also keeps the update timestamp current
+   * @param model Model to alter
+   * @param property Name of the numeric property
+   * @param delta Delta to add
+   */
+  private void writeDelta(APersistentModel model, String property, long delta) throws Exception {
+    MysqlTable table = getTableFromModel(model.getClass(), false);
+
+    if (model.getId() == null)
+      throw new PersistenceException("Cannot add to a property of a model which has not yet been stored");
+
+    MysqlColumn column = null, updatedAt = null;
+    for (MysqlColumn c : table.columns()) {
+      if (c.getName().equals("updated_at"))
+        updatedAt = c;
+
+      else if (c.getModelField().getName().equals(property))
+        column = c;
+    }
+
+    if (column == null)
+      throw new PersistenceException("Unknown property " + property + " of " + model.getClass().getSimpleName());
+
+    MysqlType type = column.getType();
+    if (type != MysqlType.INTEGER && type != MysqlType.LONG && type != MysqlType.DOUBLE && type != MysqlType.FLOAT)
+      throw new PersistenceException("Cannot add to the non-numeric property " + property);
+
+    PreparedStatement ps = conn.prepareStatement(
+      "UPDATE `" + table.name() + "` SET " +
+        "`" + column.getName() + "` = `" + column.getName() + "` + ?, " +
+        "`updated_at` = ? " +
+      "WHERE `id` = " + uuidToBin(model.getId()) + ";"
+    );
+
+    Date now = new Date();
+    ps.setLong(1, delta);
+    ps.setObject(2, now);
+
+    logStatement(ps);
+    ps.executeUpdate();
+    ps.close();
+
+    // The delta is applied to the model by the caller, thus the written value has to be derived
+    Map<String, Object> writtenValues = new HashMap<>();
+    writtenValues.put("updated_at", now);
+    String columnName = column.getName();
+    PropertySnapshot.add(column.getModelField().get(model), delta)
+      .ifPresent(value -> writtenValues.put(columnName, value));
+
+    if (updatedAt != null)
+      updatedAt.getModelField().set(model, now);
+
+    // The persisted value now reflects the delta, which the caller applies to the model
+    Map<String, Object> state = model.getPersistedState();
+    if (state != null) {
+      PropertySnapshot.add(state.get(property), delta).ifPresentOrElse(
+        value -> state.put(property, value),
+        () -> state.remove(property)
+      );
+    }
+
+    syncSuggestions(model.getClass(), model.getId(), writtenValues);
+  }
+
+  ////////////////////////////////// Suggestions //////////////////////////////////////
+
+  /**
+   * Get the suggestion index of a model, which holds at least the requested fields
+   * and is loaded from the database if it doesn't exist or lacks some of the fields
+   * @param type Type of model
+   * @param fields Fields the index has to hold
+   * @return Suggestion index
+   */
+  private<T extends APersistentModel> SuggestionIndex getSuggestionIndex(Class<T> type, Set<String> fields) throws Exception {
+    SuggestionIndex index = suggestionIndices.get(type);
+
+    if (index != null && index.getFields().containsAll(fields))
+      return index;
+
+    // Extend the fields of the existing index, if any
+    Set<String> indexFields = new HashSet<>(fields);
+    indexFields.add("id");
+
+    if (index != null)
+      indexFields.addAll(index.getFields());
+
+    index = new SuggestionIndex(indexFields, this::modelNameToDBName);
+
+    for (Map<String, Object> row : readRowsRaw(type, null, indexFields.toArray(String[]::new), false))
+      index.put((UUID) row.get("id"), row);
+
+    suggestionIndices.put(type, index);
+    return index;
+  }
+
+  /**
+   * Update a row within the suggestion index of it's model after it has been written,
+   * if that model has an index, without reading the row back
+   * @param type Type of model
+   * @param id ID of the written row
+   * @param writtenValues Written values by their column name, all other columns keep their indexed values
+   */
+  private<T extends APersistentModel> void syncSuggestions(Class<T> type, UUID id, Map<String, Object> writtenValues) {
+    synchronized (suggestionIndices) {
+      SuggestionIndex index = suggestionIndices.get(type);
+      if (index == null)
+        return;
+
+      Map<String, Object> previous = index.get(id);
+      Map<String, Object> values = new HashMap<>();
+
+      for (String field : index.getFields()) {
+        String column = modelNameToDBName(field);
+
+        if (writtenValues.containsKey(column))
+          values.put(column, writtenValues.get(column));
+
+        else if (previous != null)
+          values.put(column, previous.get(column));
+      }
+
+      values.put("id", id);
+      index.put(id, values);
+    }
+  }
+
+  /**
+   * Drop the suggestion index of a model as well as of all models referencing
+   * it, so that they're reloaded on their next use
+   * @param type Type of model
+   */
+  private void invalidateSuggestions(Class<? extends APersistentModel> type) {
+    synchronized (suggestionIndices) {
+      if (suggestionIndices.remove(type) == null && suggestionIndices.isEmpty())
+        return;
+    }
+
+    invalidateReferencingSuggestions(getTableFromModel(type, false), new HashSet<>());
+  }
+
+  /**
+   * Drop the suggestion indices of all models which reference a table, directly
+   * or transitively, as their rows may have been altered by foreign key actions
+   * @param table Referenced table
+   * @param visited Tables which have already been visited
+   */
+  private void invalidateReferencingSuggestions(MysqlTable table, Set<MysqlTable> visited) {
+    if (!visited.add(table))
+      return;
+
+    for (Map.Entry<Class<? extends APersistentModel>, MysqlTable> entry : tables.entrySet()) {
+      boolean references = entry.getValue().columns().stream()
+        .anyMatch(c -> c.getForeignKey() == table);
+
+      if (!references)
+        continue;
+
+      synchronized (suggestionIndices) {
+        suggestionIndices.remove(entry.getKey());
+      }
+
+      invalidateReferencingSuggestions(entry.getValue(), visited);
+    }
+  }
+
+  /**
+   * Suggest values of a model's field by querying the database, which is used
+   * for additional constraints that cannot be evaluated in memory
+   * @param type Type of model to search in
+   * @param field Target field of the model
+   * @param input Typed out input
+   * @param limit Maximum number of suggestions
+   * @param additional Additional search constraint
+   * @return List of matching values
+   */
+  private<T extends APersistentModel> List<String> suggestFromDatabase(
+    Class<T> type,
+    String field,
+    String input,
+    int limit,
+    FieldQueryGroup additional
+  ) throws Exception {
+    QueryBuilder<T> query = new QueryBuilder<>(type, field, EqualityOperation.CONT_IC, input)
+      .limit(limit);
+
+    query.and(additional);
+
+    return readRowsRaw(type, query, new String[] { field }, true)
+      .stream()
+      .map(m -> m.get(field))
+      .filter(Objects::nonNull)
+      .map(Objects::toString)
+      .collect(Collectors.toList());
   }
 
   ////////////////////////////////// Transformers /////////////////////////////////////
@@ -0,0 +1,198 @@
+package me.blvckbytes.blvcksys.util;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  Decodes all frames of a GIF into full images by composing them onto the
+  logical screen, while respecting their offsets and disposal methods. Frames
+  are handed out one at a time, so that only the logical screen is held in
+  memory, and GIFs exceeding the size limits are rejected before decoding.
+*/
+public class GifDecoder {
+
+  /**
+   * Receives the composed frames of a GIF in order
+   */
+  @FunctionalInterface
+  public interface FrameConsumer {
+
+    /**
+     * Called for every composed frame
+     * @param frame Composed frame, which is only valid until this call returns
+     * @param delay Delay of the frame in milliseconds
+     */
+    void accept(BufferedImage frame, int delay) throws Exception;
+  }
+
+  // Maximum number of frames a GIF may consist of
+  private static final int MAX_FRAMES = 512;
+
+  // Maximum number of pixels of the logical screen and of each frame
+  private static final long MAX_SCREEN_PIXELS = 2048L * 2048;
+
+  // Maximum number of pixels of all frames combined
+  private static final long MAX_TOTAL_PIXELS = 256L * 1024 * 1024;
+
+  // Delays below this value are commonly treated as unset by viewers
+  private static final int MIN_DELAY_MS = 20;
+
+  // Delay to use for frames with an unset delay
+  private static final int DEFAULT_DELAY_MS = 100;
+
+  /**
+   * Check whether the provided raw data represents a GIF
+   * @param data Raw image data
+   */
+  public static boolean isGif(byte[] data) {
+    return data.length >= 6 && data[0] == 'G' && data[1] == 'I' && data[2] == 'F' && data[3] == '8';
+  }
+
+  /**
+   * Decode all frames of a GIF
+   * @param data Raw GIF data
+   * @param maxFrames Maximum number of frames, in addition to the global limit
+   * @param consumer Consumer of the composed frames
+   * @throws IOException The GIF is malformed or exceeds a size limit
+   */
+  public static void decode(byte[] data, int maxFrames, FrameConsumer consumer) throws Exception {
+    Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+    if (!readers.hasNext())
+      throw new IOException("No GIF reader available");
+
+    ImageReader reader = readers.next();
+
+    try (ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+      reader.setInput(iis, false);
+
+      int count = reader.getNumImages(true);
+      if (count <= 0)
+        throw new IOException("GIF contains no frames");
+
+      if (count > Math.min(MAX_FRAMES, maxFrames))
+        throw new IOException("GIF contains too many frames (" + count + ")");
+
+      // Determine the size of the logical screen, falling back to the first frame's size
+      int width = reader.getWidth(0), height = reader.getHeight(0);
+      IIOMetadata streamMeta = reader.getStreamMetadata();
+      if (streamMeta != null) {
+        Node screen = findChild(streamMeta.getAsTree(streamMeta.getNativeMetadataFormatName()), "LogicalScreenDescriptor");
+        if (screen != null) {
+          width = Math.max(1, intAttr(screen, "logicalScreenWidth", width));
+          height = Math.max(1, intAttr(screen, "logicalScreenHeight", height));
+        }
+      }
+
+      if ((long) width * height > MAX_SCREEN_PIXELS || (long) width * height * count > MAX_TOTAL_PIXELS)
+        throw new IOException("GIF is too large (" + width + "x" + height + ", " + count + " frames)");
+
+      BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+      for (int i = 0; i < count; i++) {
+        // Frames may exceed the logical screen, check before allocating them
+        if ((long) reader.getWidth(i) * reader.getHeight(i) > MAX_SCREEN_PIXELS)
+          throw new IOException("GIF frame " + i + " is too large");
+
+        BufferedImage frame = reader.read(i);
+        IIOMetadata meta = reader.getImageMetadata(i);
+        Node root = meta.getAsTree(meta.getNativeMetadataFormatName());
+
+        Node descriptor = findChild(root, "ImageDescriptor");
+        int x = descriptor == null ? 0 : intAttr(descriptor, "imageLeftPosition", 0);
+        int y = descriptor == null ? 0 : intAttr(descriptor, "imageTopPosition", 0);
+
+        Node control = findChild(root, "GraphicControlExtension");
+        String disposal = control == null ? "none" : strAttr(control, "disposalMethod", "none");
+        int delay = control == null ? 0 : intAttr(control, "delayTime", 0) * 10;
+
+        // Remember the canvas before drawing, if it has to be restored afterwards
+        BufferedImage previous = disposal.equals("restoreToPrevious") ? copy(canvas) : null;
+
+        Graphics2D g = canvas.createGraphics();
+        g.drawImage(frame, x, y, null);
+        g.dispose();
+
+        consumer.accept(canvas, delay < MIN_DELAY_MS ? DEFAULT_DELAY_MS : delay);
+
+        // Dispose of the frame before drawing the next frame
+        if (disposal.equals("restoreToBackgroundColor")) {
+          g = canvas.createGraphics();
+          g.setComposite(AlphaComposite.Clear);
+          g.fillRect(x, y, frame.getWidth(), frame.getHeight());
+          g.dispose();
+        }
+
+        else if (previous != null)
+          canvas = previous;
+      }
+    } finally {
+      reader.dispose();
+    }
+  }
+
+  /**
+   * Create a copy of an image
+   * @param image Image to copy
+   * @return Copied image
+   */
+  private static BufferedImage copy(BufferedImage image) {
+    BufferedImage res = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = res.createGraphics();
+    g.drawImage(image, 0, 0, null);
+    g.dispose();
+    return res;
+  }
+
+  /**
+   * Find the first child node by it's name
+   * @param parent Parent node to search in
+   * @param name Name of the child
+   * @return Child node, null if not found
+   */
+  private static Node findChild(Node parent, String name) {
+    for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+      if (child.getNodeName().equals(name))
+        return child;
+    }
+
+    return null;
+  }
+
+  /**
+   * Get the value of a node's attribute
+   * @param node Node to read from
+   * @param name Name of the attribute
+   * @param fallback Value to use if the attribute is not present
+   */
+  private static String strAttr(Node node, String name, String fallback) {
+    Node attr = node.getAttributes().getNamedItem(name);
+    return attr == null ? fallback : attr.getNodeValue();
+  }
+
+  /**
+   * Get the integer value of a node's attribute
+   * @param node Node to read from
+   * @param name Name of the attribute
+   * @param fallback Value to use if the attribute is not present or malformed
+   */
+  private static int intAttr(Node node, String name, int fallback) {
+    try {
+      return Integer.parseInt(strAttr(node, name, String.valueOf(fallback)));
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+}
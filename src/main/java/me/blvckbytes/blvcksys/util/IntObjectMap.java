@@ -0,0 +1,179 @@
+package me.blvckbytes.blvcksys.util;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/26/2022
+
+  A hash map with primitive integer keys, which uses open addressing with linear
+  probing, so that neither keys nor entries have to be allocated. The key zero is
+  reserved to mark free slots. This map is not thread-safe.
+*/
+public class IntObjectMap<V> {
+
+  // Marks a free slot within the key table
+  private static final int FREE = 0;
+
+  // Maximum ratio of used slots before the tables grow
+  private static final float MAX_LOAD = 0.5F;
+
+  private int[] keys;
+  private Object[] values;
+  private int mask, size;
+
+  /**
+   * Create a new, empty map
+   * @param expectedSize Number of entries to allocate room for initially
+   */
+  public IntObjectMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD)) - 1) << 1;
+    this.keys = new int[capacity];
+    this.values = new Object[capacity];
+    this.mask = capacity - 1;
+  }
+
+  //=========================================================================//
+  //                                   API                                   //
+  //=========================================================================//
+
+  /**
+   * Get the value of a key
+   * @param key Key to look up
+   * @return Value, null if the key is absent
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(int key) {
+    int slot = find(key);
+    return slot < 0 ? null : (V) values[slot];
+  }
+
+  /**
+   * Set the value of a key, which replaces any previous value
+   * @param key Key to set, has to be non-zero
+   * @param value Value to set
+   */
+  public void put(int key, V value) {
+    if (key == FREE)
+      throw new IllegalArgumentException("The key zero is reserved");
+
+    int slot = hash(key);
+
+    while (keys[slot] != FREE) {
+      if (keys[slot] == key) {
+        values[slot] = value;
+        return;
+      }
+
+      slot = (slot + 1) & mask;
+    }
+
+    keys[slot] = key;
+    values[slot] = value;
+
+    if (++size > keys.length * MAX_LOAD)
+      grow();
+  }
+
+  /**
+   * Remove a key and it's value
+   * @param key Key to remove
+   * @return Removed value, null if the key was absent
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable V remove(int key) {
+    int slot = find(key);
+    if (slot < 0)
+      return null;
+
+    V removed = (V) values[slot];
+
+    // Shift following entries of the probe sequence back into the gap, as
+    // a free slot would otherwise cut off lookups of these entries
+    int gap = slot;
+    for (int curr = (gap + 1) & mask; keys[curr] != FREE; curr = (curr + 1) & mask) {
+      int home = hash(keys[curr]);
+
+      // The entry's home lies cyclically within (gap, curr], so it's still reachable
+      if (gap <= curr ? (gap < home && home <= curr) : (gap < home || home <= curr))
+        continue;
+
+      keys[gap] = keys[curr];
+      values[gap] = values[curr];
+      gap = curr;
+    }
+
+    keys[gap] = FREE;
+    values[gap] = null;
+    size--;
+
+    return removed;
+  }
+
+  /**
+   * Get the number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Remove all entries
+   */
+  public void clear() {
+    Arrays.fill(keys, FREE);
+    Arrays.fill(values, null);
+    size = 0;
+  }
+
+  //=========================================================================//
+  //                                Utilities                                //
+  //=========================================================================//
+
+  /**
+   * Find the slot of a key
+   * @param key Key to find
+   * @return Slot index, -1 if the key is absent
+   */
+  private int find(int key) {
+    if (key == FREE)
+      return -1;
+
+    for (int slot = hash(key); keys[slot] != FREE; slot = (slot + 1) & mask) {
+      if (keys[slot] == key)
+        return slot;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Get the home slot of a key, where sequential keys are spread across the table
+   * @param key Key to hash
+   */
+  private int hash(int key) {
+    int h = key * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & mask;
+  }
+
+  /**
+   * Double the capacity of the tables and re-insert all entries
+   */
+  @SuppressWarnings("unchecked")
+  private void grow() {
+    int[] oldKeys = keys;
+    Object[] oldValues = values;
+
+    keys = new int[oldKeys.length * 2];
+    values = new Object[oldKeys.length * 2];
+    mask = keys.length - 1;
+    size = 0;
+
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != FREE)
+        put(oldKeys[i], (V) oldValues[i]);
+    }
+  }
+}
@@ -1,13 +1,11 @@
 package me.blvckbytes.blvcksys.util;
 
 import com.google.common.primitives.Primitives;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import me.blvckbytes.blvcksys.di.AutoConstruct;
 import me.blvckbytes.blvcksys.di.AutoInject;
 import me.blvckbytes.blvcksys.util.logging.ILogger;
 import net.minecraft.network.NetworkManager;
-import net.minecraft.network.PacketDataSerializer;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.PlayerConnection;
@@ -16,17 +14,26 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
@@ -38,14 +45,34 @@ import java.util.stream.Collectors;
   A big collection of routines that handle reflective R/W access to
   all fields related to minecraft like networking, commands, enumerations,
   players and just the standard java class members.
+
+  Player connections are resolved once per player and kept as a handle which
+  is bound to the player's network manager, so that sending packets doesn't
+  require any reflective lookups.
 */
 @AutoConstruct
-public class MCReflect {
+public class MCReflect implements Listener {
+
+  /**
+   * Represents a player's resolved connection
+   * @param channel Network channel of the player
+   * @param send Packet send method, bound to the player's network manager
+   */
+  private record ConnectionHandle(
+    Channel channel,
+    MethodHandle send
+  ) {}
 
   private final JavaPlugin plugin;
   private final String ver;
   private final ILogger logger;
 
+  // Mapping players to their resolved connection handles
+  private final Map<Player, ConnectionHandle> connections;
+
+  // Unbound packet send method of the network manager, resolved on first use
+  private MethodHandle sendPacketHandle;
+
   public MCReflect(
     @AutoInject JavaPlugin plugin,
     @AutoInject ILogger logger
@@ -53,6 +80,25 @@ public class MCReflect {
     this.plugin = plugin;
     this.logger = logger;
     this.ver = findVersion();
+    this.connections = new ConcurrentHashMap<>();
+  }
+
+  //=========================================================================//
+  //                                Listeners                                //
+  //=========================================================================//
+
+  @EventHandler(priority = EventPriority.LOWEST)
+  public void onJoin(PlayerJoinEvent e) {
+    try {
+      getConnectionHandle(e.getPlayer());
+    } catch (Exception ex) {
+      logger.logError(ex);
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onQuit(PlayerQuitEvent e) {
+    connections.remove(e.getPlayer());
   }
 
   //=========================================================================//
@@ -491,10 +537,46 @@ public class MCReflect {
    */
   public boolean sendPacket(Player p, Object packet) {
     try {
-      Object nm = getNetworkManager(p);
-      findMethodByArgsOnly(nm, Packet.class).invoke(nm, packet);
+      getConnectionHandle(p).send().invoke(packet);
       return true;
-    } catch (Exception e) {
+    } catch (Throwable e) {
+      return false;
+    }
+  }
+
+  /**
+   * Send multiple packets to a specific player at once, by writing them
+   * in order and only flushing the player's channel after the last packet
+   * @param p Player to send the packets to
+   * @param packets Packets to send
+   * @return Success state
+   */
+  public boolean sendPackets(Player p, Object... packets) {
+    try {
+      if (packets.length == 0)
+        return true;
+
+      ConnectionHandle handle = getConnectionHandle(p);
+
+      // The first packet is sent through the network manager, which drains it's queue of pending
+      // packets beforehand, so that the batch cannot overtake packets which the server sent earlier
+      handle.send().invoke(packets[0]);
+
+      // The channel is not open yet or anymore, let the network manager queue the packets
+      if (!handle.channel().isOpen()) {
+        for (int i = 1; i < packets.length; i++)
+          handle.send().invoke(packets[i]);
+        return true;
+      }
+
+      // Writes are executed by the channel's event loop in the order they're issued, just
+      // like the network manager's sends, thus the remaining packets can be written directly
+      for (int i = 1; i < packets.length; i++)
+        handle.channel().write(packets[i]);
+
+      handle.channel().flush();
+      return true;
+    } catch (Throwable e) {
       return false;
     }
   }
@@ -509,6 +591,32 @@ public class MCReflect {
     return getFieldByType(nm, Channel.class, 0);
   }
 
+  /**
+   * Get a player's connection handle, which is resolved and cached if absent
+   * @param p Target Player
+   * @return Connection handle of the player
+   */
+  private ConnectionHandle getConnectionHandle(Player p) throws Exception {
+    ConnectionHandle handle = connections.get(p);
+
+    if (handle != null)
+      return handle;
+
+    Object nm = getNetworkManager(p);
+
+    // Only resolve the send method once, as all network managers share it
+    if (sendPacketHandle == null)
+      sendPacketHandle = MethodHandles.lookup().unreflect(findMethodByArgsOnly(nm, Packet.class));
+
+    handle = new ConnectionHandle(getNetworkChannel(nm), sendPacketHandle.bindTo(nm));
+
+    // Only cache handles of players which are still connected
+    if (p.isOnline())
+      connections.put(p, handle);
+
+    return handle;
+  }
+
   /**
    * Get a NetworkManager's assigned NetworkChannel
    * @param nm NetworkManager instance to search for a channel in
@@ -744,21 +852,6 @@ public class MCReflect {
     throw new IllegalStateException("Could not find a constructor!");
   }
 
-  //=========================================================================//
-  //                                 Packets                                 //
-  //=========================================================================//
-
-  /**
-   * Create a new instance of a packet containing "zero-ed" data
-   * to be overwritten later on. This is handy as packets don't have
-   * an empty default constructor.
-   * @param c Class of the target to create
-   * @return Optional instance, empty when the packet doesn't support this method
-   */
-  public Object createPacket(Class<?> c) throws Exception {
-    return invokeConstructor(c, new PacketDataSerializer(Unpooled.wrappedBuffer(new byte[1024])));
-  }
-
   //=========================================================================//
   //                              Class-Finding                              //
   //=========================================================================//
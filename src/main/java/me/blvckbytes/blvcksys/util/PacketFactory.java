@@ -0,0 +1,134 @@
+package me.blvckbytes.blvcksys.util;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketDataSerializer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/25/2022
+
+  Creates "zero-ed" instances of a specific packet type through it's deserializing
+  constructor, which has been resolved once into a method handle. Fields are resolved
+  once as well and then written through their setter handles, so that building a
+  packet doesn't involve any reflective lookups anymore.
+
+  Setters are used instead of var handles, as these refuse to write final fields,
+  which most packet members are.
+*/
+public class PacketFactory {
+
+  /**
+   * Represents a resolved field of a packet
+   * @param setter Setter handle, taking the packet and the value as objects
+   */
+  public record PacketField(
+    MethodHandle setter
+  ) {
+
+    /**
+     * Set this field's value on a packet
+     * @param packet Packet to manipulate
+     * @param value Value to set
+     */
+    public void set(Object packet, Object value) throws Exception {
+      try {
+        setter.invokeExact(packet, value);
+      } catch (Exception e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+  }
+
+  // Zero-ed data all packets are read from, which is never written to and thus shared
+  private static final byte[] ZEROS = new byte[1024];
+
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, PacketDataSerializer.class);
+
+  private final MCReflect refl;
+  private final Class<?> type;
+  private final MethodHandle constructor;
+
+  /**
+   * Create a new packet factory and resolve the packet's deserializing constructor
+   * @param refl Reflection utility used to resolve members
+   * @param type Class of the target packet
+   */
+  public PacketFactory(MCReflect refl, Class<?> type) throws Exception {
+    this.refl = refl;
+    this.type = type;
+    this.constructor = MethodHandles.lookup().unreflectConstructor(findConstructor(type)).asType(CONSTRUCTOR_TYPE);
+  }
+
+  /**
+   * Resolve a member field of the packet by it's type, choose the first occurrence after skipping some
+   * @param fieldClass Target field's class
+   * @param skip How many occurrences to skip
+   * @return Resolved field
+   */
+  public PacketField field(Class<?> fieldClass, int skip) throws Exception {
+    return resolveField(refl.findFieldByType(type, fieldClass, skip));
+  }
+
+  /**
+   * Resolve a member generic field of the packet by it's generic type, choose the first occurrence after skipping some
+   * @param fieldClass Type that holds the generic type
+   * @param genericType Generic type held by the field's type
+   * @param skip How many occurrences to skip
+   * @return Resolved field
+   */
+  public PacketField genericField(Class<?> fieldClass, Class<?> genericType, int skip) throws Exception {
+    return resolveField(refl.findGenericFieldByType(type, fieldClass, genericType, skip));
+  }
+
+  /**
+   * Create a new instance of the packet containing "zero-ed" data
+   * to be overwritten later on through the resolved fields
+   * @return Packet instance
+   */
+  public Object create() throws Exception {
+    try {
+      return (Object) constructor.invokeExact(new PacketDataSerializer(Unpooled.wrappedBuffer(ZEROS)));
+    } catch (Exception e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  /**
+   * Resolve a field into it's setter handle
+   * @param f Accessible field to resolve
+   * @return Resolved field
+   */
+  private PacketField resolveField(Field f) throws Exception {
+    return new PacketField(MethodHandles.lookup().unreflectSetter(f).asType(SETTER_TYPE));
+  }
+
+  /**
+   * Find the constructor of a packet which deserializes from a data serializer
+   * @param type Class of the target packet
+   * @return Accessible constructor
+   */
+  private Constructor<?> findConstructor(Class<?> type) {
+    for (Constructor<?> ctor : type.getDeclaredConstructors()) {
+      Class<?>[] params = ctor.getParameterTypes();
+
+      if (params.length != 1 || !params[0].isAssignableFrom(PacketDataSerializer.class))
+        continue;
+
+      ctor.setAccessible(true);
+      return ctor;
+    }
+
+    throw new IllegalStateException("Could not find a deserializing constructor in " + type.getSimpleName());
+  }
+}
@@ -37,6 +37,19 @@ public class PlayerSkin {
     this.textures = ImageIO.read(skin);
   }
 
+  /**
+   * Create a new player skin utility instance from the player's
+   * already fetched skin textures as well as the skin model type
+   * @param skin URL to the skin's textures
+   * @param model Type of skin
+   * @param textures Textures which have been fetched from the skin URL
+   */
+  public PlayerSkin(URL skin, PlayerTextures.SkinModel model, BufferedImage textures) {
+    this.skin = skin;
+    this.model = model;
+    this.textures = textures;
+  }
+
   /**
    * Get the specified textures in a flat, 2D image
    * @param section Section to get
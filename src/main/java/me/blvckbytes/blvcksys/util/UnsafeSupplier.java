@@ -0,0 +1,12 @@
+package me.blvckbytes.blvcksys.util;
+
+/*
+  Author: BlvckBytes <blvckbytes@gmail.com>
+  Created On: 07/25/2022
+
+  Represents an unsafe supplier.
+*/
+@FunctionalInterface
+public interface UnsafeSupplier<T> {
+  T get() throws Exception;
+}